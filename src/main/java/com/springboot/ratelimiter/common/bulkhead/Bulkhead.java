@@ -0,0 +1,127 @@
+package com.springboot.ratelimiter.common.bulkhead;
+
+import com.springboot.ratelimiter.common.exception.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Class named {@link Bulkhead} bounding the number of concurrent calls to a downstream resource with a semaphore.
+ * With virtual threads a request no longer waits for a free platform thread, so without a bound every request
+ * would queue up on the downstream pool instead. Callers wait at most the configured time for a permit and are
+ * rejected with a {@link BulkheadFullException} after that, which keeps overload visible and short.
+ * The semaphore parks waiting virtual threads without pinning their carrier.
+ */
+public class Bulkhead {
+
+    private final String name;
+
+    private final Semaphore semaphore;
+
+    private final long maxWaitNanos;
+
+    private final Counter rejectedCalls;
+
+    /**
+     * Creates a bulkhead and registers its metrics.
+     *
+     * @param name               the name of the guarded resource, used in metrics and errors
+     * @param maxConcurrentCalls the maximum number of concurrent calls
+     * @param maxWait            the longest time a caller waits for a permit
+     * @param meterRegistry      the registry the bulkhead metrics are published to
+     */
+    public Bulkhead(final String name,
+                    final int maxConcurrentCalls,
+                    final Duration maxWait,
+                    final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.semaphore = new Semaphore(maxConcurrentCalls, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        Gauge.builder("bulkhead.available.permits", semaphore, Semaphore::availablePermits)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.waiting.calls", semaphore, Semaphore::getQueueLength)
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejectedCalls = Counter.builder("bulkhead.rejected.calls")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the given operation while holding a permit.
+     *
+     * @param operation the operation to run
+     * @param <T>       the type of the operation result
+     * @return the operation result
+     * @throws BulkheadFullException if no permit became available in time
+     */
+    public <T> T call(final Supplier<T> operation) {
+        acquire();
+        try {
+            return operation.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Runs the given operation while holding a permit.
+     *
+     * @param operation the operation to run
+     * @throws BulkheadFullException if no permit became available in time
+     */
+    public void run(final Runnable operation) {
+        acquire();
+        try {
+            operation.run();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Acquires a permit, waiting at most the configured time.
+     * Every successful call has to be paired with a {@link #release()}.
+     *
+     * @throws BulkheadFullException if no permit became available in time
+     */
+    public void acquire() {
+
+        final boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException(name);
+        }
+
+        if (!acquired) {
+            rejectedCalls.increment();
+            throw new BulkheadFullException(name);
+        }
+
+    }
+
+    /**
+     * Returns a permit acquired with {@link #acquire()}.
+     */
+    public void release() {
+        semaphore.release();
+    }
+
+    /**
+     * Returns the number of permits currently available.
+     *
+     * @return the available permits
+     */
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+
+}
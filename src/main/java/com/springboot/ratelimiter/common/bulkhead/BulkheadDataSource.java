@@ -0,0 +1,85 @@
+package com.springboot.ratelimiter.common.bulkhead;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Data source named {@link BulkheadDataSource} holding a {@link Bulkhead} permit for as long as a connection
+ * is open. Callers beyond the bound are rejected quickly instead of waiting out the connection timeout of
+ * the pool behind it.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Bulkhead bulkhead;
+
+    /**
+     * Creates a data source guarding the given target.
+     *
+     * @param targetDataSource the data source to guard
+     * @param bulkhead         the bulkhead bounding the open connections
+     */
+    public BulkheadDataSource(final DataSource targetDataSource, final Bulkhead bulkhead) {
+        super(targetDataSource);
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        bulkhead.acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            bulkhead.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        bulkhead.acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            bulkhead.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Wraps a connection so that closing it returns the permit, once.
+     *
+     * @param connection the connection to wrap
+     * @return the wrapped connection
+     */
+    private Connection guard(final Connection connection) {
+
+        final AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                bulkhead.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.springboot.ratelimiter.common.compression;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Utility class named {@link Gzip} for compressing response bodies once, so they can be cached and sent compressed.
+ */
+@UtilityClass
+public class Gzip {
+
+    /**
+     * The value of the Content-Encoding header for gzip compressed bodies.
+     */
+    public static final String ENCODING = "gzip";
+
+    /**
+     * Checks whether an Accept-Encoding header value accepts gzip, that is lists it without a zero quality.
+     *
+     * @param acceptEncoding the Accept-Encoding header value, or null if the header is absent
+     * @return true if the client accepts gzip compressed bodies
+     */
+    public boolean isAccepted(final String acceptEncoding) {
+
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            final String[] parameters = coding.split(";");
+            if (parameters[0].trim().equalsIgnoreCase(ENCODING)) {
+                return parameters.length == 1 || !parameters[1].trim().matches("q=0(\\.0{0,3})?");
+            }
+        }
+        return false;
+
+    }
+
+    /**
+     * Compresses the given bytes.
+     *
+     * @param data the bytes to compress
+     * @return the gzip compressed bytes
+     */
+    public byte[] compress(final byte[] data) {
+        return compress(data.length, gzipOutputStream -> gzipOutputStream.write(data));
+    }
+
+    /**
+     * Compresses the bytes written by the given writer, without buffering them uncompressed first.
+     *
+     * @param sizeHint the expected number of uncompressed bytes, used to presize the compressed buffer
+     * @param writer   the writer producing the bytes to compress
+     * @return the gzip compressed bytes
+     */
+    public byte[] compress(final int sizeHint, final BodyWriter writer) {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, sizeHint / 4));
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+            writer.writeTo(gzipOutputStream);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Decompresses the given gzip compressed bytes.
+     *
+     * @param data the gzip compressed bytes
+     * @return the decompressed bytes
+     */
+    public byte[] decompress(final byte[] data) {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return gzipInputStream.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Functional interface named {@link BodyWriter} for writing a body to the stream compressing it.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+
+        /**
+         * Writes the body.
+         *
+         * @param outputStream the stream to write the body to, which must be left open
+         * @throws IOException if the body cannot be written
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.springboot.ratelimiter.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Class named {@link ReplicaLagMonitor} periodically checking how far each read replica is behind the primary.
+ * A replica only receives reads while its reported lag is within the configured bound; a replica that is
+ * unreachable, not replicating, or lagging behind is skipped until a later check finds it caught up.
+ * Replicas start out unhealthy, so reads go to the primary until the first check has run.
+ * The checks run on a thread of their own, so they are not held up by other scheduled tasks, and a replica whose
+ * last successful check is older than the allowed number of missed checks is treated as unhealthy as well, in case
+ * the checks stall anyway.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+
+    static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final Map<String, DataSource> replicas;
+
+    private final List<String> replicaKeys;
+
+    private final long maxLagSeconds;
+
+    private final Duration checkInterval;
+
+    private final long staleAfterNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Long> lastHealthyCheckNanos = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a monitor for the given replicas.
+     *
+     * @param replicas        the replica data sources by their routing key, in routing order
+     * @param maxLagSeconds   the largest lag at which a replica still receives reads
+     * @param checkInterval   the delay between the end of a check and the start of the next one
+     * @param maxMissedChecks the number of check intervals after which a replica without a successful check
+     *                        stops receiving reads
+     */
+    public ReplicaLagMonitor(final Map<String, DataSource> replicas, final long maxLagSeconds,
+                             final Duration checkInterval, final int maxMissedChecks) {
+        this(replicas, maxLagSeconds, checkInterval, maxMissedChecks, System::nanoTime);
+    }
+
+    ReplicaLagMonitor(final Map<String, DataSource> replicas, final long maxLagSeconds,
+                      final Duration checkInterval, final int maxMissedChecks, final LongSupplier nanoClock) {
+        this.replicas = replicas;
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkInterval = checkInterval;
+        this.staleAfterNanos = checkInterval.multipliedBy(maxMissedChecks).toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Starts checking the replicas every check interval on a dedicated platform thread.
+     */
+    public synchronized void start() {
+
+        if (scheduler != null) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("replica-lag-monitor")
+                .daemon(true)
+                .factory());
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                check();
+            } catch (RuntimeException ex) {
+                log.warn("Replica lag check failed", ex);
+            }
+        }, 0L, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+    }
+
+    /**
+     * Returns the routing keys of all replicas, healthy or not.
+     *
+     * @return the replica routing keys in routing order
+     */
+    public List<String> getReplicaKeys() {
+        return replicaKeys;
+    }
+
+    /**
+     * Returns the replica data sources by their routing key.
+     *
+     * @return the replica data sources
+     */
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Checks whether the given replica may currently receive reads.
+     *
+     * @param replicaKey the routing key of the replica
+     * @return true if the replica was within the lag bound at the last check and that check is recent enough,
+     * false otherwise
+     */
+    public boolean isHealthy(final String replicaKey) {
+        final Long lastHealthyCheck = lastHealthyCheckNanos.get(replicaKey);
+        return lastHealthyCheck != null && nanoClock.getAsLong() - lastHealthyCheck <= staleAfterNanos;
+    }
+
+    /**
+     * Reads the replication lag of every replica and records which replicas may receive reads.
+     */
+    public void check() {
+        replicas.forEach((replicaKey, dataSource) -> {
+            final Long lagSeconds = readLagSeconds(replicaKey, dataSource);
+            if (lagSeconds != null && lagSeconds <= maxLagSeconds) {
+                if (lastHealthyCheckNanos.put(replicaKey, nanoClock.getAsLong()) == null) {
+                    log.info("Routing reads to replica {} with a lag of {}s", replicaKey, lagSeconds);
+                }
+            } else if (lastHealthyCheckNanos.remove(replicaKey) != null) {
+                log.warn("Stopped routing reads to replica {}, lag {}s exceeds {}s or is unknown",
+                        replicaKey, lagSeconds, maxLagSeconds);
+            }
+        });
+    }
+
+    /**
+     * Reads the replication lag reported by a replica.
+     *
+     * @param replicaKey the routing key of the replica
+     * @param dataSource the replica data source
+     * @return the lag in seconds, or null if the replica is unreachable or not replicating
+     */
+    private static Long readLagSeconds(final String replicaKey, final DataSource dataSource) {
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_QUERY)) {
+
+            if (!resultSet.next()) {
+                return null;
+            }
+            final long lagSeconds = resultSet.getLong(LAG_COLUMN);
+            return resultSet.wasNull() ? null : lagSeconds;
+
+        } catch (SQLException ex) {
+            log.debug("Could not read the replication lag of replica {}", replicaKey, ex);
+            return null;
+        }
+
+    }
+
+    /**
+     * Stops the checks and closes the connection pools of the replicas.
+     */
+    @Override
+    public void close() throws Exception {
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+            }
+        }
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+}
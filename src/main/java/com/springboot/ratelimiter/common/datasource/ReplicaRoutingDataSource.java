@@ -0,0 +1,106 @@
+package com.springboot.ratelimiter.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Routing data source named {@link ReplicaRoutingDataSource} sending read-only transactions to the read replicas
+ * and everything else to the primary. Replicas are picked round robin among those the {@link ReplicaLagMonitor}
+ * reports as caught up; when none is, reads fall back to the primary. A replica whose last successful lag check is
+ * older than the allowed number of missed checks no longer counts as caught up, so stalled checks cannot keep a
+ * lagging replica in the rotation.
+ * The routing decision is taken when a connection is obtained, so this data source has to be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} for the read-only flag of the
+ * transaction to be known at that point.
+ * Reads whose result is cached run within {@link #readFromPrimary(Supplier)}, so a replica that has not caught up
+ * with a write yet cannot put a stale copy into a cache.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY_KEY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * Creates a routing data source over the given primary and the replicas of the given monitor.
+     *
+     * @param primary           the primary data source
+     * @param replicaLagMonitor the monitor holding the replicas and their health
+     */
+    public ReplicaRoutingDataSource(final DataSource primary, final ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        final Map<Object, Object> targetDataSources = new HashMap<>(replicaLagMonitor.getReplicas());
+        targetDataSources.put(PRIMARY_KEY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /**
+     * Runs the given read against the primary, even within a read-only transaction.
+     * The connection of a transaction is only chosen on its first statement, so the read has to be the first
+     * statement of the transaction for this to take effect.
+     *
+     * @param read the read to run
+     * @param <T>  the type of the result
+     * @return the result of the read
+     */
+    public static <T> T readFromPrimary(final Supplier<T> read) {
+        final Boolean previous = PRIMARY_READS.get();
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_READS.remove();
+            } else {
+                PRIMARY_READS.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Tells whether the current thread is within {@link #readFromPrimary(Supplier)}.
+     *
+     * @return true if reads of the current thread go to the primary
+     */
+    public static boolean isReadingFromPrimary() {
+        return PRIMARY_READS.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || isReadingFromPrimary()) {
+            return PRIMARY_KEY;
+        }
+
+        final List<String> replicaKeys = replicaLagMonitor.getReplicaKeys();
+        if (replicaKeys.isEmpty()) {
+            return PRIMARY_KEY;
+        }
+
+        final int start = Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size());
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            final String replicaKey = replicaKeys.get((start + i) % replicaKeys.size());
+            if (replicaLagMonitor.isHealthy(replicaKey)) {
+                return replicaKey;
+            }
+        }
+
+        return PRIMARY_KEY;
+
+    }
+
+}
@@ -1,11 +1,20 @@
 package com.springboot.ratelimiter.common.exception;
 
+import com.springboot.ratelimiter.common.exception.bulkhead.BulkheadFullException;
 import com.springboot.ratelimiter.common.exception.error.CustomError;
+import com.springboot.ratelimiter.common.exception.page.InvalidPageCursorException;
 import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitKeyNotFoundException;
 import com.springboot.ratelimiter.common.exception.user.EmailAlreadyExistsException;
 import com.springboot.ratelimiter.common.exception.user.UserNotFoundException;
+import com.springboot.ratelimiter.common.exception.user.UserVersionConflictException;
+import com.springboot.ratelimiter.ratelimit.audit.RateLimitAuditEvent;
+import com.springboot.ratelimiter.ratelimit.audit.RateLimitAuditLog;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -28,8 +37,12 @@ import java.util.stream.Collectors;
  * Global exception handler class named {@link GlobalExceptionHandler} for handling various exceptions across the application.
  */
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private final RateLimitAuditLog rateLimitAuditLog;
+
     /**
      * Handles MethodArgumentNotValidException and returns a custom error response with validation details.
      *
@@ -125,12 +138,23 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     /**
      * Handles RateLimitExceededException and returns a custom error response.
+     * The rejection is handed to the {@link RateLimitAuditLog} without blocking the request thread.
      *
      * @param ex the exception thrown when rate limit is exceeded
+     * @param request the rejected request
      * @return a ResponseEntity containing the custom error response
      */
     @ExceptionHandler(RateLimitExceededException.class)
-    protected ResponseEntity<Object> handleRateLimitExceededException(final RateLimitExceededException ex) {
+    protected ResponseEntity<Object> handleRateLimitExceededException(final RateLimitExceededException ex,
+                                                                      final HttpServletRequest request) {
+
+        rateLimitAuditLog.publish(new RateLimitAuditEvent(
+                System.currentTimeMillis(),
+                request.getMethod(),
+                request.getRequestURI(),
+                request.getRemoteAddr(),
+                ex.getMessage()
+        ));
 
         CustomError customError = CustomError.builder()
                 .time(LocalDateTime.now())
@@ -142,6 +166,25 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(customError, HttpStatus.TOO_MANY_REQUESTS);
     }
 
+    /**
+     * Handles BulkheadFullException and returns a custom error response.
+     *
+     * @param ex the exception thrown when a downstream resource has no capacity left
+     * @return a ResponseEntity containing the custom error response
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    protected ResponseEntity<Object> handleBulkheadFullException(final BulkheadFullException ex) {
+
+        CustomError customError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(CustomError.Header.SERVICE_UNAVAILABLE_ERROR.getName())
+                .message(ex.getMessage())
+                .build();
+
+        return new ResponseEntity<>(customError, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handles EmailAlreadyExistsException and returns a custom error response.
      *
@@ -180,4 +223,61 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(customError, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles UserVersionConflictException and returns a custom error response.
+     *
+     * @param ex the exception thrown when a user was modified since the given version
+     * @return a ResponseEntity containing the custom error response
+     */
+    @ExceptionHandler(UserVersionConflictException.class)
+    protected ResponseEntity<Object> handleUserVersionConflictException(final UserVersionConflictException ex) {
+
+        CustomError customError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.CONFLICT)
+                .header(CustomError.Header.CONFLICT_ERROR.getName())
+                .message(ex.getMessage())
+                .build();
+
+        return new ResponseEntity<>(customError, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles RateLimitKeyNotFoundException and returns a custom error response.
+     *
+     * @param ex the exception thrown when a rate limiter key is not found
+     * @return a ResponseEntity containing the custom error response
+     */
+    @ExceptionHandler(RateLimitKeyNotFoundException.class)
+    protected ResponseEntity<Object> handleRateLimitKeyNotFoundException(final RateLimitKeyNotFoundException ex) {
+
+        CustomError customError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.NOT_FOUND)
+                .header(CustomError.Header.NOT_FOUND.getName())
+                .message(ex.getMessage())
+                .build();
+
+        return new ResponseEntity<>(customError, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handles InvalidPageCursorException and returns a custom error response.
+     *
+     * @param ex the exception thrown when a page cursor cannot be decoded
+     * @return a ResponseEntity containing the custom error response
+     */
+    @ExceptionHandler(InvalidPageCursorException.class)
+    protected ResponseEntity<Object> handleInvalidPageCursorException(final InvalidPageCursorException ex) {
+
+        CustomError customError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.BAD_REQUEST)
+                .header(CustomError.Header.VALIDATION_ERROR.getName())
+                .message(ex.getMessage())
+                .build();
+
+        return new ResponseEntity<>(customError, HttpStatus.BAD_REQUEST);
+    }
+
 }
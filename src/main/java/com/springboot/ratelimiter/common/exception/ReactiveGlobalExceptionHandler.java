@@ -0,0 +1,192 @@
+package com.springboot.ratelimiter.common.exception;
+
+import com.springboot.ratelimiter.common.exception.error.CustomError;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.common.exception.user.EmailAlreadyExistsException;
+import com.springboot.ratelimiter.common.exception.user.UserNotFoundException;
+import com.springboot.ratelimiter.common.exception.user.UserVersionConflictException;
+import com.springboot.ratelimiter.ratelimit.audit.RateLimitAuditEvent;
+import com.springboot.ratelimiter.ratelimit.audit.RateLimitAuditLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Global exception handler class named {@link ReactiveGlobalExceptionHandler} for handling the exceptions of the
+ * WebFlux endpoints. It answers with the same {@link CustomError} responses as {@link GlobalExceptionHandler}.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveGlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private final RateLimitAuditLog rateLimitAuditLog;
+
+    /**
+     * Handles WebExchangeBindException and returns a custom error response with validation details.
+     *
+     * @param ex the exception thrown when a request body is not valid
+     * @param headers the HTTP headers
+     * @param status the HTTP status code
+     * @param exchange the current exchange
+     * @return a Mono emitting a ResponseEntity containing the custom error response
+     */
+    @Override
+    protected Mono<ResponseEntity<Object>> handleWebExchangeBindException(WebExchangeBindException ex, HttpHeaders headers,
+                                                                          HttpStatusCode status, ServerWebExchange exchange) {
+
+        Map<String, String> errors = new HashMap<>();
+
+        ex.getBindingResult().getAllErrors().forEach(
+                error -> {
+                    String fieldName = ((FieldError) error).getField();
+                    String message = error.getDefaultMessage();
+                    errors.put(fieldName, message);
+                }
+        );
+
+        CustomError customError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.BAD_REQUEST)
+                .header(CustomError.Header.VALIDATION_ERROR.getName())
+                .message("Validation failed")
+                .subErrors(errors.entrySet().stream()
+                        .map(e -> CustomError.CustomSubError.builder()
+                                .field(e.getKey())
+                                .message(e.getValue())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+
+        return Mono.just(new ResponseEntity<>(customError, HttpStatus.BAD_REQUEST));
+    }
+
+    /**
+     * Handles RuntimeException and returns a custom error response.
+     *
+     * @param runtimeException the runtime exception thrown
+     * @return a ResponseEntity containing the custom error response
+     */
+    @ExceptionHandler(RuntimeException.class)
+    protected ResponseEntity<Object> handleRuntimeException(final RuntimeException runtimeException) {
+
+        CustomError customError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.NOT_FOUND)
+                .header(CustomError.Header.API_ERROR.getName())
+                .message(runtimeException.getMessage())
+                .build();
+
+        return new ResponseEntity<>(customError, HttpStatus.NOT_FOUND);
+
+    }
+
+    /**
+     * Handles RateLimitExceededException and returns a custom error response.
+     * The rejection is handed to the {@link RateLimitAuditLog} without blocking the event loop.
+     *
+     * @param ex the exception thrown when rate limit is exceeded
+     * @param exchange the rejected exchange
+     * @return a ResponseEntity containing the custom error response
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<Object> handleRateLimitExceededException(final RateLimitExceededException ex,
+                                                                      final ServerWebExchange exchange) {
+
+        final ServerHttpRequest request = exchange.getRequest();
+        rateLimitAuditLog.publish(new RateLimitAuditEvent(
+                System.currentTimeMillis(),
+                request.getMethod().name(),
+                request.getPath().value(),
+                Optional.ofNullable(request.getRemoteAddress())
+                        .map(InetSocketAddress::getHostString)
+                        .orElse(null),
+                ex.getMessage()
+        ));
+
+        CustomError customError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.TOO_MANY_REQUESTS)
+                .header(CustomError.Header.RATE_LIMITER_EXCEEDED_ERROR.getName())
+                .message(ex.getMessage())
+                .build();
+
+        return new ResponseEntity<>(customError, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * Handles EmailAlreadyExistsException and returns a custom error response.
+     *
+     * @param ex the exception thrown when an email already exists
+     * @return a ResponseEntity containing the custom error response
+     */
+    @ExceptionHandler(EmailAlreadyExistsException.class)
+    protected ResponseEntity<Object> handleEmailAlreadyExistsException(final EmailAlreadyExistsException ex) {
+
+        CustomError customError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.CONFLICT)
+                .header(CustomError.Header.VALIDATION_ERROR.getName())
+                .message(ex.getMessage())
+                .build();
+
+        return new ResponseEntity<>(customError, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles UserNotFoundException and returns a custom error response.
+     *
+     * @param ex the exception thrown when a user is not found
+     * @return a ResponseEntity containing the custom error response
+     */
+    @ExceptionHandler(UserNotFoundException.class)
+    protected ResponseEntity<Object> handleUserNotFoundException(final UserNotFoundException ex) {
+
+        CustomError customError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.NOT_FOUND)
+                .header(CustomError.Header.NOT_FOUND.getName())
+                .message(ex.getMessage())
+                .build();
+
+        return new ResponseEntity<>(customError, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handles UserVersionConflictException and returns a custom error response.
+     *
+     * @param ex the exception thrown when a user was modified since the given version
+     * @return a ResponseEntity containing the custom error response
+     */
+    @ExceptionHandler(UserVersionConflictException.class)
+    protected ResponseEntity<Object> handleUserVersionConflictException(final UserVersionConflictException ex) {
+
+        CustomError customError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.CONFLICT)
+                .header(CustomError.Header.CONFLICT_ERROR.getName())
+                .message(ex.getMessage())
+                .build();
+
+        return new ResponseEntity<>(customError, HttpStatus.CONFLICT);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.springboot.ratelimiter.common.exception.bulkhead;
+
+import java.io.Serial;
+
+/**
+ * Exception class named {@link BulkheadFullException} thrown when a downstream resource has no capacity left
+ * for another concurrent call.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 4587623390147152893L;
+
+    private static final String DEFAULT_MESSAGE =
+            "The service is temporarily overloaded";
+
+    private static final String MESSAGE_TEMPLATE =
+            "Too many concurrent calls to ";
+
+    public BulkheadFullException(String name) {
+        super(MESSAGE_TEMPLATE.concat(name));
+    }
+
+    public BulkheadFullException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+}
@@ -62,6 +62,8 @@ public class CustomError {
 
         ALREADY_EXIST("ALREADY EXIST"),
 
+        CONFLICT_ERROR("CONFLICT ERROR"),
+
         NOT_FOUND("NOT EXIST"),
 
         VALIDATION_ERROR("VALIDATION ERROR"),
@@ -70,7 +72,9 @@ public class CustomError {
 
         PROCESS_ERROR("PROCESS ERROR"),
 
-        RATE_LIMITER_EXCEEDED_ERROR("RATE LIMITER EXCEEDED ERROR");
+        RATE_LIMITER_EXCEEDED_ERROR("RATE LIMITER EXCEEDED ERROR"),
+
+        SERVICE_UNAVAILABLE_ERROR("SERVICE UNAVAILABLE ERROR");
 
         private final String name;
 
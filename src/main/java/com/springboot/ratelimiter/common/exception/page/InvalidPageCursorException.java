@@ -0,0 +1,20 @@
+package com.springboot.ratelimiter.common.exception.page;
+
+import java.io.Serial;
+
+/**
+ * Exception class named {@link InvalidPageCursorException} thrown when a page cursor cannot be decoded.
+ */
+public class InvalidPageCursorException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -3146620532781542960L;
+
+    private static final String DEFAULT_MESSAGE =
+            "The specified page cursor is invalid";
+
+    public InvalidPageCursorException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+}
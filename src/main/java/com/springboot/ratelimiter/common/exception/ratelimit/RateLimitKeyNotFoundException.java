@@ -0,0 +1,29 @@
+package com.springboot.ratelimiter.common.exception.ratelimit;
+
+import com.springboot.ratelimiter.common.exception.NotFoundException;
+
+import java.io.Serial;
+
+/**
+ * Exception class named {@link RateLimitKeyNotFoundException} thrown when a rate limiter key does not exist in Redis.
+ */
+public class RateLimitKeyNotFoundException extends NotFoundException {
+
+    @Serial
+    private static final long serialVersionUID = 2417305941874566063L;
+
+    private static final String DEFAULT_MESSAGE =
+            "The specified rate limiter key is not found";
+
+    private static final String MESSAGE_TEMPLATE =
+            "No rate limiter key was found: ";
+
+    public RateLimitKeyNotFoundException(String key) {
+        super(MESSAGE_TEMPLATE.concat(key));
+    }
+
+    public RateLimitKeyNotFoundException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+}
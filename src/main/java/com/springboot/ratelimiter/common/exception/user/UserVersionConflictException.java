@@ -0,0 +1,28 @@
+package com.springboot.ratelimiter.common.exception.user;
+
+import java.io.Serial;
+
+/**
+ * Exception class named {@link UserVersionConflictException} thrown when a user was modified
+ * since the version given by the caller.
+ */
+public class UserVersionConflictException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 2719447613585217264L;
+
+    private static final String DEFAULT_MESSAGE =
+            "The specified user was modified concurrently";
+
+    private static final String MESSAGE_TEMPLATE =
+            "User with ID %s was modified since version %d";
+
+    public UserVersionConflictException(String id, long version) {
+        super(MESSAGE_TEMPLATE.formatted(id, version));
+    }
+
+    public UserVersionConflictException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+}
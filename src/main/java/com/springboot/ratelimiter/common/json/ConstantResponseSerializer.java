@@ -0,0 +1,47 @@
+package com.springboot.ratelimiter.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.springboot.ratelimiter.common.model.dto.response.CustomResponse;
+
+import java.io.IOException;
+
+/**
+ * Serializer named {@link ConstantResponseSerializer} writing {@link CustomResponse#SUCCESS} as pre-rendered UTF-8 bytes.
+ * The constant never changes, including its time, so it is rendered on first use and copied into every later response.
+ */
+final class ConstantResponseSerializer extends DelegatingEnvelopeSerializer<CustomResponse<?>> {
+
+    private volatile SerializableString renderedSuccess;
+
+    ConstantResponseSerializer(final JsonSerializer<?> delegate) {
+        super(CustomResponse.class, delegate);
+    }
+
+    @Override
+    protected JsonSerializer<?> withDelegate(final JsonSerializer<?> delegate) {
+        return new ConstantResponseSerializer(delegate);
+    }
+
+    @Override
+    public void serialize(final CustomResponse<?> value, final JsonGenerator gen,
+                          final SerializerProvider provider) throws IOException {
+
+        if (value != CustomResponse.SUCCESS || gen.getPrettyPrinter() != null) {
+            delegate.serialize(value, gen, provider);
+            return;
+        }
+
+        SerializableString rendered = renderedSuccess;
+        if (rendered == null) {
+            rendered = new SerializedString(render(value, gen, provider));
+            renderedSuccess = rendered;
+        }
+        gen.writeRawValue(rendered);
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.springboot.ratelimiter.common.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Base class named {@link DelegatingEnvelopeSerializer} for serializers that write some envelopes from pre-rendered JSON
+ * and hand every other value to the bean serializer Jackson built for the envelope type.
+ * Pre-rendered output is produced by that same bean serializer, so it matches the regular output byte for byte.
+ *
+ * @param <T> the envelope type
+ */
+abstract class DelegatingEnvelopeSerializer<T> extends StdSerializer<T>
+        implements ContextualSerializer, ResolvableSerializer {
+
+    protected final JsonSerializer<Object> delegate;
+
+    @SuppressWarnings("unchecked")
+    protected DelegatingEnvelopeSerializer(final Class<?> type, final JsonSerializer<?> delegate) {
+        super(type, false);
+        this.delegate = (JsonSerializer<Object>) delegate;
+    }
+
+    /**
+     * Creates a copy of this serializer around a contextualized bean serializer.
+     *
+     * @param delegate the contextualized bean serializer
+     * @return the new serializer
+     */
+    protected abstract JsonSerializer<?> withDelegate(JsonSerializer<?> delegate);
+
+    @Override
+    public void resolve(final SerializerProvider provider) throws JsonMappingException {
+        if (delegate instanceof ResolvableSerializer resolvableSerializer) {
+            resolvableSerializer.resolve(provider);
+        }
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(final SerializerProvider provider,
+                                              final BeanProperty property) throws JsonMappingException {
+        final JsonSerializer<?> contextual = provider.handlePrimaryContextualization(delegate, property);
+        return contextual == delegate ? this : withDelegate(contextual);
+    }
+
+    @Override
+    public void serializeWithType(final T value, final JsonGenerator gen, final SerializerProvider provider,
+                                  final TypeSerializer typeSer) throws IOException {
+        delegate.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    /**
+     * Renders the given value with the bean serializer into a JSON string.
+     * Only called once per pre-rendered envelope, so the extra generator does not matter.
+     *
+     * @param value    the value to render
+     * @param gen      the generator the value would have been written to
+     * @param provider the serializer provider of the current call
+     * @return the JSON of the value
+     * @throws IOException if the value cannot be serialized
+     */
+    protected String render(final Object value, final JsonGenerator gen,
+                            final SerializerProvider provider) throws IOException {
+
+        final ObjectCodec codec = gen.getCodec();
+        final JsonFactory jsonFactory = codec != null ? codec.getFactory() : new JsonFactory();
+
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator renderer = jsonFactory.createGenerator(writer)) {
+            delegate.serialize(value, renderer, provider);
+        }
+        return writer.toString();
+
+    }
+
+}
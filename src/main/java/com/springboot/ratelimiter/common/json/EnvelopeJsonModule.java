@@ -0,0 +1,58 @@
+package com.springboot.ratelimiter.common.json;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.springboot.ratelimiter.common.exception.error.CustomError;
+import com.springboot.ratelimiter.common.model.dto.response.CustomResponse;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Jackson module named {@link EnvelopeJsonModule} that writes the constant response envelopes from pre-rendered bytes.
+ * {@link CustomResponse#SUCCESS} is written as a whole, and the rate limit error, the most frequent error under load,
+ * is written from a template with only its time filled in. Jackson still builds and caches the bean serializers
+ * of both envelopes once per mapper; this module wraps them, so any other envelope is serialized as before.
+ */
+public class EnvelopeJsonModule extends SimpleModule {
+
+    /**
+     * Template of the error written for a {@link com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException}.
+     */
+    static final CustomError RATE_LIMIT_EXCEEDED_TEMPLATE = CustomError.builder()
+            .time(null)
+            .httpStatus(HttpStatus.TOO_MANY_REQUESTS)
+            .header(CustomError.Header.RATE_LIMITER_EXCEEDED_ERROR.getName())
+            .message("Rate limit exceeded")
+            .build();
+
+    public EnvelopeJsonModule() {
+        super(EnvelopeJsonModule.class.getSimpleName());
+        setSerializerModifier(new EnvelopeSerializerModifier());
+    }
+
+    /**
+     * Serializer modifier named {@link EnvelopeSerializerModifier} wrapping the bean serializers of the envelopes.
+     */
+    private static final class EnvelopeSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public JsonSerializer<?> modifySerializer(final SerializationConfig config,
+                                                  final BeanDescription beanDesc,
+                                                  final JsonSerializer<?> serializer) {
+
+            final Class<?> beanClass = beanDesc.getBeanClass();
+            if (beanClass == CustomResponse.class) {
+                return new ConstantResponseSerializer(serializer);
+            }
+            if (beanClass == CustomError.class) {
+                return new TemplateErrorSerializer(serializer, RATE_LIMIT_EXCEEDED_TEMPLATE);
+            }
+            return serializer;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.springboot.ratelimiter.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.springboot.ratelimiter.common.exception.error.CustomError;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Serializer named {@link TemplateErrorSerializer} writing errors that only differ from a template in their time.
+ * Everything after the time is rendered once from the template and copied as UTF-8 bytes, so such an error costs
+ * one date format instead of a full bean serialization. Any other error goes through the bean serializer.
+ */
+final class TemplateErrorSerializer extends DelegatingEnvelopeSerializer<CustomError> {
+
+    private static final String TIME_FIELD = "time";
+
+    private static final SerializedString TIME = new SerializedString(TIME_FIELD);
+
+    private static final String RENDERED_PREFIX = "{\"" + TIME_FIELD + "\":null,";
+
+    private static final SerializedString NO_TAIL = new SerializedString("");
+
+    private final CustomError template;
+
+    private volatile SerializableString renderedTail;
+
+    private volatile JsonSerializer<Object> timeSerializer;
+
+    TemplateErrorSerializer(final JsonSerializer<?> delegate, final CustomError template) {
+        super(CustomError.class, delegate);
+        this.template = template;
+    }
+
+    @Override
+    protected JsonSerializer<?> withDelegate(final JsonSerializer<?> delegate) {
+        return new TemplateErrorSerializer(delegate, template);
+    }
+
+    @Override
+    public void serialize(final CustomError value, final JsonGenerator gen,
+                          final SerializerProvider provider) throws IOException {
+
+        if (gen.getPrettyPrinter() == null && matchesTemplate(value)) {
+            final SerializableString tail = renderedTail(gen, provider);
+            if (tail != NO_TAIL) {
+                gen.writeStartObject(value);
+                gen.writeFieldName(TIME);
+                writeTime(value.getTime(), gen, provider);
+                gen.writeRaw(tail);
+                gen.writeEndObject();
+                return;
+            }
+        }
+
+        delegate.serialize(value, gen, provider);
+
+    }
+
+    /**
+     * Checks whether the given error equals the template in every field but the time.
+     *
+     * @param error the error to check
+     * @return true if the error can be written from the template
+     */
+    private boolean matchesTemplate(final CustomError error) {
+        return error.getHttpStatus() == template.getHttpStatus()
+                && Objects.equals(error.getHeader(), template.getHeader())
+                && Objects.equals(error.getMessage(), template.getMessage())
+                && Objects.equals(error.getIsSuccess(), template.getIsSuccess())
+                && error.getSubErrors() == null
+                && template.getSubErrors() == null;
+    }
+
+    /**
+     * Returns the JSON following the time field of the template, without the closing brace.
+     * The template is rendered with a null time; if the time is not its first field, for instance under a
+     * different naming strategy, {@link #NO_TAIL} is returned and the bean serializer keeps writing the errors.
+     *
+     * @param gen      the generator of the current call
+     * @param provider the serializer provider of the current call
+     * @return the pre-rendered fields after the time, or {@link #NO_TAIL}
+     * @throws IOException if the template cannot be serialized
+     */
+    private SerializableString renderedTail(final JsonGenerator gen,
+                                            final SerializerProvider provider) throws IOException {
+
+        SerializableString tail = renderedTail;
+        if (tail == null) {
+            final String rendered = render(template, gen, provider);
+            tail = rendered.startsWith(RENDERED_PREFIX) && rendered.endsWith("}")
+                    ? new SerializedString(rendered.substring(RENDERED_PREFIX.length() - 1, rendered.length() - 1))
+                    : NO_TAIL;
+            renderedTail = tail;
+        }
+        return tail;
+
+    }
+
+    /**
+     * Writes the time of an error with the serializer configured for {@link LocalDateTime}, looked up once.
+     *
+     * @param time     the time to write
+     * @param gen      the generator to write to
+     * @param provider the serializer provider of the current call
+     * @throws IOException if the time cannot be written
+     */
+    private void writeTime(final LocalDateTime time, final JsonGenerator gen,
+                           final SerializerProvider provider) throws IOException {
+
+        if (time == null) {
+            gen.writeNull();
+            return;
+        }
+
+        JsonSerializer<Object> serializer = timeSerializer;
+        if (serializer == null) {
+            serializer = provider.findValueSerializer(LocalDateTime.class, null);
+            timeSerializer = serializer;
+        }
+        serializer.serialize(time, gen, provider);
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.springboot.ratelimiter.common.model.dto.request;
 
+import com.springboot.ratelimiter.common.model.page.CountMode;
 import com.springboot.ratelimiter.common.model.page.CustomPaging;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,6 +20,17 @@ public class CustomPagingRequest {
 
     private CustomPaging pagination;
 
+    private CountMode countMode;
+
+    /**
+     * Gets the requested count mode, defaulting to {@link CountMode#EXACT}.
+     *
+     * @return the count mode
+     */
+    public CountMode getCountMode() {
+        return countMode == null ? CountMode.EXACT : countMode;
+    }
+
     /**
      * Converts the custom paging request to a Pageable object.
      *
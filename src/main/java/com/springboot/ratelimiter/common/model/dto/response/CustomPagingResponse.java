@@ -1,5 +1,6 @@
 package com.springboot.ratelimiter.common.model.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.springboot.ratelimiter.common.model.page.CustomPage;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,10 +22,18 @@ public class CustomPagingResponse<T> {
 
     private Integer pageSize;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Long totalElementCount;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Integer totalPageCount;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
+
     /**
      * Builder class for CustomPagingResponse.
      *
@@ -44,7 +53,9 @@ public class CustomPagingResponse<T> {
                     .pageNumber(customPage.getPageNumber())
                     .pageSize(customPage.getPageSize())
                     .totalElementCount(customPage.getTotalElementCount())
-                    .totalPageCount(customPage.getTotalPageCount());
+                    .totalPageCount(customPage.getTotalPageCount())
+                    .nextCursor(customPage.getNextCursor())
+                    .hasNext(customPage.getHasNext());
         }
 
     }
@@ -0,0 +1,105 @@
+package com.springboot.ratelimiter.common.model.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Hibernate type named {@link UuidBinaryType} storing a UUID held as a canonical String in a
+ * {@code BINARY(16)} column. The application keeps working with string identifiers, while the database
+ * gets a compact key whose byte order follows the string order.
+ */
+public class UuidBinaryType implements UserType<String> {
+
+    @Override
+    public int getSqlType() {
+        return Types.BINARY;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(final String x, final String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(final String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(final ResultSet rs, final int position,
+                              final SharedSessionContractImplementor session, final Object owner) throws SQLException {
+        final byte[] bytes = rs.getBytes(position);
+        return bytes == null ? null : fromBytes(bytes);
+    }
+
+    @Override
+    public void nullSafeSet(final PreparedStatement st, final String value, final int index,
+                            final SharedSessionContractImplementor session) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.BINARY);
+        } else {
+            st.setBytes(index, toBytes(value));
+        }
+    }
+
+    @Override
+    public String deepCopy(final String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(final String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(final Serializable cached, final Object owner) {
+        return (String) cached;
+    }
+
+    /**
+     * Converts a canonical UUID string into its 16 byte big-endian form.
+     *
+     * @param value the UUID string
+     * @return the UUID bytes
+     * @throws IllegalArgumentException if the value is not a UUID
+     */
+    public static byte[] toBytes(final String value) {
+        final UUID uuid = UUID.fromString(value);
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Converts 16 big-endian bytes into a canonical UUID string.
+     *
+     * @param bytes the UUID bytes
+     * @return the UUID string
+     */
+    public static String fromBytes(final byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+}
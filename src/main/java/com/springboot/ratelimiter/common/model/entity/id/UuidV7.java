@@ -0,0 +1,56 @@
+package com.springboot.ratelimiter.common.model.entity.id;
+
+import lombok.experimental.UtilityClass;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Utility class named {@link UuidV7} generating time-ordered version 7 UUIDs as defined in RFC 9562.
+ * The first 48 bits hold the Unix time in milliseconds and the 12 bit {@code rand_a} field is used as a counter
+ * within the same millisecond, so identifiers created by this JVM are strictly increasing in byte order.
+ */
+@UtilityClass
+public class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static long lastMillis;
+
+    private static int sequence;
+
+    /**
+     * Generates the next version 7 UUID.
+     *
+     * @return the generated UUID
+     */
+    public UUID next() {
+
+        final long random = RANDOM.nextLong();
+
+        final long millis;
+        final int counter;
+        synchronized (UuidV7.class) {
+            final long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                // Start at a random point in the lower half so the counter rarely overflows
+                sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+            } else if (++sequence > MAX_SEQUENCE) {
+                // Borrow the next millisecond rather than break the ordering
+                lastMillis++;
+                sequence = 0;
+            }
+            millis = lastMillis;
+            counter = sequence;
+        }
+
+        final long mostSignificantBits = (millis << 16) | 0x7000L | counter;
+        final long leastSignificantBits = (random & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.springboot.ratelimiter.common.model.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.io.Serial;
+import java.util.EnumSet;
+
+/**
+ * Generator class named {@link UuidV7Generator} assigning a version 7 UUID in canonical string form
+ * to new entities before they are inserted.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    @Serial
+    private static final long serialVersionUID = 5315209383208611837L;
+
+    @Override
+    public Object generate(final SharedSessionContractImplementor session, final Object owner,
+                           final Object currentValue, final EventType eventType) {
+        return UuidV7.next().toString();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.springboot.ratelimiter.common.model.etag;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Utility class named {@link WeakETag} for deriving weak entity tags from the version and update time of a resource.
+ * The tag is weak because it identifies the state of the resource, not the exact bytes of its representation,
+ * which for instance carries the response time of the envelope.
+ */
+@UtilityClass
+public class WeakETag {
+
+    /**
+     * Creates the weak ETag of a resource.
+     * The update time is taken to the millisecond, so a copy read back from the database matches the cached one.
+     *
+     * @param version   the version of the resource, or null if it has none yet
+     * @param updatedAt the last update time of the resource, or null if it was never updated
+     * @return the weak ETag, quoted and prefixed with {@code W/}
+     */
+    public String of(final Long version, final LocalDateTime updatedAt) {
+
+        final long versionValue = version != null ? version : 0L;
+        final long updatedAtValue = updatedAt != null ? updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+
+        return "W/\"" + Long.toString(versionValue, Character.MAX_RADIX)
+                + '-' + Long.toString(updatedAtValue, Character.MAX_RADIX) + '"';
+
+    }
+
+}
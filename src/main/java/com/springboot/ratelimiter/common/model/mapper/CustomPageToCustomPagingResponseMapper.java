@@ -9,8 +9,8 @@ import com.springboot.ratelimiter.user.payload.response.UserResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper named {@link CustomPageToCustomPagingResponseMapper} for converting CustomPage to CustomPagingResponse.
@@ -38,6 +38,8 @@ public interface CustomPageToCustomPagingResponseMapper {
                 .totalPageCount(userPage.getTotalPageCount())
                 .pageNumber(userPage.getPageNumber())
                 .pageSize(userPage.getPageSize())
+                .nextCursor(userPage.getNextCursor())
+                .hasNext(userPage.getHasNext())
                 .build();
 
     }
@@ -54,9 +56,11 @@ public interface CustomPageToCustomPagingResponseMapper {
             return null;
         }
 
-        return users.stream()
-                .map(userToUserResponseMapper::map)
-                .collect(Collectors.toList());
+        final List<UserResponse> userResponses = new ArrayList<>(users.size());
+        for (User user : users) {
+            userResponses.add(userToUserResponseMapper.map(user));
+        }
+        return userResponses;
 
     }
 
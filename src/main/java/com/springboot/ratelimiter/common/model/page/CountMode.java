@@ -0,0 +1,23 @@
+package com.springboot.ratelimiter.common.model.page;
+
+/**
+ * Enum named {@link CountMode} controlling how the totals of a paginated list are computed.
+ */
+public enum CountMode {
+
+    /**
+     * Runs a COUNT query alongside the page query and returns exact totals.
+     */
+    EXACT,
+
+    /**
+     * Returns totals derived from an incrementally maintained counter, which may briefly lag behind the table.
+     */
+    CACHED,
+
+    /**
+     * Skips totals entirely and returns only whether a next page exists.
+     */
+    NONE
+
+}
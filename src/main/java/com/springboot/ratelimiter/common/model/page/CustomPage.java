@@ -2,6 +2,7 @@ package com.springboot.ratelimiter.common.model.page;
 
 import lombok.*;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -26,6 +27,10 @@ public class CustomPage<T> {
 
     private Integer totalPageCount;
 
+    private String nextCursor;
+
+    private Boolean hasNext;
+
     /**
      * Creates a CustomPage from a list of domain models and a Page object.
      *
@@ -42,6 +47,64 @@ public class CustomPage<T> {
                 .pageSize(page.getSize())
                 .totalPageCount(page.getTotalPages())
                 .totalElementCount(page.getTotalElements())
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    /**
+     * Creates a CustomPage from a list of domain models and a Slice object, without totals.
+     *
+     * @param domainModels the list of domain models
+     * @param slice the Slice object
+     * @param <C> the type of domain models
+     * @param <X> the type of the Slice content
+     * @return the CustomPage object
+     */
+    public static <C, X> CustomPage<C> of(final List<C> domainModels, final Slice<X> slice) {
+        return CustomPage.<C>builder()
+                .content(domainModels)
+                .pageNumber(slice.getNumber() + 1)
+                .pageSize(slice.getSize())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    /**
+     * Creates a CustomPage from a list of domain models, a Slice object and a separately obtained total.
+     *
+     * @param domainModels the list of domain models
+     * @param slice the Slice object
+     * @param totalElementCount the total number of elements
+     * @param <C> the type of domain models
+     * @param <X> the type of the Slice content
+     * @return the CustomPage object
+     */
+    public static <C, X> CustomPage<C> of(final List<C> domainModels, final Slice<X> slice,
+                                          final long totalElementCount) {
+        return CustomPage.<C>builder()
+                .content(domainModels)
+                .pageNumber(slice.getNumber() + 1)
+                .pageSize(slice.getSize())
+                .totalElementCount(totalElementCount)
+                .totalPageCount(Math.toIntExact((totalElementCount + slice.getSize() - 1) / slice.getSize()))
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    /**
+     * Creates a CustomPage for a keyset page, which carries a cursor to the next page instead of totals.
+     *
+     * @param domainModels the list of domain models
+     * @param pageSize the requested page size
+     * @param nextCursor the cursor to the next page, or null if this is the last page
+     * @param <C> the type of domain models
+     * @return the CustomPage object
+     */
+    public static <C> CustomPage<C> ofCursor(final List<C> domainModels, final int pageSize, final String nextCursor) {
+        return CustomPage.<C>builder()
+                .content(domainModels)
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -0,0 +1,54 @@
+package com.springboot.ratelimiter.common.model.page;
+
+import com.springboot.ratelimiter.common.exception.page.InvalidPageCursorException;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utility class named {@link PageCursor} for encoding the last seen sort key of a keyset page into an opaque token.
+ * Clients must treat the token as opaque; its format may change between versions.
+ */
+@UtilityClass
+public class PageCursor {
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    /**
+     * Encodes the last seen sort key into an opaque cursor.
+     *
+     * @param lastKey the sort key of the last element of the page
+     * @return the opaque cursor
+     */
+    public String encode(final String lastKey) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((VERSION_PREFIX + lastKey).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes an opaque cursor into the last seen sort key.
+     *
+     * @param cursor the opaque cursor
+     * @return the sort key of the last element of the previous page
+     * @throws InvalidPageCursorException if the cursor is malformed
+     */
+    public String decode(final String cursor) {
+
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidPageCursorException();
+        }
+
+        if (!decoded.startsWith(VERSION_PREFIX) || decoded.length() == VERSION_PREFIX.length()) {
+            throw new InvalidPageCursorException();
+        }
+
+        return decoded.substring(VERSION_PREFIX.length());
+
+    }
+
+}
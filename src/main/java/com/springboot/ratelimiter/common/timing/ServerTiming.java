@@ -0,0 +1,229 @@
+package com.springboot.ratelimiter.common.timing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Utility class named {@link ServerTiming} for recording the time a sampled request spends in each processing phase.
+ * Phases are accumulated in a thread-bound {@link Recorder} installed by {@link ServerTimingFilter}; when timing is
+ * disabled or the request is not sampled, every call falls through to the wrapped operation directly.
+ */
+@UtilityClass
+public class ServerTiming {
+
+    public static final String HEADER_NAME = "Server-Timing";
+
+    private static final ThreadLocal<Recorder> CURRENT = new ThreadLocal<>();
+
+    private static volatile boolean enabled;
+
+    /**
+     * Represents the phases as {@link Phase} reported in the Server-Timing header and the phase histograms.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Phase {
+
+        LIMITER("limiter", "Rate limit check"),
+
+        VALIDATION("validation", "Binding and bean validation"),
+
+        JPA("jpa", "Repository access"),
+
+        MAPPING("mapping", "Model mapping"),
+
+        SERIALIZATION("serialization", "Response serialization");
+
+        private final String metricName;
+
+        private final String description;
+
+    }
+
+    /**
+     * Enables or disables phase timing globally.
+     *
+     * @param value true to enable phase timing, false otherwise
+     */
+    static void setEnabled(final boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Binds a new {@link Recorder} to the current thread.
+     *
+     * @param requestStartNanos the request start time as returned by {@link System#nanoTime()}
+     * @return the bound recorder
+     */
+    static Recorder begin(final long requestStartNanos) {
+        final Recorder recorder = new Recorder(requestStartNanos);
+        CURRENT.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * Removes the {@link Recorder} bound to the current thread.
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the {@link Recorder} bound to the current thread.
+     *
+     * @return the current recorder, or null if the request is not being timed
+     */
+    static Recorder current() {
+        return enabled ? CURRENT.get() : null;
+    }
+
+    /**
+     * Runs the given operation and adds its duration to the given phase.
+     *
+     * @param phase     the phase to account the duration to
+     * @param operation the operation to run
+     * @param <T>       the type of the operation result
+     * @return the operation result
+     */
+    public static <T> T time(final Phase phase, final Supplier<T> operation) {
+
+        final Recorder recorder = current();
+        if (recorder == null) {
+            return operation.get();
+        }
+
+        final long start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            recorder.add(phase, System.nanoTime() - start);
+        }
+
+    }
+
+    /**
+     * Runs the given operation and adds its duration to the given phase.
+     *
+     * @param phase     the phase to account the duration to
+     * @param operation the operation to run
+     */
+    public static void run(final Phase phase, final Runnable operation) {
+
+        final Recorder recorder = current();
+        if (recorder == null) {
+            operation.run();
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            operation.run();
+        } finally {
+            recorder.add(phase, System.nanoTime() - start);
+        }
+
+    }
+
+    /**
+     * Closes the binding and validation phase once the handler method has been entered.
+     * The phase covers the time between {@link ServerTimingInterceptor#preHandle} and this call.
+     */
+    public static void handlerEntered() {
+        final Recorder recorder = current();
+        if (recorder != null) {
+            recorder.handlerEntered(System.nanoTime());
+        }
+    }
+
+    /**
+     * Class named {@link Recorder} accumulating phase durations for a single request.
+     * A recorder is only ever accessed by the thread serving the request.
+     */
+    static final class Recorder {
+
+        private final long requestStartNanos;
+
+        private final long[] phaseNanos = new long[Phase.values().length];
+
+        private long handlerStartNanos;
+
+        private long serializationStartNanos;
+
+        private Recorder(final long requestStartNanos) {
+            this.requestStartNanos = requestStartNanos;
+        }
+
+        void add(final Phase phase, final long nanos) {
+            phaseNanos[phase.ordinal()] += nanos;
+        }
+
+        long get(final Phase phase) {
+            return phaseNanos[phase.ordinal()];
+        }
+
+        void handlerStarted(final long nanos) {
+            handlerStartNanos = nanos;
+        }
+
+        void handlerEntered(final long nanos) {
+            if (handlerStartNanos != 0L) {
+                add(Phase.VALIDATION, nanos - handlerStartNanos);
+                handlerStartNanos = 0L;
+            }
+        }
+
+        void serializationStarted(final long nanos) {
+            serializationStartNanos = nanos;
+        }
+
+        void serializationFinished(final long nanos) {
+            if (serializationStartNanos != 0L) {
+                add(Phase.SERIALIZATION, nanos - serializationStartNanos);
+                serializationStartNanos = 0L;
+            }
+        }
+
+        long elapsed(final long nanos) {
+            return nanos - requestStartNanos;
+        }
+
+        /**
+         * Renders the phases measured so far as a Server-Timing header value.
+         * Serialization is not included since the header has to be written before the body.
+         *
+         * @param nowNanos the current time as returned by {@link System#nanoTime()}
+         * @return the Server-Timing header value
+         */
+        String toHeaderValue(final long nowNanos) {
+
+            final StringBuilder builder = new StringBuilder(128);
+            for (Phase phase : Phase.values()) {
+                if (phase == Phase.SERIALIZATION || phaseNanos[phase.ordinal()] == 0L) {
+                    continue;
+                }
+                appendMetric(builder, phase.getMetricName(), phase.getDescription(), phaseNanos[phase.ordinal()]);
+            }
+            appendMetric(builder, "app", "Total before serialization", elapsed(nowNanos));
+            return builder.toString();
+
+        }
+
+        private static void appendMetric(final StringBuilder builder, final String name,
+                                         final String description, final long nanos) {
+
+            if (!builder.isEmpty()) {
+                builder.append(", ");
+            }
+            builder.append(name)
+                    .append(";desc=\"").append(description).append('"')
+                    .append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0d));
+
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.springboot.ratelimiter.common.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter named {@link ServerTimingFilter} that samples requests for phase timing.
+ * Sampled requests get a {@link ServerTiming.Recorder} bound for their duration, and the recorded phases are
+ * published to percentile histograms once the response has been written.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+
+    private final double sampleRate;
+
+    private final Map<ServerTiming.Phase, Timer> phaseTimers = new EnumMap<>(ServerTiming.Phase.class);
+
+    private final Timer totalTimer;
+
+    public ServerTimingFilter(final MeterRegistry meterRegistry,
+                              @Value("${monitoring.server-timing.enabled:false}") final boolean enabled,
+                              @Value("${monitoring.server-timing.sample-rate:0.01}") final double sampleRate) {
+
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+
+        for (ServerTiming.Phase phase : ServerTiming.Phase.values()) {
+            phaseTimers.put(phase, Timer.builder("http.server.requests.phase")
+                    .description(phase.getDescription())
+                    .tag("phase", phase.getMetricName())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+
+        this.totalTimer = Timer.builder("http.server.requests.phase")
+                .description("Total sampled request time")
+                .tag("phase", "total")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        ServerTiming.setEnabled(enabled);
+
+    }
+
+    /**
+     * Binds a recorder for sampled requests and publishes the recorded phases once the chain completes.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain
+     * @throws ServletException if the chain fails
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+
+        if (!enabled || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final ServerTiming.Recorder recorder = ServerTiming.begin(System.nanoTime());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final long now = System.nanoTime();
+            recorder.serializationFinished(now);
+            ServerTiming.end();
+            publish(recorder, now);
+        }
+
+    }
+
+    private void publish(final ServerTiming.Recorder recorder, final long nowNanos) {
+
+        phaseTimers.forEach((phase, timer) -> {
+            final long nanos = recorder.get(phase);
+            if (nanos > 0L) {
+                timer.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        });
+        totalTimer.record(recorder.elapsed(nowNanos), TimeUnit.NANOSECONDS);
+
+    }
+
+}
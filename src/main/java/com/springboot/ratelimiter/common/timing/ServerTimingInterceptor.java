@@ -0,0 +1,38 @@
+package com.springboot.ratelimiter.common.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor named {@link ServerTimingInterceptor} marking the point where handler argument resolution starts,
+ * so that binding and bean validation can be accounted to {@link ServerTiming.Phase#VALIDATION}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    /**
+     * Marks the start of argument binding and validation for the current request.
+     *
+     * @param request  the HTTP request
+     * @param response the HTTP response
+     * @param handler  the chosen handler
+     * @return always true
+     */
+    @Override
+    public boolean preHandle(final HttpServletRequest request,
+                             final HttpServletResponse response,
+                             final Object handler) {
+
+        final ServerTiming.Recorder recorder = ServerTiming.current();
+        if (recorder != null) {
+            recorder.handlerStarted(System.nanoTime());
+        }
+        return true;
+
+    }
+
+}
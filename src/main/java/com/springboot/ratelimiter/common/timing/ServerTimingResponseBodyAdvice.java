@@ -0,0 +1,55 @@
+package com.springboot.ratelimiter.common.timing;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Response body advice named {@link ServerTimingResponseBodyAdvice} that writes the Server-Timing header
+ * right before the body is serialized and marks the start of {@link ServerTiming.Phase#SERIALIZATION}.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ServerTimingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(final MethodParameter returnType,
+                            final Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    /**
+     * Adds the Server-Timing header for sampled requests.
+     *
+     * @param body                  the body to be written
+     * @param returnType            the return type of the handler method
+     * @param selectedContentType   the selected content type
+     * @param selectedConverterType the selected converter type
+     * @param request               the current request
+     * @param response              the current response
+     * @return the unchanged body
+     */
+    @Override
+    public Object beforeBodyWrite(final Object body,
+                                  final MethodParameter returnType,
+                                  final MediaType selectedContentType,
+                                  final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  final ServerHttpRequest request,
+                                  final ServerHttpResponse response) {
+
+        final ServerTiming.Recorder recorder = ServerTiming.current();
+        if (recorder != null) {
+            final long now = System.nanoTime();
+            response.getHeaders().set(ServerTiming.HEADER_NAME, recorder.toHeaderValue(now));
+            recorder.serializationStarted(now);
+        }
+        return body;
+
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.springboot.ratelimiter.config;
+
+import com.springboot.ratelimiter.common.bulkhead.Bulkhead;
+import com.springboot.ratelimiter.common.bulkhead.BulkheadDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration class named {@link BulkheadConfig} to bound the concurrent calls to Redis and the database.
+ * The bulkheads are meant for the virtual thread mode enabled with {@code spring.threads.virtual.enabled}, where
+ * the request threads no longer limit concurrency; by default they follow that switch. When disabled, the
+ * bulkheads admit every call and the data source is left unwrapped.
+ */
+@Configuration
+public class BulkheadConfig {
+
+    public static final String REDIS_BULKHEAD = "redisBulkhead";
+
+    public static final String JDBC_BULKHEAD = "jdbcBulkhead";
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    /**
+     * Creates the {@link Bulkhead} in front of the Redis calls of the rate limiter and the user cache.
+     *
+     * @param meterRegistry      the registry the bulkhead metrics are published to
+     * @param enabled            whether calls are bounded at all
+     * @param maxConcurrentCalls the maximum number of concurrent Redis calls
+     * @param maxWaitMillis      the longest time a call waits for a permit
+     * @return the Redis bulkhead
+     */
+    @Bean(REDIS_BULKHEAD)
+    public Bulkhead redisBulkhead(final MeterRegistry meterRegistry,
+                                  @Value("${bulkhead.enabled:false}") final boolean enabled,
+                                  @Value("${bulkhead.redis.max-concurrent-calls:64}") final int maxConcurrentCalls,
+                                  @Value("${bulkhead.redis.max-wait-millis:250}") final long maxWaitMillis) {
+        return new Bulkhead("redis", enabled ? maxConcurrentCalls : Integer.MAX_VALUE,
+                Duration.ofMillis(maxWaitMillis), meterRegistry);
+    }
+
+    /**
+     * Creates the {@link Bulkhead} in front of the database connection pool.
+     *
+     * @param meterRegistry            the registry the bulkhead metrics are published to
+     * @param enabled                  whether connections are bounded at all
+     * @param maxConcurrentConnections the maximum number of connections open at once
+     * @param maxWaitMillis            the longest time a caller waits for a permit
+     * @return the database bulkhead
+     */
+    @Bean(JDBC_BULKHEAD)
+    public Bulkhead jdbcBulkhead(final MeterRegistry meterRegistry,
+                                 @Value("${bulkhead.enabled:false}") final boolean enabled,
+                                 @Value("${bulkhead.jdbc.max-concurrent-connections:10}") final int maxConcurrentConnections,
+                                 @Value("${bulkhead.jdbc.max-wait-millis:1000}") final long maxWaitMillis) {
+        return new Bulkhead("jdbc", enabled ? maxConcurrentConnections : Integer.MAX_VALUE,
+                Duration.ofMillis(maxWaitMillis), meterRegistry);
+    }
+
+    /**
+     * Wraps the data source used by JPA in a {@link BulkheadDataSource}, so every open connection holds a permit
+     * of the database bulkhead. With read replica routing enabled the bound covers all pools together.
+     *
+     * @param beanFactory the bean factory the database bulkhead is resolved from once the data source is created
+     * @return the post processor wrapping the data source
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "bulkhead", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(final BeanFactory beanFactory) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource, beanFactory.getBean(JDBC_BULKHEAD, Bulkhead.class));
+                }
+                return bean;
+            }
+        };
+    }
+
+}
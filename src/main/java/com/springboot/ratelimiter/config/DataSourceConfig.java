@@ -0,0 +1,41 @@
+package com.springboot.ratelimiter.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class named {@link DataSourceConfig} to set up the JDBC data source used by JPA.
+ * Spring Boot stops auto-configuring a JDBC data source as soon as an R2DBC connection factory is present,
+ * so the Hikari pool is declared here from the {@code spring.datasource} properties. When read replica routing
+ * is enabled, {@link DataSourceRoutingConfig} provides the data source instead.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    /**
+     * Creates the Hikari pool from the {@code spring.datasource} properties.
+     *
+     * @param dataSourceProperties the {@code spring.datasource} properties
+     * @return the data source
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "database.routing", name = "enabled", havingValue = "false", matchIfMissing = true)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(final DataSourceProperties dataSourceProperties) {
+        final HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        if (StringUtils.isNotBlank(dataSourceProperties.getName())) {
+            dataSource.setPoolName(dataSourceProperties.getName());
+        }
+        return dataSource;
+    }
+
+}
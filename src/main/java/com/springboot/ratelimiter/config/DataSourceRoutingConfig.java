@@ -0,0 +1,125 @@
+package com.springboot.ratelimiter.config;
+
+import com.springboot.ratelimiter.common.datasource.ReplicaLagMonitor;
+import com.springboot.ratelimiter.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration class named {@link DataSourceRoutingConfig} to route read-only transactions to MySQL read replicas.
+ * Only active when {@code database.routing.enabled} is true; otherwise the single data source of
+ * {@link DataSourceConfig} is used as before. The primary and every replica get their own Hikari pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "database.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String REPLICA_KEY_PREFIX = "replica-";
+
+    /**
+     * Creates the Hikari pool of the primary from the {@code spring.datasource} properties.
+     *
+     * @param dataSourceProperties the {@code spring.datasource} properties
+     * @return the primary data source
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        final HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY_KEY);
+        return dataSource;
+    }
+
+    /**
+     * Creates one read-only Hikari pool per replica URL and the monitor tracking their replication lag.
+     * The pools connect lazily, so an unreachable replica does not prevent the application from starting.
+     * The monitor checks the replicas on its own thread rather than on the shared task scheduler.
+     *
+     * @param dataSourceProperties the {@code spring.datasource} properties used for the driver and default credentials
+     * @param meterRegistries      the meter registry the pool metrics are published to, if any
+     * @param replicaUrls          the JDBC URLs of the replicas
+     * @param username             the replica username, or empty to use the primary username
+     * @param password             the replica password, or empty to use the primary password
+     * @param poolSize             the maximum size of every replica pool
+     * @param maxLagSeconds        the largest lag at which a replica still receives reads
+     * @param checkIntervalMillis  the delay between two lag checks
+     * @param maxMissedChecks      the number of check intervals after which a replica without a successful check
+     *                             stops receiving reads
+     * @return the replica lag monitor
+     */
+    @Bean(initMethod = "start")
+    public ReplicaLagMonitor replicaLagMonitor(final DataSourceProperties dataSourceProperties,
+                                               final ObjectProvider<MeterRegistry> meterRegistries,
+                                               @Value("${database.routing.replica-urls}") final List<String> replicaUrls,
+                                               @Value("${database.routing.replica-username:}") final String username,
+                                               @Value("${database.routing.replica-password:}") final String password,
+                                               @Value("${database.routing.replica-pool-size:10}") final int poolSize,
+                                               @Value("${database.routing.max-replica-lag-seconds:5}") final long maxLagSeconds,
+                                               @Value("${database.routing.lag-check-interval-millis:1000}") final long checkIntervalMillis,
+                                               @Value("${database.routing.max-missed-lag-checks:3}") final int maxMissedChecks) {
+
+        final MeterRegistry meterRegistry = meterRegistries.getIfAvailable();
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+
+        for (String replicaUrl : replicaUrls) {
+            if (StringUtils.isBlank(replicaUrl)) {
+                continue;
+            }
+            final String replicaKey = REPLICA_KEY_PREFIX + replicas.size();
+            final HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(replicaKey);
+            replica.setJdbcUrl(replicaUrl.trim());
+            replica.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            replica.setUsername(StringUtils.defaultIfEmpty(username, dataSourceProperties.determineUsername()));
+            replica.setPassword(StringUtils.defaultIfEmpty(password, dataSourceProperties.determinePassword()));
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            if (meterRegistry != null) {
+                replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            }
+            replicas.put(replicaKey, replica);
+        }
+
+        return new ReplicaLagMonitor(replicas, maxLagSeconds, Duration.ofMillis(checkIntervalMillis), maxMissedChecks);
+
+    }
+
+    /**
+     * Creates the data source used by JPA, routing read-only transactions to a caught up replica.
+     * The routing data source is wrapped in a {@link LazyConnectionDataSourceProxy}, so the physical connection
+     * is only chosen once the transaction has been marked read-only or read-write.
+     *
+     * @param primaryDataSource the primary data source
+     * @param replicaLagMonitor the replica lag monitor
+     * @return the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(final HikariDataSource primaryDataSource,
+                                 final ReplicaLagMonitor replicaLagMonitor) {
+        final ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(primaryDataSource, replicaLagMonitor);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.springboot.ratelimiter.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.springboot.ratelimiter.common.json.EnvelopeJsonModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class named {@link JacksonConfig} to tune the JSON serialization of the application.
+ * Spring Boot registers every Jackson module bean with the shared ObjectMapper, which both the servlet
+ * and the reactive stack use for request and response bodies.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Creates the Blackbird module, replacing reflective getter and setter calls with generated lambdas.
+     *
+     * @return the Blackbird module
+     */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Creates the module writing constant response envelopes from pre-rendered bytes.
+     *
+     * @return the envelope module
+     */
+    @Bean
+    public EnvelopeJsonModule envelopeJsonModule() {
+        return new EnvelopeJsonModule();
+    }
+
+}
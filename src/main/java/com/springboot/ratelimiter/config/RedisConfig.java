@@ -1,11 +1,15 @@
 package com.springboot.ratelimiter.config;
 
+import com.springboot.ratelimiter.user.User;
+import com.springboot.ratelimiter.user.cache.UserRedisSerializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -17,11 +21,12 @@ public class RedisConfig {
     /**
      * Creates a {@link RedisConnectionFactory} using Lettuce.
      * The {@link LettuceConnectionFactory} is a connection factory driven by the Lettuce Redis client library.
+     * It is exposed with its concrete type, so that it also backs the reactive Redis templates.
      *
-     * @return a {@link RedisConnectionFactory} instance
+     * @return a {@link LettuceConnectionFactory} instance
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory();
     }
 
@@ -43,5 +48,50 @@ public class RedisConfig {
         return template;
     }
 
-}
+    /**
+     * Creates a {@link RedisTemplate} for caching {@link User} domain models.
+     * Values are written with the compact binary {@link UserRedisSerializer} instead of JSON.
+     *
+     * @param redisConnectionFactory the {@link RedisConnectionFactory} to use for the template
+     * @return a configured {@link RedisTemplate} instance
+     */
+    @Bean
+    public RedisTemplate<String, User> userRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, User> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new UserRedisSerializer());
+        return template;
+    }
 
+    /**
+     * Creates a {@link RedisTemplate} for caching pre-rendered, compressed response bodies.
+     * Values are stored as raw bytes, so a cached body is written to the client without being decoded.
+     *
+     * @param redisConnectionFactory the {@link RedisConnectionFactory} to use for the template
+     * @return a configured {@link RedisTemplate} instance
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> bodyRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    /**
+     * Creates a {@link RedisMessageListenerContainer} for receiving Redis pub/sub messages.
+     * Components subscribe their listeners to the channels they need on this shared container.
+     *
+     * @param redisConnectionFactory the {@link RedisConnectionFactory} to use for the container
+     * @return a configured {@link RedisMessageListenerContainer} instance
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.springboot.ratelimiter.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class named {@link SchedulingConfig} to enable scheduled tasks in the application.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
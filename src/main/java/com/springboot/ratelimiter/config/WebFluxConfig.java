@@ -0,0 +1,27 @@
+package com.springboot.ratelimiter.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class named {@link WebFluxConfig} to set up the reactive web server in the application.
+ * It is only active when the application runs as a reactive web application, see the "reactive" profile.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class WebFluxConfig {
+
+    /**
+     * Creates a {@link NettyReactiveWebServerFactory}, so that requests are served on Netty event loops.
+     * Spring Boot would otherwise prefer Tomcat, which is on the classpath for the servlet stack.
+     *
+     * @return a {@link NettyReactiveWebServerFactory} instance
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.springboot.ratelimiter.config;
+
+import com.springboot.ratelimiter.common.timing.ServerTimingInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class named {@link WebMvcConfig} to customize Spring MVC in the application.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ServerTimingInterceptor serverTimingInterceptor;
+
+    /**
+     * Registers the {@link ServerTimingInterceptor} for all request mappings.
+     *
+     * @param registry the interceptor registry
+     */
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(serverTimingInterceptor);
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.springboot.ratelimiter.ratelimit.audit;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Class named {@link AuditSegmentWriter} appending {@link RateLimitAuditEvent}s as NDJSON lines to rolling segment files.
+ * A new segment is opened once the current one reaches the configured size. Only the audit writer thread uses it.
+ */
+@Slf4j
+class AuditSegmentWriter implements Closeable {
+
+    private static final DateTimeFormatter SEGMENT_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+
+    private final long maxSegmentBytes;
+
+    private final JsonFactory jsonFactory;
+
+    private CountingOutputStream segmentStream;
+
+    private JsonGenerator generator;
+
+    private int segmentSequence;
+
+    AuditSegmentWriter(final Path directory, final long maxSegmentBytes, final JsonFactory jsonFactory) {
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Appends a single event to the current segment, rolling over to a new segment if needed.
+     *
+     * @param event the event to append
+     * @throws IOException if the event cannot be written
+     */
+    void write(final RateLimitAuditEvent event) throws IOException {
+
+        if (generator == null || segmentStream.count >= maxSegmentBytes) {
+            roll();
+        }
+
+        generator.writeStartObject();
+        generator.writeNumberField("timestamp", event.timestamp());
+        generator.writeStringField("method", event.method());
+        generator.writeStringField("path", event.path());
+        generator.writeStringField("clientAddress", event.clientAddress());
+        generator.writeStringField("message", event.message());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+
+    }
+
+    /**
+     * Flushes the buffered lines of the current segment to disk.
+     *
+     * @throws IOException if flushing fails
+     */
+    void flush() throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+            generator = null;
+            segmentStream = null;
+        }
+    }
+
+    private void roll() throws IOException {
+
+        close();
+        Files.createDirectories(directory);
+
+        final Path segment = directory.resolve("rate-limit-audit-%s-%04d.ndjson"
+                .formatted(SEGMENT_TIMESTAMP.format(Instant.now()), segmentSequence++));
+
+        segmentStream = new CountingOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), 64 * 1024));
+        generator = jsonFactory.createGenerator(segmentStream, JsonEncoding.UTF8);
+        generator.setRootValueSeparator(null);
+
+        log.info("Opened rate limit audit segment {}", segment);
+
+    }
+
+    /**
+     * Output stream named {@link CountingOutputStream} tracking the number of bytes written to a segment.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+
+        private long count;
+
+        private CountingOutputStream(final OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+    }
+
+}
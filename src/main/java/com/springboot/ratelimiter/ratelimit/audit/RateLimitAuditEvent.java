@@ -0,0 +1,17 @@
+package com.springboot.ratelimiter.ratelimit.audit;
+
+/**
+ * Record named {@link RateLimitAuditEvent} representing a single rejected request kept for compliance auditing.
+ *
+ * @param timestamp     the rejection time in epoch milliseconds
+ * @param method        the HTTP method of the rejected request
+ * @param path          the request URI of the rejected request
+ * @param clientAddress the remote address of the client
+ * @param message       the rejection message
+ */
+public record RateLimitAuditEvent(long timestamp,
+                                  String method,
+                                  String path,
+                                  String clientAddress,
+                                  String message) {
+}
@@ -0,0 +1,205 @@
+package com.springboot.ratelimiter.ratelimit.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Component named {@link RateLimitAuditLog} recording every rate limit rejection without blocking request threads.
+ * Rejections are published into a {@link RateLimitAuditRingBuffer} and a single background writer drains them in
+ * batches into rolling NDJSON segment files. When the buffer is full, events are dropped and counted.
+ */
+@Slf4j
+@Component
+public class RateLimitAuditLog implements SmartLifecycle {
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    private final long idleParkNanos;
+
+    private final RateLimitAuditRingBuffer<RateLimitAuditEvent> ringBuffer;
+
+    private final AuditSegmentWriter segmentWriter;
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final Counter droppedCounter;
+
+    private final Counter writtenCounter;
+
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+
+    private Thread writerThread;
+
+    public RateLimitAuditLog(final ObjectMapper objectMapper,
+                             final MeterRegistry meterRegistry,
+                             @Value("${rate.limiter.audit.enabled:true}") final boolean enabled,
+                             @Value("${rate.limiter.audit.directory:audit}") final String directory,
+                             @Value("${rate.limiter.audit.buffer-capacity:8192}") final int bufferCapacity,
+                             @Value("${rate.limiter.audit.batch-size:512}") final int batchSize,
+                             @Value("${rate.limiter.audit.segment-max-bytes:67108864}") final long segmentMaxBytes,
+                             @Value("${rate.limiter.audit.idle-park-millis:100}") final long idleParkMillis) {
+
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleParkMillis);
+        this.ringBuffer = new RateLimitAuditRingBuffer<>(bufferCapacity);
+        this.segmentWriter = new AuditSegmentWriter(Path.of(directory), segmentMaxBytes, objectMapper.getFactory());
+
+        this.droppedCounter = Counter.builder("ratelimiter.audit.events")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("ratelimiter.audit.events")
+                .tag("result", "written")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("ratelimiter.audit.events")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        Gauge.builder("ratelimiter.audit.buffer.capacity", ringBuffer, RateLimitAuditRingBuffer::capacity)
+                .register(meterRegistry);
+        Gauge.builder("ratelimiter.audit.buffer.size", ringBuffer, RateLimitAuditRingBuffer::size)
+                .description("Events waiting to be written, to be read against the buffer capacity")
+                .register(meterRegistry);
+
+    }
+
+    /**
+     * Publishes a rejection to the audit buffer without blocking.
+     *
+     * @param event the rejection to record
+     * @return true if the event was buffered, false if it was dropped
+     */
+    public boolean publish(final RateLimitAuditEvent event) {
+
+        if (!enabled) {
+            return false;
+        }
+
+        if (ringBuffer.offer(event)) {
+            return true;
+        }
+
+        dropped.increment();
+        droppedCounter.increment();
+        return false;
+
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void start() {
+
+        if (!enabled || running) {
+            return;
+        }
+
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("rate-limit-audit-writer")
+                .daemon(true)
+                .start(this::writeLoop);
+
+    }
+
+    @Override
+    public void stop() {
+
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(writerThread);
+
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void writeLoop() {
+
+        try {
+
+            while (running) {
+                if (drainBatch() == 0) {
+                    LockSupport.parkNanos(this, idleParkNanos);
+                }
+            }
+
+            int drained;
+            do {
+                drained = drainBatch();
+            } while (drained > 0);
+
+        } finally {
+            closeQuietly();
+        }
+
+    }
+
+    private int drainBatch() {
+
+        final int drained = ringBuffer.drain(this::writeEvent, batchSize);
+
+        if (drained > 0) {
+            try {
+                segmentWriter.flush();
+            } catch (IOException ex) {
+                log.warn("Failed to flush rate limit audit segment", ex);
+            }
+        }
+
+        return drained;
+
+    }
+
+    private void writeEvent(final RateLimitAuditEvent event) {
+        try {
+            segmentWriter.write(event);
+            writtenCounter.increment();
+        } catch (IOException ex) {
+            failedCounter.increment();
+            log.warn("Failed to write rate limit audit event", ex);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            segmentWriter.close();
+        } catch (IOException ex) {
+            log.warn("Failed to close rate limit audit segment", ex);
+        }
+    }
+
+}
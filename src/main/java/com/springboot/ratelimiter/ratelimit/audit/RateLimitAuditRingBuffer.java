@@ -0,0 +1,135 @@
+package com.springboot.ratelimiter.ratelimit.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free ring buffer named {@link RateLimitAuditRingBuffer} for many producers and a single consumer.
+ * Each slot carries a sequence number telling producers whether it is free and the consumer whether it is
+ * published, so neither side ever blocks; {@link #offer(Object)} simply fails when the buffer is full.
+ *
+ * @param <E> the type of the buffered elements
+ */
+public class RateLimitAuditRingBuffer<E> {
+
+    private final int mask;
+
+    private final AtomicLongArray sequences;
+
+    private final AtomicReferenceArray<E> elements;
+
+    private final AtomicLong producerPosition = new AtomicLong();
+
+    private volatile long consumerPosition;
+
+    /**
+     * Creates a ring buffer holding at least the given number of elements.
+     *
+     * @param requestedCapacity the minimum capacity, rounded up to the next power of two
+     */
+    public RateLimitAuditRingBuffer(final int requestedCapacity) {
+
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Ring buffer capacity must be at least 2");
+        }
+
+        final int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.elements = new AtomicReferenceArray<>(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+
+    }
+
+    /**
+     * Publishes an element without blocking.
+     *
+     * @param element the element to publish
+     * @return true if the element was published, false if the buffer is full
+     */
+    public boolean offer(final E element) {
+
+        long position = producerPosition.get();
+
+        while (true) {
+
+            final int index = (int) (position & mask);
+            final long difference = sequences.getAcquire(index) - position;
+
+            if (difference == 0L) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    elements.setPlain(index, element);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = producerPosition.get();
+            } else if (difference < 0L) {
+                return false;
+            } else {
+                position = producerPosition.get();
+            }
+
+        }
+
+    }
+
+    /**
+     * Drains up to the given number of published elements. Must only be called from the single consumer thread.
+     *
+     * @param consumer    the consumer receiving the drained elements
+     * @param maxElements the maximum number of elements to drain
+     * @return the number of drained elements
+     */
+    public int drain(final Consumer<E> consumer, final int maxElements) {
+
+        long position = consumerPosition;
+        int drained = 0;
+
+        while (drained < maxElements) {
+
+            final int index = (int) (position & mask);
+            if (sequences.getAcquire(index) != position + 1) {
+                break;
+            }
+
+            final E element = elements.getPlain(index);
+            elements.setPlain(index, null);
+            sequences.setRelease(index, position + mask + 1);
+            position++;
+
+            consumer.accept(element);
+            drained++;
+
+        }
+
+        consumerPosition = position;
+        return drained;
+
+    }
+
+    /**
+     * Returns the number of elements waiting to be drained. The value is a snapshot that may be slightly ahead of
+     * the drained elements while a batch is in progress, and is safe to read from any thread.
+     *
+     * @return the number of buffered elements
+     */
+    public int size() {
+        final long size = producerPosition.get() - consumerPosition;
+        return (int) Math.max(0L, Math.min(size, mask + 1));
+    }
+
+    /**
+     * Returns the capacity of the buffer.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+}
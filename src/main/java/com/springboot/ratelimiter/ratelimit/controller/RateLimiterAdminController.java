@@ -0,0 +1,65 @@
+package com.springboot.ratelimiter.ratelimit.controller;
+
+import com.springboot.ratelimiter.common.model.dto.response.CustomResponse;
+import com.springboot.ratelimiter.ratelimit.payload.response.RateLimitClearResponse;
+import com.springboot.ratelimiter.ratelimit.payload.response.RateLimitKeyStateResponse;
+import com.springboot.ratelimiter.ratelimit.service.RateLimiterAdminService;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller named {@link RateLimiterAdminController} for operating on rate limiter state.
+ * This controller provides endpoints to inspect and reset a single rate limiter key,
+ * as well as clear all keys matching a pattern.
+ * The endpoints are neither authenticated nor rate limited, so they are only registered when
+ * {@code rate.limiter.admin.enabled} is set and must be kept off the public network.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "rate.limiter.admin", name = "enabled", havingValue = "true")
+@RequestMapping("/api/v1/admin/rate-limiter")
+@RequiredArgsConstructor
+public class RateLimiterAdminController {
+
+    private final RateLimiterAdminService rateLimiterAdminService;
+
+    /**
+     * Endpoint to retrieve the counter and TTL of a rate limiter key.
+     *
+     * @param name The key name without the rate limiter prefix.
+     * @return CustomResponse with the state of the key.
+     */
+    @GetMapping("/keys/{name}")
+    public CustomResponse<RateLimitKeyStateResponse> getKeyState(@PathVariable @NotBlank final String name) {
+        final RateLimitKeyStateResponse keyState = rateLimiterAdminService.getKeyState(name);
+        return CustomResponse.ok(keyState);
+    }
+
+    /**
+     * Endpoint to reset a single rate limiter key.
+     *
+     * @param name The key name without the rate limiter prefix.
+     * @return CustomResponse indicating successful reset.
+     */
+    @DeleteMapping("/keys/{name}")
+    public CustomResponse<String> resetKey(@PathVariable @NotBlank final String name) {
+        rateLimiterAdminService.resetKey(name);
+        return CustomResponse.ok("Rate limiter key is reset: " + name);
+    }
+
+    /**
+     * Endpoint to clear all rate limiter keys matching a pattern.
+     *
+     * @param pattern The glob-style pattern without the rate limiter prefix.
+     * @return CustomResponse with the number of cleared keys.
+     */
+    @DeleteMapping("/keys")
+    public CustomResponse<RateLimitClearResponse> clearKeys(@RequestParam @NotBlank final String pattern) {
+        final RateLimitClearResponse clearResponse = rateLimiterAdminService.clearKeys(pattern);
+        return CustomResponse.ok(clearResponse);
+    }
+
+}
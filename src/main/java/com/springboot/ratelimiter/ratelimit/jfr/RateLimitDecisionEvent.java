@@ -0,0 +1,84 @@
+package com.springboot.ratelimiter.ratelimit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event named {@link RateLimitDecisionEvent} emitted for every rate limit decision.
+ * The event is disabled by default and is switched on through JFR settings, see {@code jfr/ratelimiter.jfc}.
+ */
+@Name(RateLimitDecisionEvent.NAME)
+@Label("Rate Limit Decision")
+@Category({"Rate Limiter"})
+@Description("Outcome and duration of a single rate limit check")
+@Enabled(false)
+@StackTrace(false)
+public class RateLimitDecisionEvent extends Event {
+
+    public static final String NAME = "com.springboot.ratelimiter.RateLimitDecision";
+
+    @Label("Key Hash")
+    @Description("Hash of the rate limiter key, so that client identifiers are not recorded")
+    int keyHash;
+
+    @Label("Policy")
+    String policy;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Outcome")
+    @Description("ALLOWED, REJECTED, or ERROR when no decision could be taken")
+    String outcome;
+
+    @Label("Error")
+    @Description("Class of the exception that prevented a decision, if any")
+    String error;
+
+    /**
+     * Ends the event and commits it if it is enabled and passes the configured threshold.
+     *
+     * @param key       the rate limiter key
+     * @param policy    the name of the applied policy
+     * @param algorithm the name of the applied algorithm
+     * @param allowed   whether the request was allowed
+     */
+    public void complete(final String key, final String policy, final String algorithm, final boolean allowed) {
+        complete(key, policy, algorithm, allowed ? "ALLOWED" : "REJECTED", null);
+    }
+
+    /**
+     * Ends the event for a check that failed without a decision, e.g. because the Redis bulkhead was full or
+     * Redis could not be reached, and commits it if it is enabled and passes the configured threshold.
+     *
+     * @param key       the rate limiter key
+     * @param policy    the name of the applied policy
+     * @param algorithm the name of the applied algorithm
+     * @param error     the failure of the check
+     */
+    public void fail(final String key, final String policy, final String algorithm, final Throwable error) {
+        complete(key, policy, algorithm, "ERROR", error.getClass().getName());
+    }
+
+    private void complete(final String key, final String policy, final String algorithm,
+                          final String outcome, final String error) {
+
+        end();
+
+        if (shouldCommit()) {
+            this.keyHash = key.hashCode();
+            this.policy = policy;
+            this.algorithm = algorithm;
+            this.outcome = outcome;
+            this.error = error;
+            commit();
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.springboot.ratelimiter.ratelimit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * Java Flight Recorder event named {@link RedisCommandEvent} emitted for every Redis command issued by the rate limiter.
+ * The event is disabled by default and is switched on through JFR settings, see {@code jfr/ratelimiter.jfc}.
+ */
+@Name(RedisCommandEvent.NAME)
+@Label("Rate Limiter Redis Command")
+@Category({"Rate Limiter", "Redis"})
+@Description("Redis command issued while checking a rate limit")
+@Enabled(false)
+@StackTrace(false)
+public class RedisCommandEvent extends Event {
+
+    public static final String NAME = "com.springboot.ratelimiter.RedisCommand";
+
+    @Label("Command")
+    String command;
+
+    @Label("Key Hash")
+    @Description("Hash of the Redis key, so that client identifiers are not recorded")
+    int keyHash;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Runs a Redis command and records it as a {@link RedisCommandEvent} when the event is enabled.
+     *
+     * @param command   the Redis command name
+     * @param key       the Redis key the command operates on
+     * @param operation the operation issuing the command
+     * @param <T>       the type of the command result
+     * @return the command result
+     */
+    public static <T> T record(final String command, final String key, final Supplier<T> operation) {
+
+        final RedisCommandEvent event = new RedisCommandEvent();
+        if (!event.isEnabled()) {
+            return operation.get();
+        }
+
+        event.begin();
+        boolean succeeded = false;
+        try {
+            final T result = operation.get();
+            succeeded = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.command = command;
+                event.keyHash = key.hashCode();
+                event.succeeded = succeeded;
+                event.commit();
+            }
+        }
+
+    }
+
+    /**
+     * Runs a Redis command without a result and records it as a {@link RedisCommandEvent} when the event is enabled.
+     *
+     * @param command   the Redis command name
+     * @param key       the Redis key the command operates on
+     * @param operation the operation issuing the command
+     */
+    public static void run(final String command, final String key, final Runnable operation) {
+        record(command, key, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.springboot.ratelimiter.ratelimit.payload.response;
+
+import lombok.*;
+
+/**
+ * DTO named {@link RateLimitClearResponse} for the result of a bulk clear of rate limiter keys.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitClearResponse {
+
+    private String pattern;
+    private Long clearedKeyCount;
+
+}
@@ -0,0 +1,18 @@
+package com.springboot.ratelimiter.ratelimit.payload.response;
+
+import lombok.*;
+
+/**
+ * DTO named {@link RateLimitKeyStateResponse} for the current state of a rate limiter key, including its counter and TTL.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitKeyStateResponse {
+
+    private String key;
+    private Long count;
+    private Long ttlSeconds;
+
+}
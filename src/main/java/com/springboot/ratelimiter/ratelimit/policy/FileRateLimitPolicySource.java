@@ -0,0 +1,69 @@
+package com.springboot.ratelimiter.ratelimit.policy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Component named {@link FileRateLimitPolicySource} watching an optional policy file.
+ * When the file changes, its document is applied locally and republished through {@link RedisRateLimitPolicySource}
+ * so that every node picks it up.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileRateLimitPolicySource {
+
+    private final RateLimitPolicyRegistry policyRegistry;
+
+    private final RedisRateLimitPolicySource redisRateLimitPolicySource;
+
+    @Value("${rate.limiter.policy.file:}")
+    private String policyFile;
+
+    private FileTime lastModified;
+
+    /**
+     * Checks the policy file for changes and applies it when it was modified since the last check.
+     */
+    @Scheduled(fixedDelayString = "${rate.limiter.policy.file-poll-interval-millis:2000}")
+    public void pollPolicyFile() {
+
+        if (StringUtils.isBlank(policyFile)) {
+            return;
+        }
+
+        final Path path = Path.of(policyFile);
+
+        try {
+
+            if (!Files.isRegularFile(path)) {
+                return;
+            }
+
+            final FileTime modified = Files.getLastModifiedTime(path);
+            if (modified.equals(lastModified)) {
+                return;
+            }
+            lastModified = modified;
+
+            final String document = Files.readString(path);
+            if (policyRegistry.reload(document)) {
+                redisRateLimitPolicySource.publish(document);
+            }
+
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not apply rate limit policy file {}", path, ex);
+        }
+
+    }
+
+}
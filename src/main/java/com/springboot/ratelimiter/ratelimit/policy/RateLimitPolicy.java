@@ -0,0 +1,28 @@
+package com.springboot.ratelimiter.ratelimit.policy;
+
+/**
+ * Record named {@link RateLimitPolicy} describing a fixed window rate limit.
+ *
+ * @param name          the policy name, also used as the rate limiter key suffix
+ * @param maxRequests   the maximum number of requests allowed per window
+ * @param windowSeconds the window length in seconds
+ */
+public record RateLimitPolicy(String name, int maxRequests, int windowSeconds) {
+
+    public RateLimitPolicy {
+
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Policy name is mandatory");
+        }
+
+        if (maxRequests < 1) {
+            throw new IllegalArgumentException("Max requests must be bigger than 0 for policy " + name);
+        }
+
+        if (windowSeconds < 1) {
+            throw new IllegalArgumentException("Window seconds must be bigger than 0 for policy " + name);
+        }
+
+    }
+
+}
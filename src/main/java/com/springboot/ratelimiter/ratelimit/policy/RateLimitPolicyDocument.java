@@ -0,0 +1,12 @@
+package com.springboot.ratelimiter.ratelimit.policy;
+
+import java.util.List;
+
+/**
+ * Record named {@link RateLimitPolicyDocument} representing the JSON document policies are loaded from,
+ * whether it comes from the policy file, the Redis config key or a pub/sub message.
+ *
+ * @param policies the policies
+ */
+public record RateLimitPolicyDocument(List<RateLimitPolicy> policies) {
+}
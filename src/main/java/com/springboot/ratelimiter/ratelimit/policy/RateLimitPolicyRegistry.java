@@ -0,0 +1,105 @@
+package com.springboot.ratelimiter.ratelimit.policy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Component named {@link RateLimitPolicyRegistry} holding the {@link RateLimitPolicySnapshot} in effect.
+ * Readers get the snapshot through a single volatile read and never lock; reloads build a new snapshot
+ * and publish it by swapping the reference.
+ * Single-user operations charge one permit per request against the {@value #DEFAULT_POLICY_NAME} policy, while
+ * bulk operations charge one permit per record against the {@value #BULK_POLICY_NAME} policy.
+ */
+@Slf4j
+@Component
+public class RateLimitPolicyRegistry {
+
+    public static final String DEFAULT_POLICY_NAME = "user_creation";
+
+    public static final String BULK_POLICY_NAME = "user_bulk";
+
+    private final ObjectMapper objectMapper;
+
+    private final RateLimitPolicy defaultPolicy;
+
+    private final RateLimitPolicy bulkPolicy;
+
+    private volatile RateLimitPolicySnapshot snapshot;
+
+    public RateLimitPolicyRegistry(final ObjectMapper objectMapper,
+                                   @Value("${rate.limiter.max.requests}") final int maxRequests,
+                                   @Value("${rate.limiter.time.window.seconds}") final int windowSeconds,
+                                   @Value("${rate.limiter.bulk.max.records:20000}") final int bulkMaxRecords,
+                                   @Value("${rate.limiter.bulk.time.window.seconds:60}") final int bulkWindowSeconds) {
+
+        this.objectMapper = objectMapper;
+        this.defaultPolicy = new RateLimitPolicy(DEFAULT_POLICY_NAME, maxRequests, windowSeconds);
+        this.bulkPolicy = new RateLimitPolicy(BULK_POLICY_NAME, bulkMaxRecords, bulkWindowSeconds);
+        this.snapshot = RateLimitPolicySnapshot.of(0L, List.of(defaultPolicy, bulkPolicy));
+
+    }
+
+    /**
+     * Returns the snapshot in effect.
+     *
+     * @return the current snapshot
+     */
+    public RateLimitPolicySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the policy with the given name from the snapshot in effect, falling back to the default policy.
+     *
+     * @param name the policy name
+     * @return the policy
+     */
+    public RateLimitPolicy getPolicy(final String name) {
+        final RateLimitPolicy policy = snapshot.get(name);
+        return policy != null ? policy : defaultPolicy;
+    }
+
+    /**
+     * Parses a {@link RateLimitPolicyDocument} and swaps in a new snapshot built from it.
+     * Policies missing from the document keep their configured defaults. Invalid documents are rejected
+     * and the snapshot in effect is kept.
+     *
+     * @param document the JSON policy document
+     * @return true if a new snapshot was swapped in, false if the document was rejected
+     */
+    public synchronized boolean reload(final String document) {
+
+        final RateLimitPolicyDocument policyDocument;
+        try {
+            policyDocument = objectMapper.readValue(document, RateLimitPolicyDocument.class);
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            log.warn("Rejected rate limit policy document: {}", ex.getMessage());
+            return false;
+        }
+
+        if (policyDocument == null || policyDocument.policies() == null) {
+            log.warn("Rejected rate limit policy document without policies");
+            return false;
+        }
+
+        final Map<String, RateLimitPolicy> policies = new HashMap<>();
+        policies.put(defaultPolicy.name(), defaultPolicy);
+        policies.put(bulkPolicy.name(), bulkPolicy);
+        policyDocument.policies().forEach(policy -> policies.put(policy.name(), policy));
+
+        final RateLimitPolicySnapshot next = RateLimitPolicySnapshot.of(snapshot.version() + 1, policies.values());
+        snapshot = next;
+
+        log.info("Swapped in rate limit policy snapshot {} with policies {}", next.version(), next.policies().values());
+        return true;
+
+    }
+
+}
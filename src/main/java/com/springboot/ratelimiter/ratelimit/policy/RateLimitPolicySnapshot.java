@@ -0,0 +1,43 @@
+package com.springboot.ratelimiter.ratelimit.policy;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable record named {@link RateLimitPolicySnapshot} holding the complete set of policies in effect.
+ * Snapshots are never modified; a reload builds a new snapshot and swaps it in.
+ *
+ * @param version  the local version of the snapshot, incremented on every swap
+ * @param policies the policies by name
+ */
+public record RateLimitPolicySnapshot(long version, Map<String, RateLimitPolicy> policies) {
+
+    public RateLimitPolicySnapshot {
+        policies = Map.copyOf(policies);
+    }
+
+    /**
+     * Creates a snapshot from the given policies.
+     *
+     * @param version  the snapshot version
+     * @param policies the policies
+     * @return the snapshot
+     */
+    public static RateLimitPolicySnapshot of(final long version, final Collection<RateLimitPolicy> policies) {
+        return new RateLimitPolicySnapshot(version, policies.stream()
+                .collect(Collectors.toMap(RateLimitPolicy::name, Function.identity())));
+    }
+
+    /**
+     * Returns the policy with the given name.
+     *
+     * @param name the policy name
+     * @return the policy, or null if the snapshot has no such policy
+     */
+    public RateLimitPolicy get(final String name) {
+        return policies.get(name);
+    }
+
+}
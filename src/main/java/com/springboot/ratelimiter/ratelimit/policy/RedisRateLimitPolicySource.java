@@ -0,0 +1,86 @@
+package com.springboot.ratelimiter.ratelimit.policy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Component named {@link RedisRateLimitPolicySource} keeping every node's {@link RateLimitPolicyRegistry} in sync.
+ * The policy document is stored under a Redis config key, and every change is announced on a pub/sub channel
+ * carrying the new document, so nodes apply it within one message round trip.
+ */
+@Slf4j
+@Component
+public class RedisRateLimitPolicySource implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final RateLimitPolicyRegistry policyRegistry;
+
+    private final String configKey;
+
+    private final String channel;
+
+    public RedisRateLimitPolicySource(final StringRedisTemplate stringRedisTemplate,
+                                      final RateLimitPolicyRegistry policyRegistry,
+                                      final RedisMessageListenerContainer redisMessageListenerContainer,
+                                      @Value("${rate.limiter.policy.redis-key:rate_limiter_config:policies}") final String configKey,
+                                      @Value("${rate.limiter.policy.redis-channel:rate_limiter:policies}") final String channel) {
+
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.policyRegistry = policyRegistry;
+        this.configKey = configKey;
+        this.channel = channel;
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+
+    }
+
+    /**
+     * Loads the policy document stored under the config key once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromConfigKey() {
+
+        try {
+            final String document = stringRedisTemplate.opsForValue().get(configKey);
+            if (document != null) {
+                policyRegistry.reload(document);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not load rate limit policies from Redis key {}", configKey, ex);
+        }
+
+    }
+
+    /**
+     * Stores a policy document under the config key and announces it to all nodes, including this one.
+     *
+     * @param document the JSON policy document
+     */
+    public void publish(final String document) {
+        stringRedisTemplate.opsForValue().set(configKey, document);
+        stringRedisTemplate.convertAndSend(channel, document);
+    }
+
+    /**
+     * Applies a policy document announced on the pub/sub channel.
+     *
+     * @param message the message carrying the JSON policy document
+     * @param pattern the matched pattern
+     */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        policyRegistry.reload(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.springboot.ratelimiter.ratelimit.service;
+
+import com.springboot.ratelimiter.ratelimit.payload.response.RateLimitClearResponse;
+import com.springboot.ratelimiter.ratelimit.payload.response.RateLimitKeyStateResponse;
+
+/**
+ * Service interface named {@link RateLimiterAdminService} for inspecting and resetting rate limiter state.
+ */
+public interface RateLimiterAdminService {
+
+    /**
+     * Retrieves the current counter and TTL of a rate limiter key.
+     *
+     * @param name the key name without the rate limiter prefix
+     * @return the state of the key
+     */
+    RateLimitKeyStateResponse getKeyState(String name);
+
+    /**
+     * Resets a single rate limiter key.
+     *
+     * @param name the key name without the rate limiter prefix
+     */
+    void resetKey(String name);
+
+    /**
+     * Clears all rate limiter keys matching the given pattern.
+     *
+     * @param pattern the glob-style pattern without the rate limiter prefix
+     * @return the result of the clear
+     */
+    RateLimitClearResponse clearKeys(String pattern);
+
+}
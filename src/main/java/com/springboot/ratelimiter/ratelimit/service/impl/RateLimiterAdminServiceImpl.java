@@ -0,0 +1,138 @@
+package com.springboot.ratelimiter.ratelimit.service.impl;
+
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitKeyNotFoundException;
+import com.springboot.ratelimiter.ratelimit.payload.response.RateLimitClearResponse;
+import com.springboot.ratelimiter.ratelimit.payload.response.RateLimitKeyStateResponse;
+import com.springboot.ratelimiter.ratelimit.service.RateLimiterAdminService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class named {@link RateLimiterAdminServiceImpl} implementing for inspecting and resetting rate limiter state.
+ * Bulk clears walk the keyspace with incremental {@code SCAN} and remove keys with batched {@code UNLINK},
+ * so Redis never blocks on a single large command. All operations are confined to the counters under the rate
+ * limiter prefix; the policy config key is never read or removed, even when it is configured under that prefix.
+ */
+@Service
+@RequiredArgsConstructor
+public class RateLimiterAdminServiceImpl implements RateLimiterAdminService {
+
+    static final String KEY_PREFIX = "rate_limiter:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${rate.limiter.admin.scan-count:500}")
+    private int scanCount;
+
+    @Value("${rate.limiter.admin.unlink-batch-size:500}")
+    private int unlinkBatchSize;
+
+    @Value("${rate.limiter.policy.redis-key:rate_limiter_config:policies}")
+    private String policyConfigKey;
+
+    /**
+     * Retrieves the current counter and TTL of a rate limiter key.
+     *
+     * @param name the key name without the rate limiter prefix
+     * @return the state of the key
+     */
+    @Override
+    public RateLimitKeyStateResponse getKeyState(String name) {
+
+        final String key = KEY_PREFIX + name;
+        final Object count = key.equals(policyConfigKey) ? null : redisTemplate.opsForValue().get(key);
+
+        if (!(count instanceof Number counter)) {
+            throw new RateLimitKeyNotFoundException(key);
+        }
+
+        return RateLimitKeyStateResponse.builder()
+                .key(key)
+                .count(counter.longValue())
+                .ttlSeconds(redisTemplate.getExpire(key, TimeUnit.SECONDS))
+                .build();
+
+    }
+
+    /**
+     * Resets a single rate limiter key.
+     *
+     * @param name the key name without the rate limiter prefix
+     */
+    @Override
+    public void resetKey(String name) {
+
+        final String key = KEY_PREFIX + name;
+        if (key.equals(policyConfigKey)) {
+            throw new RateLimitKeyNotFoundException(key);
+        }
+
+        final Long unlinked = redisTemplate.unlink(List.of(key));
+
+        if (unlinked == null || unlinked == 0L) {
+            throw new RateLimitKeyNotFoundException(key);
+        }
+
+    }
+
+    /**
+     * Clears all rate limiter keys matching the given pattern.
+     *
+     * @param pattern the glob-style pattern without the rate limiter prefix
+     * @return the result of the clear
+     */
+    @Override
+    public RateLimitClearResponse clearKeys(String pattern) {
+
+        final String keyPattern = KEY_PREFIX + pattern;
+        final ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(keyPattern)
+                .count(scanCount)
+                .build();
+
+        long cleared = 0L;
+        final List<String> batch = new ArrayList<>(unlinkBatchSize);
+
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                final String key = cursor.next();
+                if (key.equals(policyConfigKey)) {
+                    continue;
+                }
+                batch.add(key);
+                if (batch.size() >= unlinkBatchSize) {
+                    cleared += unlink(batch);
+                }
+            }
+        }
+
+        cleared += unlink(batch);
+
+        return RateLimitClearResponse.builder()
+                .pattern(keyPattern)
+                .clearedKeyCount(cleared)
+                .build();
+
+    }
+
+    private long unlink(final List<String> batch) {
+
+        if (batch.isEmpty()) {
+            return 0L;
+        }
+
+        final Long unlinked = redisTemplate.unlink(batch);
+        batch.clear();
+        return unlinked != null ? unlinked : 0L;
+
+    }
+
+}
@@ -6,7 +6,7 @@ import lombok.experimental.SuperBuilder;
 
 /**
  * Domain Model class named {@link User} representing a User, extending from BaseDomainModel.
- * Includes fields for id, name, and email.
+ * Includes fields for id, name, email, and the version used for optimistic locking.
  */
 @Getter
 @Setter
@@ -19,5 +19,6 @@ public class User extends BaseDomainModel {
     private String id;
     private String name;
     private String email;
+    private Long version;
 
 }
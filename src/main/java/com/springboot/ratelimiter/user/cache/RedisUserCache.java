@@ -0,0 +1,125 @@
+package com.springboot.ratelimiter.user.cache;
+
+import com.springboot.ratelimiter.common.bulkhead.Bulkhead;
+import com.springboot.ratelimiter.config.BulkheadConfig;
+import com.springboot.ratelimiter.user.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Cache class named {@link RedisUserCache} implementing {@link UserCache} on top of Redis.
+ * Entries expire after the configured TTL. Redis failures are logged and treated as cache misses,
+ * so the database stays the source of truth. Reads and writes run within the Redis {@link Bulkhead} and are
+ * skipped when it is full; evictions bypass it, since a skipped eviction would leave a stale entry behind.
+ * <p>
+ * An eviction first records the lowest version that may be cached again in a short-lived marker, and then removes
+ * the entry. A put writes the entry first and then checks the marker, removing its own write when the user is older.
+ * Whichever order the commands of a concurrent put and eviction interleave in, a user loaded before the eviction
+ * does not survive in the cache, as long as the load finishes within the marker TTL.
+ */
+@Slf4j
+@Component
+public class RedisUserCache implements UserCache {
+
+    static final String KEY_PREFIX = "user:";
+
+    static final String EVICTED_KEY_PREFIX = "user_evicted:";
+
+    private final RedisTemplate<String, User> userRedisTemplate;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Duration ttl;
+
+    private final Duration evictionMarkerTtl;
+
+    private final Bulkhead redisBulkhead;
+
+    public RedisUserCache(final RedisTemplate<String, User> userRedisTemplate,
+                          final StringRedisTemplate stringRedisTemplate,
+                          @Value("${user.cache.ttl-seconds:600}") final long ttlSeconds,
+                          @Value("${user.cache.eviction-marker-seconds:30}") final long evictionMarkerSeconds,
+                          @Qualifier(BulkheadConfig.REDIS_BULKHEAD) final Bulkhead redisBulkhead) {
+        this.userRedisTemplate = userRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.evictionMarkerTtl = Duration.ofSeconds(evictionMarkerSeconds);
+        this.redisBulkhead = redisBulkhead;
+    }
+
+    @Override
+    public Optional<User> get(final String id) {
+        try {
+            return Optional.ofNullable(redisBulkhead.call(() -> userRedisTemplate.opsForValue().get(KEY_PREFIX + id)));
+        } catch (RuntimeException ex) {
+            log.warn("Could not read user {} from cache", id, ex);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean put(final User user) {
+
+        final String key = KEY_PREFIX + user.getId();
+
+        try {
+            return redisBulkhead.call(() -> {
+                userRedisTemplate.opsForValue().set(key, user, ttl);
+                if (isOlderThanEviction(user)) {
+                    userRedisTemplate.unlink(key);
+                    return false;
+                }
+                return true;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Could not write user {} to cache", user.getId(), ex);
+            unlinkQuietly(key);
+            return false;
+        }
+
+    }
+
+    @Override
+    public void evict(final String id) {
+        evict(id, Long.MAX_VALUE);
+    }
+
+    @Override
+    public void evict(final String id, final long version) {
+
+        try {
+            stringRedisTemplate.opsForValue().set(EVICTED_KEY_PREFIX + id, Long.toString(version), evictionMarkerTtl);
+        } catch (RuntimeException ex) {
+            log.warn("Could not mark user {} as evicted", id, ex);
+        }
+
+        try {
+            userRedisTemplate.unlink(KEY_PREFIX + id);
+        } catch (RuntimeException ex) {
+            log.warn("Could not evict user {} from cache", id, ex);
+        }
+
+    }
+
+    private boolean isOlderThanEviction(final User user) {
+        final String evictedVersion = stringRedisTemplate.opsForValue().get(EVICTED_KEY_PREFIX + user.getId());
+        return evictedVersion != null
+                && (user.getVersion() == null || user.getVersion() < Long.parseLong(evictedVersion));
+    }
+
+    private void unlinkQuietly(final String key) {
+        try {
+            userRedisTemplate.unlink(key);
+        } catch (RuntimeException ex) {
+            log.debug("Could not remove {} after a failed write", key, ex);
+        }
+    }
+
+}
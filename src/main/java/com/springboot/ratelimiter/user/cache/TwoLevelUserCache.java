@@ -0,0 +1,147 @@
+package com.springboot.ratelimiter.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.ratelimiter.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache class named {@link TwoLevelUserCache} implementing {@link UserCache} as a bounded in-process near-cache
+ * in front of the shared {@link RedisUserCache}.
+ * Hot users are served from local memory; evictions are broadcast on a Redis pub/sub channel so that other
+ * nodes drop their local copies. The local TTL bounds staleness should an invalidation message be lost.
+ */
+@Slf4j
+@Primary
+@Component
+public class TwoLevelUserCache implements UserCache, MessageListener {
+
+    private static final char MESSAGE_SEPARATOR = '|';
+
+    private final Cache<String, User> nearCache;
+
+    private final RedisUserCache redisUserCache;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String channel;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public TwoLevelUserCache(final RedisUserCache redisUserCache,
+                             final StringRedisTemplate stringRedisTemplate,
+                             final RedisMessageListenerContainer redisMessageListenerContainer,
+                             final MeterRegistry meterRegistry,
+                             @Value("${user.cache.near.max-size:10000}") final long maxSize,
+                             @Value("${user.cache.near.ttl-seconds:30}") final long ttlSeconds,
+                             @Value("${user.cache.near.invalidation-channel:user_cache:invalidation}") final String channel) {
+
+        this.redisUserCache = redisUserCache;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = channel;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "user.near");
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+
+    }
+
+    @Override
+    public Optional<User> get(final String id) {
+
+        final User local = nearCache.getIfPresent(id);
+        if (local != null) {
+            return Optional.of(local);
+        }
+
+        final Optional<User> shared = redisUserCache.get(id);
+        shared.ifPresent(user -> nearCache.put(id, user));
+        return shared;
+
+    }
+
+    /**
+     * Stores a user in both levels. The local copy is only kept once the shared cache accepted the user, since only
+     * the shared cache knows whether the user is older than a recent eviction.
+     *
+     * @param user the user to cache
+     * @return true if the user was cached
+     */
+    @Override
+    public boolean put(final User user) {
+
+        if (!redisUserCache.put(user)) {
+            return false;
+        }
+
+        nearCache.put(user.getId(), user);
+        return true;
+
+    }
+
+    @Override
+    public void evict(final String id) {
+        nearCache.invalidate(id);
+        redisUserCache.evict(id);
+        broadcastInvalidation(id);
+    }
+
+    @Override
+    public void evict(final String id, final long version) {
+        nearCache.invalidate(id);
+        redisUserCache.evict(id, version);
+        broadcastInvalidation(id);
+    }
+
+    /**
+     * Drops the local copy of a user invalidated by another node.
+     *
+     * @param message the message carrying the originating node and the user identifier
+     * @param pattern the matched pattern
+     */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+
+        final String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        final int separator = body.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+
+        final String originNodeId = body.substring(0, separator);
+        if (!nodeId.equals(originNodeId)) {
+            nearCache.invalidate(body.substring(separator + 1));
+        }
+
+    }
+
+    private void broadcastInvalidation(final String id) {
+
+        try {
+            stringRedisTemplate.convertAndSend(channel, nodeId + MESSAGE_SEPARATOR + id);
+        } catch (RuntimeException ex) {
+            log.warn("Could not broadcast invalidation of user {}", id, ex);
+        }
+
+    }
+
+}
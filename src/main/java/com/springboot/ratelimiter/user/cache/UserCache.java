@@ -0,0 +1,45 @@
+package com.springboot.ratelimiter.user.cache;
+
+import com.springboot.ratelimiter.user.User;
+
+import java.util.Optional;
+
+/**
+ * Cache interface named {@link UserCache} for keeping mapped {@link User} domain models by their identifier.
+ */
+public interface UserCache {
+
+    /**
+     * Retrieves a cached user.
+     *
+     * @param id the identifier of the user
+     * @return the cached user, or an empty Optional on a cache miss
+     */
+    Optional<User> get(String id);
+
+    /**
+     * Stores a user in the cache, unless a recent eviction requires a newer version of it.
+     *
+     * @param user the user to cache
+     * @return true if the user was cached, false if it was older than a recent eviction or could not be stored
+     */
+    boolean put(User user);
+
+    /**
+     * Removes a deleted user from the cache. Loads that started before the eviction cannot cache the user again
+     * for a while.
+     *
+     * @param id the identifier of the user to remove
+     */
+    void evict(String id);
+
+    /**
+     * Removes an updated user from the cache. For a while afterwards, only copies of at least the given version
+     * are cached, so a load that started before the update cannot bring back the previous version.
+     *
+     * @param id      the identifier of the user to remove
+     * @param version the version the user was updated to
+     */
+    void evict(String id, long version);
+
+}
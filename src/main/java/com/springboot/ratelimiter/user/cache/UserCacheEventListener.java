@@ -0,0 +1,61 @@
+package com.springboot.ratelimiter.user.cache;
+
+import com.springboot.ratelimiter.user.event.UserCreatedEvent;
+import com.springboot.ratelimiter.user.event.UserDeletedEvent;
+import com.springboot.ratelimiter.user.event.UserUpdatedEvent;
+import com.springboot.ratelimiter.user.event.UsersDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Listener named {@link UserCacheEventListener} keeping the {@link UserCache} in line with committed user changes.
+ * All handlers run after the surrounding transaction commits, so a rolled back write never touches the cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheEventListener {
+
+    private final UserCache userCache;
+
+    /**
+     * Populates the cache with a newly created user.
+     *
+     * @param event the user created event
+     */
+    @TransactionalEventListener
+    public void onUserCreated(final UserCreatedEvent event) {
+        userCache.put(event.user());
+    }
+
+    /**
+     * Invalidates the cached copy of an updated user, so only its new version can be cached again.
+     *
+     * @param event the user updated event
+     */
+    @TransactionalEventListener
+    public void onUserUpdated(final UserUpdatedEvent event) {
+        userCache.evict(event.id(), event.version());
+    }
+
+    /**
+     * Invalidates the cached copy of a deleted user.
+     *
+     * @param event the user deleted event
+     */
+    @TransactionalEventListener
+    public void onUserDeleted(final UserDeletedEvent event) {
+        userCache.evict(event.id());
+    }
+
+    /**
+     * Invalidates the cached copies of a batch of deleted users.
+     *
+     * @param event the users deleted event
+     */
+    @TransactionalEventListener
+    public void onUsersDeleted(final UsersDeletedEvent event) {
+        event.ids().forEach(userCache::evict);
+    }
+
+}
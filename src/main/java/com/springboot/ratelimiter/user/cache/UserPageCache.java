@@ -0,0 +1,112 @@
+package com.springboot.ratelimiter.user.cache;
+
+import com.springboot.ratelimiter.common.bulkhead.Bulkhead;
+import com.springboot.ratelimiter.config.BulkheadConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Cache class named {@link UserPageCache} keeping rendered, compressed user list pages in Redis.
+ * Every page is stored under the current value of a global users version, which every committed write increments.
+ * Invalidating all pages therefore costs a single INCR: pages of older versions are never read again and expire
+ * after the configured TTL. As in {@link RedisUserCache}, Redis failures are logged and treated as cache misses,
+ * reads and writes run within the Redis {@link Bulkhead}, and invalidations bypass it.
+ */
+@Slf4j
+@Component
+public class UserPageCache {
+
+    static final String VERSION_KEY = "users:version";
+
+    static final String KEY_PREFIX = "users:page:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final RedisTemplate<String, byte[]> bodyRedisTemplate;
+
+    private final Duration ttl;
+
+    private final Bulkhead redisBulkhead;
+
+    public UserPageCache(final StringRedisTemplate stringRedisTemplate,
+                         final RedisTemplate<String, byte[]> bodyRedisTemplate,
+                         @Value("${user.page-cache.ttl-seconds:60}") final long ttlSeconds,
+                         @Qualifier(BulkheadConfig.REDIS_BULKHEAD) final Bulkhead redisBulkhead) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.bodyRedisTemplate = bodyRedisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.redisBulkhead = redisBulkhead;
+    }
+
+    /**
+     * Retrieves the current users version. A page must be read and written under the version read before
+     * its query ran, so a page rendered from data older than a concurrent write is never served afterwards.
+     *
+     * @return the current users version, or an empty OptionalLong if Redis could not be read
+     */
+    public OptionalLong currentVersion() {
+        try {
+            final String version = redisBulkhead.call(() -> stringRedisTemplate.opsForValue().get(VERSION_KEY));
+            return OptionalLong.of(version != null ? Long.parseLong(version) : 0L);
+        } catch (RuntimeException ex) {
+            log.warn("Could not read the users version from cache", ex);
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Retrieves a cached page body.
+     *
+     * @param version the users version the page belongs to
+     * @param pageKey the key identifying the page within a version
+     * @return the cached, compressed body, or an empty Optional on a cache miss
+     */
+    public Optional<byte[]> get(final long version, final String pageKey) {
+        try {
+            return Optional.ofNullable(redisBulkhead.call(
+                    () -> bodyRedisTemplate.opsForValue().get(key(version, pageKey))));
+        } catch (RuntimeException ex) {
+            log.warn("Could not read user page {} from cache", pageKey, ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a page body.
+     *
+     * @param version the users version read before the page was queried
+     * @param pageKey the key identifying the page within a version
+     * @param body    the compressed body
+     */
+    public void put(final long version, final String pageKey, final byte[] body) {
+        try {
+            redisBulkhead.run(() -> bodyRedisTemplate.opsForValue().set(key(version, pageKey), body, ttl));
+        } catch (RuntimeException ex) {
+            log.warn("Could not write user page {} to cache", pageKey, ex);
+        }
+    }
+
+    /**
+     * Invalidates all cached pages by incrementing the users version.
+     */
+    public void invalidateAll() {
+        try {
+            stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+        } catch (RuntimeException ex) {
+            log.warn("Could not increment the users version", ex);
+        }
+    }
+
+    private static String key(final long version, final String pageKey) {
+        return KEY_PREFIX + version + ':' + pageKey;
+    }
+
+}
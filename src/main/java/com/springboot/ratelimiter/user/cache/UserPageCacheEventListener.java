@@ -0,0 +1,72 @@
+package com.springboot.ratelimiter.user.cache;
+
+import com.springboot.ratelimiter.user.event.UserCreatedEvent;
+import com.springboot.ratelimiter.user.event.UserDeletedEvent;
+import com.springboot.ratelimiter.user.event.UserUpdatedEvent;
+import com.springboot.ratelimiter.user.event.UsersCreatedEvent;
+import com.springboot.ratelimiter.user.event.UsersDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Listener named {@link UserPageCacheEventListener} invalidating the {@link UserPageCache} after committed user changes.
+ * Any change may move users between pages or alter the totals, so every write invalidates all pages at once.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPageCacheEventListener {
+
+    private final UserPageCache userPageCache;
+
+    /**
+     * Invalidates the cached pages after a user has been created.
+     *
+     * @param event the user created event
+     */
+    @TransactionalEventListener
+    public void onUserCreated(final UserCreatedEvent event) {
+        userPageCache.invalidateAll();
+    }
+
+    /**
+     * Invalidates the cached pages after a batch of users has been created.
+     *
+     * @param event the users created event
+     */
+    @TransactionalEventListener
+    public void onUsersCreated(final UsersCreatedEvent event) {
+        userPageCache.invalidateAll();
+    }
+
+    /**
+     * Invalidates the cached pages after a user has been updated.
+     *
+     * @param event the user updated event
+     */
+    @TransactionalEventListener
+    public void onUserUpdated(final UserUpdatedEvent event) {
+        userPageCache.invalidateAll();
+    }
+
+    /**
+     * Invalidates the cached pages after a user has been deleted.
+     *
+     * @param event the user deleted event
+     */
+    @TransactionalEventListener
+    public void onUserDeleted(final UserDeletedEvent event) {
+        userPageCache.invalidateAll();
+    }
+
+    /**
+     * Invalidates the cached pages after a batch of users has been deleted.
+     *
+     * @param event the users deleted event
+     */
+    @TransactionalEventListener
+    public void onUsersDeleted(final UsersDeletedEvent event) {
+        userPageCache.invalidateAll();
+    }
+
+}
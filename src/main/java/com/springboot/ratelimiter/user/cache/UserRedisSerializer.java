@@ -0,0 +1,110 @@
+package com.springboot.ratelimiter.user.cache;
+
+import com.springboot.ratelimiter.user.User;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Redis serializer named {@link UserRedisSerializer} writing {@link User} as a compact binary record.
+ * The record starts with a format version byte followed by length-prefixed fields, which keeps cached
+ * entries several times smaller than the JSON written by the default value serializer and avoids reflection.
+ */
+public class UserRedisSerializer implements RedisSerializer<User> {
+
+    private static final byte FORMAT_VERSION = 2;
+
+    @Override
+    public byte[] serialize(final User user) {
+
+        if (user == null) {
+            return new byte[0];
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, user.getId());
+            writeString(out, user.getName());
+            writeString(out, user.getEmail());
+            writeDateTime(out, user.getCreatedAt());
+            writeDateTime(out, user.getUpdatedAt());
+            writeLong(out, user.getVersion());
+        } catch (IOException ex) {
+            throw new SerializationException("Could not serialize user " + user.getId(), ex);
+        }
+        return bytes.toByteArray();
+
+    }
+
+    @Override
+    public User deserialize(final byte[] bytes) {
+
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+
+            final byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new SerializationException("Unsupported cached user format version " + version);
+            }
+
+            return User.builder()
+                    .id(readString(in))
+                    .name(readString(in))
+                    .email(readString(in))
+                    .createdAt(readDateTime(in))
+                    .updatedAt(readDateTime(in))
+                    .version(readLong(in))
+                    .build();
+
+        } catch (IOException ex) {
+            throw new SerializationException("Could not deserialize cached user", ex);
+        }
+
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeLong(final DataOutputStream out, final Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeDateTime(final DataOutputStream out, final LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+    }
+
+}
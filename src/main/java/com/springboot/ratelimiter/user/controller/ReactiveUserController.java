@@ -0,0 +1,116 @@
+package com.springboot.ratelimiter.user.controller;
+
+import com.springboot.ratelimiter.common.model.dto.response.CustomPagingResponse;
+import com.springboot.ratelimiter.common.model.dto.response.CustomResponse;
+import com.springboot.ratelimiter.common.model.etag.WeakETag;
+import com.springboot.ratelimiter.common.model.page.CountMode;
+import com.springboot.ratelimiter.user.User;
+import com.springboot.ratelimiter.user.payload.request.CreateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UpdateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import com.springboot.ratelimiter.user.service.ReactiveUserService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.validator.constraints.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST controller named {@link ReactiveUserController} serving the user endpoints of {@link UserController}
+ * on WebFlux. It is only active when the application runs as a reactive web application,
+ * see the "reactive" profile.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+public class ReactiveUserController {
+
+    private final ReactiveUserService reactiveUserService;
+
+    /**
+     * Endpoint to create a new user.
+     *
+     * @param createUserRequest The request body containing user details.
+     * @return CustomResponse with the created user and HTTP status 201 (Created).
+     */
+    @PostMapping("/save")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<CustomResponse<User>> saveUser(@RequestBody @Valid final CreateUserRequest createUserRequest) {
+        return reactiveUserService.createUser(createUserRequest)
+                .map(CustomResponse::created);
+    }
+
+    /**
+     * Endpoint to retrieve a user by ID.
+     * Like {@link UserController#getUserById}, it answers a matching If-None-Match header with 304 (Not Modified).
+     * Reactive reads skip the user cache, so the validator is read from MySQL and only the serialization is saved.
+     *
+     * @param id       The unique identifier of the user.
+     * @param exchange The current exchange, used to evaluate its conditional headers.
+     * @return CustomResponse with the retrieved user, or an empty Mono if the client copy is still current.
+     */
+    @GetMapping("/{id}")
+    public Mono<CustomResponse<User>> getUserById(@PathVariable @UUID final String id,
+                                                  final ServerWebExchange exchange) {
+        return reactiveUserService.getUserById(id)
+                .filter(user -> !exchange.checkNotModified(WeakETag.of(user.getVersion(), user.getUpdatedAt())))
+                .map(CustomResponse::ok);
+    }
+
+    /**
+     * Endpoint to update an existing user.
+     *
+     * @param id                The unique identifier of the user to update.
+     * @param updateUserRequest The request body containing updated user details.
+     * @return CustomResponse with the updated user.
+     */
+    @PutMapping("/{id}")
+    public Mono<CustomResponse<User>> updateUser(@PathVariable @UUID final String id,
+                                                 @RequestBody @Valid final UpdateUserRequest updateUserRequest) {
+        return reactiveUserService.updateUser(id, updateUserRequest)
+                .map(CustomResponse::ok);
+    }
+
+    /**
+     * Endpoint to delete a user by ID.
+     *
+     * @param id The unique identifier of the user to delete.
+     * @return CustomResponse indicating successful deletion.
+     */
+    @DeleteMapping("/{id}")
+    public Mono<CustomResponse<String>> deleteUser(@PathVariable @UUID final String id) {
+        return reactiveUserService.deleteUserById(id)
+                .then(Mono.fromSupplier(() -> CustomResponse.ok("User is deleted by ID: " + id)));
+    }
+
+    /**
+     * Endpoint to retrieve a paginated list of users.
+     * It takes the same query parameters as {@link UserController#getUsers}, but reads every page from MySQL.
+     *
+     * @param page      The one-based page number.
+     * @param size      The maximum number of users to return.
+     * @param countMode How the totals of the page are counted.
+     * @return CustomResponse with a paginated response of users.
+     */
+    @GetMapping
+    public Mono<CustomResponse<CustomPagingResponse<UserResponse>>> getUsers(
+            @RequestParam(defaultValue = "1") @Min(1) final int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) final int size,
+            @RequestParam(defaultValue = "EXACT") final CountMode countMode) {
+
+        return reactiveUserService.getUserResponses(UserPagingRequest.of(page, size, countMode))
+                .map(userResponsePage -> CustomResponse.ok(CustomPagingResponse.<UserResponse>builder()
+                        .of(userResponsePage)
+                        .content(userResponsePage.getContent())
+                        .build()));
+
+    }
+
+}
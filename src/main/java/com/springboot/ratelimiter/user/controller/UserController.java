@@ -1,20 +1,48 @@
 package com.springboot.ratelimiter.user.controller;
 
+import com.springboot.ratelimiter.common.compression.Gzip;
 import com.springboot.ratelimiter.common.model.dto.response.CustomPagingResponse;
 import com.springboot.ratelimiter.common.model.dto.response.CustomResponse;
+import com.springboot.ratelimiter.common.model.etag.WeakETag;
 import com.springboot.ratelimiter.common.model.mapper.CustomPageToCustomPagingResponseMapper;
+import com.springboot.ratelimiter.common.model.page.CountMode;
 import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.common.timing.ServerTiming;
 import com.springboot.ratelimiter.user.User;
 import com.springboot.ratelimiter.user.payload.request.CreateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.CreateUsersBatchRequest;
+import com.springboot.ratelimiter.user.payload.request.DeleteUsersBatchRequest;
 import com.springboot.ratelimiter.user.payload.request.UpdateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UserImportFormat;
 import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
+import com.springboot.ratelimiter.user.payload.request.UserSearchField;
+import com.springboot.ratelimiter.user.payload.response.DeleteUsersBatchResponse;
+import com.springboot.ratelimiter.user.payload.response.UserImportResponse;
 import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import com.springboot.ratelimiter.user.service.UserExportService;
+import com.springboot.ratelimiter.user.service.UserImportService;
+import com.springboot.ratelimiter.user.service.UserPageService;
+import com.springboot.ratelimiter.user.service.UserSearchService;
 import com.springboot.ratelimiter.user.service.UserService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 /**
  * REST controller named {@link UserController} for managing user operations.
@@ -22,12 +50,21 @@ import org.springframework.web.bind.annotation.*;
  * as well as retrieve a paginated list of users.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
 
+    private final UserExportService userExportService;
+
+    private final UserImportService userImportService;
+
+    private final UserSearchService userSearchService;
+
+    private final UserPageService userPageService;
+
     private final CustomPageToCustomPagingResponseMapper customPageToCustomPagingResponseMapper =
             CustomPageToCustomPagingResponseMapper.initialize();
 
@@ -40,19 +77,42 @@ public class UserController {
     @PostMapping("/save")
     @ResponseStatus(HttpStatus.CREATED)
     public CustomResponse<User> saveUser(@RequestBody @Valid final CreateUserRequest createUserRequest) {
+        ServerTiming.handlerEntered();
         final User user = userService.createUser(createUserRequest);
         return CustomResponse.created(user);
     }
 
+    /**
+     * Endpoint to create several users at once.
+     *
+     * @param createUsersBatchRequest The request body containing the details of the users.
+     * @return CustomResponse with the created users and HTTP status 201 (Created).
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CustomResponse<List<User>> saveUsers(@RequestBody @Valid final CreateUsersBatchRequest createUsersBatchRequest) {
+        ServerTiming.handlerEntered();
+        final List<User> users = userService.createUsers(createUsersBatchRequest.getUsers());
+        return CustomResponse.created(users);
+    }
+
     /**
      * Endpoint to retrieve a user by ID.
+     * The response carries a weak ETag derived from the version and update time of the user. A request whose
+     * If-None-Match header still matches is answered with 304 (Not Modified) and no body; the validator comes
+     * from the cached user, so such a poll neither loads the entity nor serializes a response.
      *
-     * @param id The unique identifier of the user.
-     * @return CustomResponse with the retrieved user.
+     * @param id         The unique identifier of the user.
+     * @param webRequest The current request, used to evaluate its conditional headers.
+     * @return CustomResponse with the retrieved user, or null if the client copy is still current.
      */
     @GetMapping("/{id}")
-    public CustomResponse<User> getUserById(@PathVariable @UUID final String id) {
+    public CustomResponse<User> getUserById(@PathVariable @UUID final String id, final WebRequest webRequest) {
+        ServerTiming.handlerEntered();
         final User user = userService.getUserById(id);
+        if (webRequest.checkNotModified(WeakETag.of(user.getVersion(), user.getUpdatedAt()))) {
+            return null;
+        }
         return CustomResponse.ok(user);
     }
 
@@ -66,6 +126,7 @@ public class UserController {
     @PutMapping("/{id}")
     public CustomResponse<User> updateUser(@PathVariable @UUID final String id,
                                            @RequestBody @Valid final UpdateUserRequest updateUserRequest) {
+        ServerTiming.handlerEntered();
         final User user = userService.updateUser(id, updateUserRequest);
         return CustomResponse.ok(user);
     }
@@ -78,27 +139,166 @@ public class UserController {
      */
     @DeleteMapping("/{id}")
     public CustomResponse<String> deleteUser(@PathVariable @UUID final String id) {
+        ServerTiming.handlerEntered();
         userService.deleteUserById(id);
         return CustomResponse.ok("User is deleted by ID: " + id);
     }
 
+    /**
+     * Endpoint to delete several users at once.
+     * The users are deleted in a single statement; ids that do not belong to any user are ignored.
+     *
+     * @param deleteUsersBatchRequest The request body containing the ids of the users to delete.
+     * @return CustomResponse with the number of requested and deleted users.
+     */
+    @DeleteMapping("/batch")
+    public CustomResponse<DeleteUsersBatchResponse> deleteUsers(
+            @RequestBody @Valid final DeleteUsersBatchRequest deleteUsersBatchRequest) {
+
+        ServerTiming.handlerEntered();
+
+        final int deletedCount = userService.deleteUsersByIds(deleteUsersBatchRequest.getIds());
+
+        return CustomResponse.ok(DeleteUsersBatchResponse.builder()
+                .requestedCount(deleteUsersBatchRequest.getIds().size())
+                .deletedCount(deletedCount)
+                .build());
+
+    }
+
     /**
      * Endpoint to retrieve a paginated list of users.
+     * Paging is taken from query parameters, so the request can be cached. Rendered pages are kept gzip
+     * compressed and sent as they are to clients accepting gzip; other clients get them decompressed.
      *
-     * @param userPagingRequest The request body containing pagination parameters.
-     * @return CustomResponse with a paginated response of users.
+     * @param page           The one-based page number.
+     * @param size           The maximum number of users to return.
+     * @param countMode      How the totals of the page are counted.
+     * @param acceptEncoding The Accept-Encoding header of the request.
+     * @return ResponseEntity with the CustomResponse of a paginated response of users as JSON.
      */
-    @GetMapping
-    public CustomResponse<CustomPagingResponse<UserResponse>> getUsers(
-            @RequestBody @Valid final UserPagingRequest userPagingRequest) {
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getUsers(
+            @RequestParam(defaultValue = "1") @Min(1) final int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) final int size,
+            @RequestParam(defaultValue = "EXACT") final CountMode countMode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding) {
+
+        ServerTiming.handlerEntered();
+
+        final byte[] body = userPageService.getUserPage(UserPagingRequest.of(page, size, countMode));
+
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (Gzip.isAccepted(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, Gzip.ENCODING).body(body);
+        }
+        return response.body(Gzip.decompress(body));
+
+    }
+
+    /**
+     * Endpoint to retrieve a keyset page of users.
+     * Pages are ordered by id and seek past the given cursor, so every page costs the same.
+     *
+     * @param cursor The opaque cursor returned with the previous page, absent for the first page.
+     * @param size   The maximum number of users to return.
+     * @return CustomResponse with a page of users and the cursor to the next page.
+     */
+    @GetMapping("/cursor")
+    public CustomResponse<CustomPagingResponse<UserResponse>> getUsersByCursor(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) final int size) {
+
+        ServerTiming.handlerEntered();
 
-        final CustomPage<User> userPage = userService.getUsers(userPagingRequest);
+        final CustomPage<User> userPage = userService.getUsersByCursor(cursor, size);
 
-        final CustomPagingResponse<UserResponse> userPagingResponse =
-                customPageToCustomPagingResponseMapper.toPagingResponse(userPage);
+        final CustomPagingResponse<UserResponse> userPagingResponse = ServerTiming.time(ServerTiming.Phase.MAPPING,
+                () -> customPageToCustomPagingResponseMapper.toPagingResponse(userPage));
 
         return CustomResponse.ok(userPagingResponse);
 
     }
 
+    /**
+     * Endpoint to search users by name or email prefix.
+     * Matches are ordered by the searched field and paged by keyset; frequent searches are served from a
+     * short-lived cache.
+     *
+     * @param field  The field to match the prefix against.
+     * @param prefix The prefix to search for.
+     * @param cursor The opaque cursor returned with the previous page, absent for the first page.
+     * @param size   The maximum number of users to return.
+     * @return CustomResponse with a page of matching users and the cursor to the next page.
+     */
+    @GetMapping("/search")
+    public CustomResponse<CustomPagingResponse<UserResponse>> searchUsers(
+            @RequestParam final UserSearchField field,
+            @RequestParam @NotBlank @Size(max = 255) final String prefix,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) final int size) {
+
+        ServerTiming.handlerEntered();
+
+        final CustomPage<UserResponse> userResponsePage = userSearchService.searchUsers(field, prefix, cursor, size);
+
+        final CustomPagingResponse<UserResponse> userPagingResponse = CustomPagingResponse.<UserResponse>builder()
+                .of(userResponsePage)
+                .content(userResponsePage.getContent())
+                .build();
+
+        return CustomResponse.ok(userPagingResponse);
+
+    }
+
+    /**
+     * Endpoint to export all users as newline delimited JSON.
+     * The users are streamed while they are read, so the response is not buffered in memory.
+     *
+     * @return ResponseEntity streaming one user per line.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+
+        ServerTiming.handlerEntered();
+
+        final StreamingResponseBody body = userExportService.exportUsers();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("users.ndjson").build().toString())
+                .body(body);
+
+    }
+
+    /**
+     * Endpoint to import users from a newline delimited JSON request body.
+     * The body is parsed while it is read and committed in chunks.
+     *
+     * @param inputStream The request body with one user per line.
+     * @return CustomResponse with the import result per chunk.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public CustomResponse<UserImportResponse> importUsersFromNdjson(final InputStream inputStream) {
+        ServerTiming.handlerEntered();
+        return CustomResponse.ok(userImportService.importUsers(inputStream, UserImportFormat.NDJSON));
+    }
+
+    /**
+     * Endpoint to import users from a CSV request body with a header row.
+     * The body is parsed while it is read and committed in chunks.
+     *
+     * @param inputStream The request body with one user per row.
+     * @return CustomResponse with the import result per chunk.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public CustomResponse<UserImportResponse> importUsersFromCsv(final InputStream inputStream) {
+        ServerTiming.handlerEntered();
+        return CustomResponse.ok(userImportService.importUsers(inputStream, UserImportFormat.CSV));
+    }
+
 }
@@ -0,0 +1,61 @@
+package com.springboot.ratelimiter.user.count;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Counter class named {@link RedisUserCount} implementing {@link UserCount} on top of a Redis integer key.
+ * Adjustments use INCRBY so concurrent instances never lose updates. Redis failures are logged and
+ * reported as an unavailable counter, so callers can fall back to an exact count.
+ */
+@Slf4j
+@Component
+public class RedisUserCount implements UserCount {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String key;
+
+    public RedisUserCount(final StringRedisTemplate stringRedisTemplate,
+                          @Value("${user.count.redis-key:user_count}") final String key) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.key = key;
+    }
+
+    @Override
+    public Optional<Long> get() {
+        try {
+            final String value = stringRedisTemplate.opsForValue().get(key);
+            return value == null ? Optional.empty() : Optional.of(Long.parseLong(value));
+        } catch (RuntimeException ex) {
+            log.warn("Could not read user count from {}", key, ex);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void add(final long delta) {
+        try {
+            // Only adjust an initialized counter; a missing key is filled by the next reconciliation
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+                stringRedisTemplate.opsForValue().increment(key, delta);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not adjust user count {} by {}", key, delta, ex);
+        }
+    }
+
+    @Override
+    public void set(final long total) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, Long.toString(total));
+        } catch (RuntimeException ex) {
+            log.warn("Could not write user count {}", key, ex);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.springboot.ratelimiter.user.count;
+
+import java.util.Optional;
+
+/**
+ * Interface named {@link UserCount} for an incrementally maintained total number of users.
+ * The counter is adjusted on committed creates and deletes and periodically reconciled with the table.
+ */
+public interface UserCount {
+
+    /**
+     * Returns the current total number of users.
+     *
+     * @return the total, or empty if the counter is not available
+     */
+    Optional<Long> get();
+
+    /**
+     * Adjusts the total by the given delta.
+     *
+     * @param delta the number of users added, negative for removed users
+     */
+    void add(long delta);
+
+    /**
+     * Overwrites the total with the given value.
+     *
+     * @param total the exact total number of users
+     */
+    void set(long total);
+
+}
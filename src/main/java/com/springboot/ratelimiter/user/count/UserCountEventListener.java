@@ -0,0 +1,60 @@
+package com.springboot.ratelimiter.user.count;
+
+import com.springboot.ratelimiter.user.event.UserCreatedEvent;
+import com.springboot.ratelimiter.user.event.UserDeletedEvent;
+import com.springboot.ratelimiter.user.event.UsersCreatedEvent;
+import com.springboot.ratelimiter.user.event.UsersDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Listener named {@link UserCountEventListener} keeping the {@link UserCount} in line with committed user changes.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCountEventListener {
+
+    private final UserCount userCount;
+
+    /**
+     * Increments the total after a user has been created.
+     *
+     * @param event the user created event
+     */
+    @TransactionalEventListener
+    public void onUserCreated(final UserCreatedEvent event) {
+        userCount.add(1L);
+    }
+
+    /**
+     * Increments the total after a batch of users has been created.
+     *
+     * @param event the users created event
+     */
+    @TransactionalEventListener
+    public void onUsersCreated(final UsersCreatedEvent event) {
+        userCount.add(event.count());
+    }
+
+    /**
+     * Decrements the total after a user has been deleted.
+     *
+     * @param event the user deleted event
+     */
+    @TransactionalEventListener
+    public void onUserDeleted(final UserDeletedEvent event) {
+        userCount.add(-1L);
+    }
+
+    /**
+     * Decrements the total after a batch of users has been deleted.
+     *
+     * @param event the users deleted event
+     */
+    @TransactionalEventListener
+    public void onUsersDeleted(final UsersDeletedEvent event) {
+        userCount.add(-event.count());
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.springboot.ratelimiter.user.count;
+
+import com.springboot.ratelimiter.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Component named {@link UserCountReconciler} periodically overwriting the {@link UserCount} with an exact count.
+ * This repairs drift caused by lost adjustments, e.g. when Redis was unreachable after a commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCountReconciler {
+
+    private final UserRepository userRepository;
+
+    private final UserCount userCount;
+
+    /**
+     * Counts the users table and stores the result in the counter.
+     */
+    @Scheduled(initialDelayString = "${user.count.reconcile-initial-delay-millis:10000}",
+            fixedDelayString = "${user.count.reconcile-interval-millis:300000}")
+    public void reconcile() {
+        final long total = userRepository.count();
+        userCount.set(total);
+        log.debug("Reconciled user count to {}", total);
+    }
+
+}
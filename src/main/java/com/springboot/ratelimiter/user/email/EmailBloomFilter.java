@@ -0,0 +1,199 @@
+package com.springboot.ratelimiter.user.email;
+
+import com.springboot.ratelimiter.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Component named {@link EmailBloomFilter} holding an in-memory Bloom filter of the email addresses in use.
+ * A negative answer means the email is definitely not taken as far as this instance knows, so the uniqueness
+ * query can be skipped; a positive answer may be a false positive and must be confirmed by the database.
+ * Emails written by other instances are only picked up by the periodic rebuild, so the unique index on
+ * {@code USERS.EMAIL} remains the final guard. Until the first build has finished, every email is reported
+ * as possibly taken.
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private volatile Bits current;
+
+    private volatile Bits building;
+
+    // A lock rather than a synchronized method, so a rebuild on a virtual thread does not pin its carrier
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public EmailBloomFilter(final UserRepository userRepository,
+                            final PlatformTransactionManager transactionManager,
+                            @Value("${user.email-filter.expected-insertions:1000000}") final long expectedInsertions,
+                            @Value("${user.email-filter.false-positive-rate:0.01}") final double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Checks whether the given email might already be in use.
+     *
+     * @param email the email address to check
+     * @return false if the email is definitely not in use, true otherwise
+     */
+    public boolean mightContain(final String email) {
+        final Bits bits = current;
+        return bits == null || bits.mightContain(normalize(email));
+    }
+
+    /**
+     * Records the given email as in use.
+     *
+     * @param email the email address to record
+     */
+    public void put(final String email) {
+        final String normalized = normalize(email);
+        final Bits bits = current;
+        if (bits != null) {
+            bits.put(normalized);
+        }
+        final Bits next = building;
+        if (next != null) {
+            next.put(normalized);
+        }
+    }
+
+    /**
+     * Builds the filter once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the filter from the emails in the database, which also drops emails that are no longer used.
+     * Emails recorded while the rebuild is running are added to both the old and the new filter.
+     */
+    @Scheduled(initialDelayString = "${user.email-filter.rebuild-interval-millis:3600000}",
+            fixedDelayString = "${user.email-filter.rebuild-interval-millis:3600000}")
+    public void rebuild() {
+
+        rebuildLock.lock();
+        try {
+            final Bits next = Bits.create(expectedInsertions, falsePositiveRate);
+            building = next;
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    emails.map(EmailBloomFilter::normalize).forEach(next::put);
+                }
+            });
+            current = next;
+            log.info("Built email filter with {} bits and {} hash functions", next.bitCount, next.hashCount);
+        } catch (RuntimeException ex) {
+            log.warn("Could not build email filter", ex);
+        } finally {
+            building = null;
+            rebuildLock.unlock();
+        }
+
+    }
+
+    /**
+     * Normalizes an email the way the database compares it, so that the filter never gives a false negative
+     * under the case insensitive column collation.
+     *
+     * @param email the email address
+     * @return the normalized email address
+     */
+    private static String normalize(final String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Class named {@link Bits} implementing the bit array of a Bloom filter with double hashing.
+     * Bits are set with atomic updates, so concurrent writers never lose each other's bits.
+     */
+    static final class Bits {
+
+        private final AtomicLongArray words;
+
+        private final long bitCount;
+
+        private final int hashCount;
+
+        private Bits(final long bitCount, final int hashCount) {
+            this.words = new AtomicLongArray(Math.toIntExact((bitCount + 63) / 64));
+            this.bitCount = bitCount;
+            this.hashCount = hashCount;
+        }
+
+        static Bits create(final long expectedInsertions, final double falsePositiveRate) {
+            final long n = Math.max(1L, expectedInsertions);
+            final long bitCount = Math.max(64L,
+                    (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+            final int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+            return new Bits(bitCount, hashCount);
+        }
+
+        void put(final String value) {
+            final long h1 = hash(value);
+            final long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+            for (int i = 0; i < hashCount; i++) {
+                final long bit = Math.floorMod(h1 + i * h2, bitCount);
+                final int index = (int) (bit >>> 6);
+                final long mask = 1L << bit;
+                long word = words.get(index);
+                while ((word & mask) == 0L && !words.compareAndSet(index, word, word | mask)) {
+                    word = words.get(index);
+                }
+            }
+        }
+
+        boolean mightContain(final String value) {
+            final long h1 = hash(value);
+            final long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+            for (int i = 0; i < hashCount; i++) {
+                final long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0L) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(final String value) {
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+            }
+            return mix(hash);
+        }
+
+        private static long mix(long value) {
+            value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+            value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+            return value ^ (value >>> 33);
+        }
+
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.springboot.ratelimiter.user.event;
+
+import com.springboot.ratelimiter.user.User;
+
+/**
+ * Event record named {@link UserCreatedEvent} published when a user has been created.
+ *
+ * @param user the created user
+ */
+public record UserCreatedEvent(User user) {
+}
@@ -0,0 +1,9 @@
+package com.springboot.ratelimiter.user.event;
+
+/**
+ * Event record named {@link UserDeletedEvent} published when a user has been deleted.
+ *
+ * @param id the identifier of the deleted user
+ */
+public record UserDeletedEvent(String id) {
+}
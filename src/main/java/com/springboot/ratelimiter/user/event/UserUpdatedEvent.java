@@ -0,0 +1,10 @@
+package com.springboot.ratelimiter.user.event;
+
+/**
+ * Event record named {@link UserUpdatedEvent} published when a user has been updated.
+ *
+ * @param id      the identifier of the updated user
+ * @param version the version the user was updated to
+ */
+public record UserUpdatedEvent(String id, long version) {
+}
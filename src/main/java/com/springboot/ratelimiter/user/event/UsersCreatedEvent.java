@@ -0,0 +1,10 @@
+package com.springboot.ratelimiter.user.event;
+
+/**
+ * Event record named {@link UsersCreatedEvent} published when a batch of users has been created.
+ * Unlike {@link UserCreatedEvent}, it does not carry the users, so a large batch does not populate the cache.
+ *
+ * @param count the number of created users
+ */
+public record UsersCreatedEvent(int count) {
+}
@@ -0,0 +1,14 @@
+package com.springboot.ratelimiter.user.event;
+
+import java.util.List;
+
+/**
+ * Event record named {@link UsersDeletedEvent} published when a batch of users has been deleted in one statement.
+ * The statement only reports how many rows it removed, so the ids are the requested ones, some of which
+ * may not have existed.
+ *
+ * @param ids   the identifiers requested for deletion
+ * @param count the number of deleted users
+ */
+public record UsersDeletedEvent(List<String> ids, int count) {
+}
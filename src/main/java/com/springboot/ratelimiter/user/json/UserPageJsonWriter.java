@@ -0,0 +1,133 @@
+package com.springboot.ratelimiter.user.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.ratelimiter.common.model.dto.response.CustomPagingResponse;
+import com.springboot.ratelimiter.common.model.dto.response.CustomResponse;
+import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.user.model.UserSummary;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Writer class named {@link UserPageJsonWriter} rendering a page of {@link UserSummary} rows straight into the JSON
+ * of a {@link CustomResponse} holding a {@link CustomPagingResponse} of {@link UserResponse}.
+ * Each row is written as the response element it maps to in a single pass, so no list of responses is built
+ * and no bean serializer is looked up per element. The output matches the regular serialization of that envelope;
+ * the envelope time and status still go through the {@link ObjectMapper}, so its date and enum settings apply.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPageJsonWriter {
+
+    private static final int ROW_SIZE_HINT = 128;
+
+    private static final int ENVELOPE_SIZE_HINT = 256;
+
+    private static final SerializableString ID = new SerializedString("id");
+
+    private static final SerializableString NAME = new SerializedString("name");
+
+    private static final SerializableString EMAIL = new SerializedString("email");
+
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Estimates the number of bytes written for the given page.
+     *
+     * @param userSummaryPage the page to write
+     * @return the expected size of the JSON in bytes
+     */
+    public static int sizeHint(final CustomPage<UserSummary> userSummaryPage) {
+        return ENVELOPE_SIZE_HINT + ROW_SIZE_HINT * userSummaryPage.getContent().size();
+    }
+
+    /**
+     * Writes the complete success response for the given page.
+     *
+     * @param outputStream    the stream to write to, which is flushed but left open
+     * @param userSummaryPage the page of rows to write as user responses
+     * @param time            the time of the response
+     * @throws IOException if the JSON cannot be written
+     */
+    public void write(final OutputStream outputStream,
+                      final CustomPage<UserSummary> userSummaryPage,
+                      final LocalDateTime time) throws IOException {
+
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartObject();
+            generator.writeFieldName("time");
+            generator.writeObject(time);
+            generator.writeFieldName("httpStatus");
+            generator.writeObject(HttpStatus.OK);
+            generator.writeBooleanField("isSuccess", true);
+
+            generator.writeObjectFieldStart("response");
+            generator.writeArrayFieldStart("content");
+            for (UserSummary userSummary : userSummaryPage.getContent()) {
+                writeUser(generator, userSummary);
+            }
+            generator.writeEndArray();
+            writeNumberField(generator, "pageNumber", userSummaryPage.getPageNumber());
+            writeNumberField(generator, "pageSize", userSummaryPage.getPageSize());
+            if (userSummaryPage.getTotalElementCount() != null) {
+                generator.writeNumberField("totalElementCount", userSummaryPage.getTotalElementCount());
+            }
+            if (userSummaryPage.getTotalPageCount() != null) {
+                generator.writeNumberField("totalPageCount", userSummaryPage.getTotalPageCount());
+            }
+            if (userSummaryPage.getNextCursor() != null) {
+                generator.writeStringField("nextCursor", userSummaryPage.getNextCursor());
+            }
+            if (userSummaryPage.getHasNext() != null) {
+                generator.writeBooleanField("hasNext", userSummaryPage.getHasNext());
+            }
+            generator.writeEndObject();
+
+            generator.writeEndObject();
+
+        }
+
+    }
+
+    private static void writeUser(final JsonGenerator generator, final UserSummary userSummary) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(ID);
+        generator.writeString(userSummary.id());
+        generator.writeFieldName(NAME);
+        generator.writeString(userSummary.name());
+        generator.writeFieldName(EMAIL);
+        generator.writeString(userSummary.email());
+        generator.writeFieldName(VERSION);
+        if (userSummary.version() != null) {
+            generator.writeNumber(userSummary.version());
+        } else {
+            generator.writeNull();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeNumberField(final JsonGenerator generator,
+                                         final String fieldName,
+                                         final Integer value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(fieldName, value);
+        } else {
+            generator.writeNullField(fieldName);
+        }
+    }
+
+}
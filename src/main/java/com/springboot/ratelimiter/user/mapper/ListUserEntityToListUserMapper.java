@@ -5,8 +5,8 @@ import com.springboot.ratelimiter.user.model.UserEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper interface named {@link ListUserEntityToListUserMapper} for converting a List of UserEntity objects to a List of User objects.
@@ -28,9 +28,11 @@ public interface ListUserEntityToListUserMapper {
             return null;
         }
 
-        return userEntities.stream()
-                .map(userEntityToUserMapper::map)
-                .collect(Collectors.toList());
+        final List<User> users = new ArrayList<>(userEntities.size());
+        for (UserEntity userEntity : userEntities) {
+            users.add(userEntityToUserMapper.map(userEntity));
+        }
+        return users;
 
     }
 
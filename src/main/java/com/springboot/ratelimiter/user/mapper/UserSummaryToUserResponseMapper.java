@@ -0,0 +1,34 @@
+package com.springboot.ratelimiter.user.mapper;
+
+import com.springboot.ratelimiter.common.model.mapper.BaseMapper;
+import com.springboot.ratelimiter.user.model.UserSummary;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Mapper interface named {@link UserSummaryToUserResponseMapper} for converting UserSummary to UserResponse.
+ * Extends BaseMapper for common mapping functionalities.
+ */
+@Mapper
+public interface UserSummaryToUserResponseMapper extends BaseMapper<UserSummary, UserResponse> {
+
+    /**
+     * Maps a UserSummary object to a UserResponse object.
+     *
+     * @param source the UserSummary object to map
+     * @return the corresponding UserResponse object
+     */
+    @Override
+    UserResponse map(UserSummary source);
+
+    /**
+     * Initializes the mapper instance using MapStruct's Mappers.getMapper() method.
+     *
+     * @return the initialized UserSummaryToUserResponseMapper instance
+     */
+    static UserSummaryToUserResponseMapper initialize() {
+        return Mappers.getMapper(UserSummaryToUserResponseMapper.class);
+    }
+
+}
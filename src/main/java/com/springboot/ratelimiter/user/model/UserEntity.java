@@ -1,13 +1,21 @@
 package com.springboot.ratelimiter.user.model;
 
 import com.springboot.ratelimiter.common.model.entity.BaseEntity;
+import com.springboot.ratelimiter.common.model.entity.id.GeneratedUuidV7;
+import com.springboot.ratelimiter.common.model.entity.id.UuidBinaryType;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Type;
 
 /**
  * Entity class named {@link UserEntity} representing a User, mapped to the "USERS" table.
- * Includes fields for id, name, and email, with UUID generation for the id.
+ * Includes fields for id, name, and email, with time-ordered UUIDv7 generation for the id.
+ * The id is handled as a String but stored as {@code BINARY(16)}, so new rows are appended to the clustered index.
+ * Email addresses are unique, enforced by the {@value #EMAIL_UNIQUE_CONSTRAINT} index.
+ * The version column guards updates with optimistic locking.
+ * Names are indexed by {@value #NAME_INDEX} for prefix searches; as InnoDB appends the primary key to every
+ * secondary index, both the name and the email index can be walked in (value, id) order.
  */
 @Getter
 @Setter
@@ -15,13 +23,20 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "USERS")
+@Table(name = "USERS",
+        uniqueConstraints = @UniqueConstraint(name = UserEntity.EMAIL_UNIQUE_CONSTRAINT, columnNames = "EMAIL"),
+        indexes = @Index(name = UserEntity.NAME_INDEX, columnList = "NAME"))
 @Entity
 public class UserEntity extends BaseEntity {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "UK_USERS_EMAIL";
+
+    public static final String NAME_INDEX = "IX_USERS_NAME";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(name = "ID")
+    @GeneratedUuidV7
+    @Type(UuidBinaryType.class)
+    @Column(name = "ID", columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "NAME")
@@ -30,4 +45,8 @@ public class UserEntity extends BaseEntity {
     @Column(name = "EMAIL")
     private String email;
 
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private long version;
+
 }
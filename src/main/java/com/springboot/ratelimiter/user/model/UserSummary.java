@@ -0,0 +1,14 @@
+package com.springboot.ratelimiter.user.model;
+
+/**
+ * Projection record named {@link UserSummary} holding the user columns exposed by list endpoints.
+ * Instances are created directly by JPQL constructor expressions, so they are never managed by the
+ * persistence context.
+ *
+ * @param id      the user id
+ * @param name    the user name
+ * @param email   the user email
+ * @param version the user version
+ */
+public record UserSummary(String id, String name, String email, Long version) {
+}
@@ -0,0 +1,27 @@
+package com.springboot.ratelimiter.user.payload.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO named {@link CreateUsersBatchRequest} for creating several users in one request.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreateUsersBatchRequest {
+
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    @NotEmpty(message = "Users are mandatory")
+    @Size(max = MAX_BATCH_SIZE, message = "At most " + MAX_BATCH_SIZE + " users can be created at once")
+    private List<@Valid @NotNull CreateUserRequest> users;
+
+}
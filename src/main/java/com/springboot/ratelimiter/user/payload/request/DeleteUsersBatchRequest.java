@@ -0,0 +1,27 @@
+package com.springboot.ratelimiter.user.payload.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import org.hibernate.validator.constraints.UUID;
+
+import java.util.List;
+
+/**
+ * DTO named {@link DeleteUsersBatchRequest} for deleting several users in one request.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeleteUsersBatchRequest {
+
+    public static final int MAX_BATCH_SIZE = 1_000;
+
+    @NotEmpty(message = "Ids are mandatory")
+    @Size(max = MAX_BATCH_SIZE, message = "At most " + MAX_BATCH_SIZE + " users can be deleted at once")
+    private List<@NotNull @UUID String> ids;
+
+}
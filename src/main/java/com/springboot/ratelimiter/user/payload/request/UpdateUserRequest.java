@@ -2,10 +2,12 @@ package com.springboot.ratelimiter.user.payload.request;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.*;
 
 /**
  * DTO named {@link UpdateUserRequest} for updating an existing user, including name and email fields with validation.
+ * The version must match the stored version of the user, otherwise the update is rejected as a conflict.
  */
 @Getter
 @Setter
@@ -21,4 +23,8 @@ public class UpdateUserRequest {
     @NotNull(message = "Email is mandatory")
     private String email;
 
+    @NotNull(message = "Version is mandatory")
+    @PositiveOrZero(message = "Version must not be negative")
+    private Long version;
+
 }
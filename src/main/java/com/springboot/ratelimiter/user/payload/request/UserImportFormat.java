@@ -0,0 +1,18 @@
+package com.springboot.ratelimiter.user.payload.request;
+
+/**
+ * Enum named {@link UserImportFormat} representing the supported formats of a user import file.
+ */
+public enum UserImportFormat {
+
+    /**
+     * One JSON object per line with name and email fields.
+     */
+    NDJSON,
+
+    /**
+     * Comma separated values with a header row naming the name and email columns.
+     */
+    CSV
+
+}
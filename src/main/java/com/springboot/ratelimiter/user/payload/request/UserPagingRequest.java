@@ -1,6 +1,8 @@
 package com.springboot.ratelimiter.user.payload.request;
 
 import com.springboot.ratelimiter.common.model.dto.request.CustomPagingRequest;
+import com.springboot.ratelimiter.common.model.page.CountMode;
+import com.springboot.ratelimiter.common.model.page.CustomPaging;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -15,4 +17,22 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 public class UserPagingRequest extends CustomPagingRequest {
 
+    /**
+     * Creates a paging request from the query parameters of a list request.
+     *
+     * @param page      the one-based page number
+     * @param size      the page size
+     * @param countMode the requested count mode
+     * @return the UserPagingRequest
+     */
+    public static UserPagingRequest of(final int page, final int size, final CountMode countMode) {
+        return UserPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageNumber(page)
+                        .pageSize(size)
+                        .build())
+                .countMode(countMode)
+                .build();
+    }
+
 }
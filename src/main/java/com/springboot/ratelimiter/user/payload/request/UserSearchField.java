@@ -0,0 +1,18 @@
+package com.springboot.ratelimiter.user.payload.request;
+
+/**
+ * Enum named {@link UserSearchField} representing the user fields that can be searched by prefix.
+ */
+public enum UserSearchField {
+
+    /**
+     * Matches users whose name starts with the prefix.
+     */
+    NAME,
+
+    /**
+     * Matches users whose email starts with the prefix.
+     */
+    EMAIL
+
+}
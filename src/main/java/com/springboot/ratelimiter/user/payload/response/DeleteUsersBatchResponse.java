@@ -0,0 +1,18 @@
+package com.springboot.ratelimiter.user.payload.response;
+
+import lombok.*;
+
+/**
+ * DTO named {@link DeleteUsersBatchResponse} for the result of a batch delete,
+ * including the number of requested and deleted users.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeleteUsersBatchResponse {
+
+    private Integer requestedCount;
+    private Integer deletedCount;
+
+}
@@ -0,0 +1,22 @@
+package com.springboot.ratelimiter.user.payload.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO named {@link UserImportChunkReport} for the outcome of one committed chunk of an import.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportChunkReport {
+
+    private Integer chunkNumber;
+    private Long firstRecordNumber;
+    private Long lastRecordNumber;
+    private Integer importedCount;
+    private List<UserImportFailure> failures;
+
+}
@@ -0,0 +1,18 @@
+package com.springboot.ratelimiter.user.payload.response;
+
+import lombok.*;
+
+/**
+ * DTO named {@link UserImportFailure} for a record of an import file that could not be imported.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportFailure {
+
+    private Long recordNumber;
+    private String email;
+    private String reason;
+
+}
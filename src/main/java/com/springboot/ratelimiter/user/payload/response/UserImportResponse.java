@@ -0,0 +1,23 @@
+package com.springboot.ratelimiter.user.payload.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO named {@link UserImportResponse} for the result of a user import, including one report per chunk.
+ * An aborted import stopped at an unreadable record; the chunks before it stay committed.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResponse {
+
+    private Long recordCount;
+    private Long importedCount;
+    private Long failedCount;
+    private Boolean aborted;
+    private List<UserImportChunkReport> chunks;
+
+}
@@ -3,7 +3,7 @@ package com.springboot.ratelimiter.user.payload.response;
 import lombok.*;
 
 /**
- * DTO named {@link UserResponse} for user response, including id, name, and email fields.
+ * DTO named {@link UserResponse} for user response, including id, name, email, and version fields.
  */
 @Getter
 @Builder
@@ -14,5 +14,6 @@ public class UserResponse {
     private String id;
     private String name;
     private String email;
+    private Long version;
 
 }
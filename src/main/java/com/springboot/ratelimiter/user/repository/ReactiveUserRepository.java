@@ -0,0 +1,183 @@
+package com.springboot.ratelimiter.user.repository;
+
+import com.springboot.ratelimiter.common.model.entity.id.UuidBinaryType;
+import com.springboot.ratelimiter.user.User;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository class named {@link ReactiveUserRepository} for non-blocking access to the "USERS" table through R2DBC.
+ * The statements mirror the ones {@link UserRepository} issues, including the {@code BINARY(16)} id encoding of
+ * {@link UuidBinaryType} and the version guard on updates, so both stacks can work on the same rows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private static final String SELECT_USER =
+            "SELECT ID, NAME, EMAIL, VERSION, CREATED_AT, UPDATED_AT FROM USERS WHERE ID = :id";
+
+    private static final String SELECT_SUMMARY_PAGE =
+            "SELECT ID, NAME, EMAIL, VERSION FROM USERS ORDER BY ID LIMIT :limit OFFSET :offset";
+
+    private static final String COUNT_USERS = "SELECT COUNT(*) FROM USERS";
+
+    private static final String EXISTS_BY_ID = "SELECT 1 FROM USERS WHERE ID = :id LIMIT 1";
+
+    private static final String EXISTS_BY_EMAIL = "SELECT 1 FROM USERS WHERE EMAIL = :email LIMIT 1";
+
+    private static final String INSERT_USER =
+            "INSERT INTO USERS (ID, NAME, EMAIL, VERSION, CREATED_AT) VALUES (:id, :name, :email, 0, :createdAt)";
+
+    private static final String UPDATE_IF_VERSION_MATCHES =
+            "UPDATE USERS SET NAME = :name, EMAIL = :email, UPDATED_AT = :updatedAt, VERSION = VERSION + 1 "
+                    + "WHERE ID = :id AND VERSION = :version";
+
+    private static final String DELETE_BY_ID = "DELETE FROM USERS WHERE ID = :id";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Retrieves a user by their identifier.
+     *
+     * @param id the identifier of the user
+     * @return a Mono emitting the user, or empty if no user has the given identifier
+     */
+    public Mono<User> findById(final String id) {
+        return databaseClient.sql(SELECT_USER)
+                .bind("id", UuidBinaryType.toBytes(id))
+                .map(ReactiveUserRepository::toUser)
+                .one();
+    }
+
+    /**
+     * Retrieves a window of users ordered by id, selecting only the columns of a {@link UserResponse}.
+     *
+     * @param offset the number of users to skip
+     * @param limit  the maximum number of users to return
+     * @return a Flux emitting the users of the window
+     */
+    public Flux<UserResponse> findSummaries(final long offset, final int limit) {
+        return databaseClient.sql(SELECT_SUMMARY_PAGE)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(row -> UserResponse.builder()
+                        .id(UuidBinaryType.fromBytes(row.get("ID", byte[].class)))
+                        .name(row.get("NAME", String.class))
+                        .email(row.get("EMAIL", String.class))
+                        .version(row.get("VERSION", Long.class))
+                        .build())
+                .all();
+    }
+
+    /**
+     * Counts all users.
+     *
+     * @return a Mono emitting the number of users
+     */
+    public Mono<Long> count() {
+        return databaseClient.sql(COUNT_USERS)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Checks if a user exists by their identifier.
+     *
+     * @param id the identifier to check
+     * @return a Mono emitting true if the user exists, false otherwise
+     */
+    public Mono<Boolean> existsById(final String id) {
+        return databaseClient.sql(EXISTS_BY_ID)
+                .bind("id", UuidBinaryType.toBytes(id))
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * Checks if a user exists by their email address.
+     *
+     * @param email the email address to check
+     * @return a Mono emitting true if a user with the given email address exists, false otherwise
+     */
+    public Mono<Boolean> existsByEmail(final String email) {
+        return databaseClient.sql(EXISTS_BY_EMAIL)
+                .bind("email", email)
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * Inserts a new user with version 0.
+     *
+     * @param id        the identifier of the user
+     * @param name      the name of the user
+     * @param email     the email address of the user
+     * @param createdAt the creation time of the user
+     * @return a Mono completing once the row is written
+     */
+    public Mono<Void> insert(final String id, final String name, final String email, final LocalDateTime createdAt) {
+        return databaseClient.sql(INSERT_USER)
+                .bind("id", UuidBinaryType.toBytes(id))
+                .bind("name", name)
+                .bind("email", email)
+                .bind("createdAt", createdAt)
+                .then();
+    }
+
+    /**
+     * Updates the name and email of a user if their version still matches, incrementing the version.
+     *
+     * @param id        the identifier of the user
+     * @param version   the version the update is based on
+     * @param name      the new name
+     * @param email     the new email address
+     * @param updatedAt the update time
+     * @return a Mono emitting the number of updated rows, 0 if the user is missing or was modified in between
+     */
+    public Mono<Long> updateIfVersionMatches(final String id, final long version, final String name,
+                                             final String email, final LocalDateTime updatedAt) {
+        return databaseClient.sql(UPDATE_IF_VERSION_MATCHES)
+                .bind("id", UuidBinaryType.toBytes(id))
+                .bind("version", version)
+                .bind("name", name)
+                .bind("email", email)
+                .bind("updatedAt", updatedAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Deletes a user by their identifier.
+     *
+     * @param id the identifier of the user
+     * @return a Mono emitting the number of deleted rows
+     */
+    public Mono<Long> deleteById(final String id) {
+        return databaseClient.sql(DELETE_BY_ID)
+                .bind("id", UuidBinaryType.toBytes(id))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static User toUser(final Readable row) {
+        return User.builder()
+                .id(UuidBinaryType.fromBytes(row.get("ID", byte[].class)))
+                .name(row.get("NAME", String.class))
+                .email(row.get("EMAIL", String.class))
+                .version(row.get("VERSION", Long.class))
+                .createdAt(row.get("CREATED_AT", LocalDateTime.class))
+                .updatedAt(row.get("UPDATED_AT", LocalDateTime.class))
+                .build();
+    }
+
+}
@@ -1,7 +1,23 @@
 package com.springboot.ratelimiter.user.repository;
 
 import com.springboot.ratelimiter.user.model.UserEntity;
+import com.springboot.ratelimiter.user.model.UserSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface named {@link UserRepository} for managing UserEntity entities.
@@ -15,4 +31,165 @@ public interface UserRepository extends JpaRepository<UserEntity, String> {
      * @return true if a user with the given email address exists, false otherwise
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Retrieves which of the given email addresses are already taken, in a single IN query.
+     *
+     * @param emails the email addresses to check
+     * @return the email addresses that already exist
+     */
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Streams the email addresses of all users. Must be consumed within a transaction and closed afterwards.
+     *
+     * @return the stream of email addresses
+     */
+    @Query("SELECT u.email FROM UserEntity u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllEmails();
+
+    /**
+     * Retrieves a page of user summaries with a COUNT query for the totals.
+     * Only the listed columns are selected and no entities are managed.
+     *
+     * @param pageable the requested page
+     * @return the page of user summaries
+     */
+    @Query(value = "SELECT new com.springboot.ratelimiter.user.model.UserSummary(u.id, u.name, u.email, u.version) "
+            + "FROM UserEntity u",
+            countQuery = "SELECT COUNT(u) FROM UserEntity u")
+    Page<UserSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Retrieves a slice of user summaries without counting the table.
+     * Only the listed columns are selected and no entities are managed.
+     *
+     * @param pageable the requested page
+     * @return the slice of user summaries
+     */
+    @Query("SELECT new com.springboot.ratelimiter.user.model.UserSummary(u.id, u.name, u.email, u.version) "
+            + "FROM UserEntity u")
+    Slice<UserSummary> findSummarySlice(Pageable pageable);
+
+    /**
+     * Retrieves the first users in primary key order, used for the first page of keyset pagination.
+     *
+     * @param limit the maximum number of users to return
+     * @return the users ordered by id
+     */
+    List<UserEntity> findAllByOrderByIdAsc(Limit limit);
+
+    /**
+     * Retrieves the users following the given id in primary key order, used for keyset pagination.
+     * The query seeks on the primary key index, so its cost does not grow with the page position.
+     *
+     * @param lastId the id of the last user of the previous page
+     * @param limit  the maximum number of users to return
+     * @return the users ordered by id
+     */
+    List<UserEntity> findByIdGreaterThanOrderByIdAsc(String lastId, Limit limit);
+
+    /**
+     * Retrieves the first summaries of the users whose name matches the given LIKE pattern, ordered by name and id.
+     * The pattern must be a prefix pattern escaped with {@code !}, so the query is a range scan on the name index.
+     *
+     * @param pattern the escaped prefix pattern
+     * @param limit   the maximum number of users to return
+     * @return the matching user summaries
+     */
+    @Query("SELECT new com.springboot.ratelimiter.user.model.UserSummary(u.id, u.name, u.email, u.version) "
+            + "FROM UserEntity u WHERE u.name LIKE :pattern ESCAPE '!' ORDER BY u.name, u.id")
+    List<UserSummary> findSummariesByNameLike(@Param("pattern") String pattern, Limit limit);
+
+    /**
+     * Retrieves the summaries of the users whose name matches the given LIKE pattern and that follow the given
+     * name and id, ordered by name and id. Used for keyset pagination of name searches.
+     *
+     * @param pattern  the escaped prefix pattern
+     * @param lastName the name of the last user of the previous page
+     * @param lastId   the id of the last user of the previous page
+     * @param limit    the maximum number of users to return
+     * @return the matching user summaries
+     */
+    @Query("SELECT new com.springboot.ratelimiter.user.model.UserSummary(u.id, u.name, u.email, u.version) "
+            + "FROM UserEntity u WHERE u.name LIKE :pattern ESCAPE '!' "
+            + "AND (u.name > :lastName OR (u.name = :lastName AND u.id > :lastId)) ORDER BY u.name, u.id")
+    List<UserSummary> findSummariesByNameLikeAfter(@Param("pattern") String pattern,
+                                                   @Param("lastName") String lastName,
+                                                   @Param("lastId") String lastId,
+                                                   Limit limit);
+
+    /**
+     * Retrieves the first summaries of the users whose email matches the given LIKE pattern, ordered by email and id.
+     * The pattern must be a prefix pattern escaped with {@code !}, so the query is a range scan on the email index.
+     *
+     * @param pattern the escaped prefix pattern
+     * @param limit   the maximum number of users to return
+     * @return the matching user summaries
+     */
+    @Query("SELECT new com.springboot.ratelimiter.user.model.UserSummary(u.id, u.name, u.email, u.version) "
+            + "FROM UserEntity u WHERE u.email LIKE :pattern ESCAPE '!' ORDER BY u.email, u.id")
+    List<UserSummary> findSummariesByEmailLike(@Param("pattern") String pattern, Limit limit);
+
+    /**
+     * Retrieves the summaries of the users whose email matches the given LIKE pattern and that follow the given
+     * email and id, ordered by email and id. Used for keyset pagination of email searches.
+     *
+     * @param pattern   the escaped prefix pattern
+     * @param lastEmail the email of the last user of the previous page
+     * @param lastId    the id of the last user of the previous page
+     * @param limit     the maximum number of users to return
+     * @return the matching user summaries
+     */
+    @Query("SELECT new com.springboot.ratelimiter.user.model.UserSummary(u.id, u.name, u.email, u.version) "
+            + "FROM UserEntity u WHERE u.email LIKE :pattern ESCAPE '!' "
+            + "AND (u.email > :lastEmail OR (u.email = :lastEmail AND u.id > :lastId)) ORDER BY u.email, u.id")
+    List<UserSummary> findSummariesByEmailLikeAfter(@Param("pattern") String pattern,
+                                                    @Param("lastEmail") String lastEmail,
+                                                    @Param("lastId") String lastId,
+                                                    Limit limit);
+
+    /**
+     * Updates the name and email of a user in a single statement if its version still matches,
+     * incrementing the version. Neither the user nor its email are read beforehand: a violated email index
+     * surfaces as an integrity violation and a missing or stale row as zero updated rows.
+     *
+     * @param id        the id of the user to update
+     * @param version   the version the caller last read
+     * @param name      the new name
+     * @param email     the new email
+     * @param updatedAt the update time, set explicitly since entity callbacks do not run for bulk updates
+     * @return the number of updated rows, either 0 or 1
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserEntity u SET u.name = :name, u.email = :email, u.updatedAt = :updatedAt, "
+            + "u.version = u.version + 1 WHERE u.id = :id AND u.version = :version")
+    int updateIfVersionMatches(@Param("id") String id,
+                               @Param("version") long version,
+                               @Param("name") String name,
+                               @Param("email") String email,
+                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Deletes a user in a single statement without loading it first.
+     *
+     * @param id the id of the user to delete
+     * @return the number of deleted rows, either 0 or 1
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserEntity u WHERE u.id = :id")
+    int deleteByIdReturningCount(@Param("id") String id);
+
+    /**
+     * Deletes the users with the given ids in a single statement without loading them first.
+     *
+     * @param ids the ids of the users to delete
+     * @return the number of deleted rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserEntity u WHERE u.id IN :ids")
+    int deleteAllByIdReturningCount(@Param("ids") Collection<String> ids);
+
 }
@@ -7,9 +7,20 @@ public interface RateLimiterService {
 
     /**
      * Checks if the current request is allowed based on rate limiting rules.
+     * The request is charged one permit against the default policy.
      *
      * @return true if the request is allowed, false otherwise
      */
     boolean isAllowed();
 
+    /**
+     * Checks if the given number of permits can be acquired at once under the named policy.
+     * Either all permits are charged or none are.
+     *
+     * @param policyName the name of the policy to charge
+     * @param permits    the number of permits to acquire
+     * @return true if the permits were acquired, false otherwise
+     */
+    boolean isAllowed(String policyName, int permits);
+
 }
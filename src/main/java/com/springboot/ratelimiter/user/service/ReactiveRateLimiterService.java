@@ -0,0 +1,28 @@
+package com.springboot.ratelimiter.user.service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface named {@link ReactiveRateLimiterService} for non-blocking rate limiting operations.
+ */
+public interface ReactiveRateLimiterService {
+
+    /**
+     * Checks if the current request is allowed based on rate limiting rules.
+     * The request is charged one permit against the default policy.
+     *
+     * @return a Mono emitting true if the request is allowed, false otherwise
+     */
+    Mono<Boolean> isAllowed();
+
+    /**
+     * Checks if the given number of permits can be acquired at once under the named policy.
+     * Either all permits are charged or none are.
+     *
+     * @param policyName the name of the policy to charge
+     * @param permits    the number of permits to acquire
+     * @return a Mono emitting true if the permits were acquired, false otherwise
+     */
+    Mono<Boolean> isAllowed(String policyName, int permits);
+
+}
@@ -0,0 +1,57 @@
+package com.springboot.ratelimiter.user.service;
+
+import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.user.User;
+import com.springboot.ratelimiter.user.payload.request.CreateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UpdateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface named {@link ReactiveUserService} for managing user operations without blocking.
+ */
+public interface ReactiveUserService {
+
+    /**
+     * Creates a new user based on the provided CreateUserRequest.
+     *
+     * @param createUserRequest the CreateUserRequest containing user details
+     * @return a Mono emitting the created User object
+     */
+    Mono<User> createUser(CreateUserRequest createUserRequest);
+
+    /**
+     * Retrieves a user by their unique identifier.
+     *
+     * @param id the identifier of the user to retrieve
+     * @return a Mono emitting the User object, or failing if no user has the given identifier
+     */
+    Mono<User> getUserById(String id);
+
+    /**
+     * Updates an existing user identified by their unique identifier.
+     *
+     * @param id                the identifier of the user to update
+     * @param updateUserRequest the UpdateUserRequest containing updated user details
+     * @return a Mono emitting the updated User object
+     */
+    Mono<User> updateUser(String id, UpdateUserRequest updateUserRequest);
+
+    /**
+     * Deletes a user by their unique identifier.
+     *
+     * @param id the identifier of the user to delete
+     * @return a Mono completing once the user is deleted
+     */
+    Mono<Void> deleteUserById(String id);
+
+    /**
+     * Retrieves a paginated list of user responses based on the provided UserPagingRequest.
+     *
+     * @param userPagingRequest the UserPagingRequest containing pagination parameters
+     * @return a Mono emitting a CustomPage containing the list of user responses
+     */
+    Mono<CustomPage<UserResponse>> getUserResponses(UserPagingRequest userPagingRequest);
+
+}
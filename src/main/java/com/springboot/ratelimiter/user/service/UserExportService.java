@@ -0,0 +1,18 @@
+package com.springboot.ratelimiter.user.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Service interface named {@link UserExportService} for exporting all users.
+ */
+public interface UserExportService {
+
+    /**
+     * Creates a response body streaming all users as newline delimited JSON.
+     * The rate limit is checked when this method is called, before anything is written.
+     *
+     * @return the streaming response body
+     */
+    StreamingResponseBody exportUsers();
+
+}
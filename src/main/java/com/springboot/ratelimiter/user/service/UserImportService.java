@@ -0,0 +1,22 @@
+package com.springboot.ratelimiter.user.service;
+
+import com.springboot.ratelimiter.user.payload.request.UserImportFormat;
+import com.springboot.ratelimiter.user.payload.response.UserImportResponse;
+
+import java.io.InputStream;
+
+/**
+ * Service interface named {@link UserImportService} for importing users from a file.
+ */
+public interface UserImportService {
+
+    /**
+     * Imports the users read from the given stream, committing them in chunks.
+     *
+     * @param inputStream the stream to read the users from
+     * @param format      the format of the stream
+     * @return the import result with one report per chunk
+     */
+    UserImportResponse importUsers(InputStream inputStream, UserImportFormat format);
+
+}
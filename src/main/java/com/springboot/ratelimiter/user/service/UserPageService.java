@@ -0,0 +1,18 @@
+package com.springboot.ratelimiter.user.service;
+
+import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
+
+/**
+ * Service interface named {@link UserPageService} for serving rendered pages of the user list.
+ */
+public interface UserPageService {
+
+    /**
+     * Retrieves a page of users as the gzip compressed JSON of the complete response.
+     *
+     * @param userPagingRequest the UserPagingRequest containing pagination parameters
+     * @return the gzip compressed JSON response
+     */
+    byte[] getUserPage(UserPagingRequest userPagingRequest);
+
+}
@@ -0,0 +1,23 @@
+package com.springboot.ratelimiter.user.service;
+
+import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.user.payload.request.UserSearchField;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+
+/**
+ * Service interface named {@link UserSearchService} for searching users by prefix.
+ */
+public interface UserSearchService {
+
+    /**
+     * Retrieves a keyset page of the users whose given field starts with the given prefix.
+     *
+     * @param field    the field to match the prefix against
+     * @param prefix   the prefix to search for
+     * @param cursor   the opaque cursor returned with the previous page, or null for the first page
+     * @param pageSize the maximum number of users to return
+     * @return a CustomPage containing the matching users and the cursor to the next page
+     */
+    CustomPage<UserResponse> searchUsers(UserSearchField field, String prefix, String cursor, int pageSize);
+
+}
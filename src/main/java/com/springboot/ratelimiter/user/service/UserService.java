@@ -2,10 +2,13 @@ package com.springboot.ratelimiter.user.service;
 
 import com.springboot.ratelimiter.common.model.page.CustomPage;
 import com.springboot.ratelimiter.user.User;
+import com.springboot.ratelimiter.user.model.UserSummary;
 import com.springboot.ratelimiter.user.payload.request.CreateUserRequest;
 import com.springboot.ratelimiter.user.payload.request.UpdateUserRequest;
 import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
 
+import java.util.List;
+
 /**
  * Service interface named {@link UserService} for managing user operations.
  */
@@ -19,6 +22,14 @@ public interface UserService {
      */
     User createUser(CreateUserRequest createUserRequest);
 
+    /**
+     * Creates several users in one transaction, charging one rate limit permit per user.
+     *
+     * @param createUserRequests the CreateUserRequests containing user details
+     * @return the created User objects
+     */
+    List<User> createUsers(List<CreateUserRequest> createUserRequests);
+
     /**
      * Retrieves a user by their unique identifier.
      *
@@ -44,11 +55,39 @@ public interface UserService {
     void deleteUserById(String id);
 
     /**
-     * Retrieves a paginated list of users based on the provided UserPagingRequest.
+     * Deletes the users with the given identifiers.
+     * Identifiers that do not belong to any user are ignored.
+     *
+     * @param ids the identifiers of the users to delete
+     * @return the number of deleted users
+     */
+    int deleteUsersByIds(List<String> ids);
+
+    /**
+     * Retrieves a paginated list of user rows read through a column projection, left unmapped so they can be
+     * rendered straight into the response.
      *
      * @param userPagingRequest the UserPagingRequest containing pagination parameters
-     * @return a CustomPage containing the list of users
+     * @return a CustomPage containing the list of user rows
+     */
+    CustomPage<UserSummary> getUserSummaries(UserPagingRequest userPagingRequest);
+
+    /**
+     * Retrieves a paginated list of user rows like {@link #getUserSummaries(UserPagingRequest)}, for callers that
+     * have already charged the request against the rate limit.
+     *
+     * @param userPagingRequest the UserPagingRequest containing pagination parameters
+     * @return a CustomPage containing the list of user rows
+     */
+    CustomPage<UserSummary> getUserSummariesUncharged(UserPagingRequest userPagingRequest);
+
+    /**
+     * Retrieves a keyset page of users following the given cursor.
+     *
+     * @param cursor   the opaque cursor returned with the previous page, or null for the first page
+     * @param pageSize the maximum number of users to return
+     * @return a CustomPage containing the list of users and the cursor to the next page
      */
-    CustomPage<User> getUsers(UserPagingRequest userPagingRequest);
+    CustomPage<User> getUsersByCursor(String cursor, int pageSize);
 
 }
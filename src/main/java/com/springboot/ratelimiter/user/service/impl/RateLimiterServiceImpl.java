@@ -1,8 +1,14 @@
 package com.springboot.ratelimiter.user.service.impl;
 
+import com.springboot.ratelimiter.common.bulkhead.Bulkhead;
+import com.springboot.ratelimiter.common.timing.ServerTiming;
+import com.springboot.ratelimiter.config.BulkheadConfig;
+import com.springboot.ratelimiter.ratelimit.jfr.RateLimitDecisionEvent;
+import com.springboot.ratelimiter.ratelimit.jfr.RedisCommandEvent;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicy;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicyRegistry;
 import com.springboot.ratelimiter.user.service.RateLimiterService;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
@@ -11,19 +17,29 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Service class named {@link RateLimiterServiceImpl} implementing for rate limiting operations using Redis.
- * This service checks if the current request is allowed based on configured rate limiting rules.
+ * This service checks if the current request is allowed based on the rate limiting policy currently
+ * held by the {@link RateLimitPolicyRegistry}, so policy changes apply without a restart.
+ * The Redis round trips run within the Redis {@link Bulkhead}. Checks that fail before a decision is taken, because
+ * the bulkhead is full or Redis fails, are still recorded as a {@link RateLimitDecisionEvent}.
  */
 @Service
-@RequiredArgsConstructor
 public class RateLimiterServiceImpl implements RateLimiterService {
 
+    private static final String ALGORITHM_NAME = "fixed_window";
+
     private final RedisTemplate<String, Object> redisTemplate;
 
-    @Value("${rate.limiter.max.requests}")
-    private int MAX_REQUESTS;
+    private final RateLimitPolicyRegistry policyRegistry;
+
+    private final Bulkhead redisBulkhead;
 
-    @Value("${rate.limiter.time.window.seconds}")
-    private int TIME_WINDOW_IN_SECONDS;
+    public RateLimiterServiceImpl(final RedisTemplate<String, Object> redisTemplate,
+                                  final RateLimitPolicyRegistry policyRegistry,
+                                  @Qualifier(BulkheadConfig.REDIS_BULKHEAD) final Bulkhead redisBulkhead) {
+        this.redisTemplate = redisTemplate;
+        this.policyRegistry = policyRegistry;
+        this.redisBulkhead = redisBulkhead;
+    }
 
     /**
      * Checks if the current request is allowed based on rate limiting rules.
@@ -32,16 +48,65 @@ public class RateLimiterServiceImpl implements RateLimiterService {
      */
     @Override
     public boolean isAllowed() {
+        return isAllowed(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME, 1);
+    }
+
+    /**
+     * Checks if the given number of permits can be acquired at once under the named policy.
+     *
+     * @param policyName the name of the policy to charge
+     * @param permits    the number of permits to acquire
+     * @return true if the permits were acquired, false otherwise
+     */
+    @Override
+    public boolean isAllowed(final String policyName, final int permits) {
+
+        final RateLimitPolicy policy = policyRegistry.getPolicy(policyName);
+        final String key = "rate_limiter:" + policy.name();
+
+        final RateLimitDecisionEvent decisionEvent = new RateLimitDecisionEvent();
+        decisionEvent.begin();
+
+        final boolean allowed;
+        try {
+            allowed = ServerTiming.time(ServerTiming.Phase.LIMITER,
+                    () -> redisBulkhead.call(() -> checkAndIncrement(key, policy, permits)));
+        } catch (RuntimeException ex) {
+            decisionEvent.fail(key, policy.name(), ALGORITHM_NAME, ex);
+            throw ex;
+        }
+
+        decisionEvent.complete(key, policy.name(), ALGORITHM_NAME, allowed);
+        return allowed;
+
+    }
+
+    /**
+     * Reads the current counter for the rate limiter key and adds the permits if the limit is not exceeded.
+     *
+     * @param key     the rate limiter key
+     * @param policy  the policy to enforce
+     * @param permits the number of permits to acquire
+     * @return true if the permits were acquired, false otherwise
+     */
+    private boolean checkAndIncrement(final String key, final RateLimitPolicy policy, final int permits) {
 
-        String key = "rate_limiter:" + "user_creation";
         ValueOperations<String, Object> valueOperations = redisTemplate.opsForValue();
 
-        Integer currentCount = (Integer) valueOperations.get(key);
+        Integer currentCount = RedisCommandEvent.record("GET", key, () -> (Integer) valueOperations.get(key));
         if (currentCount == null) {
-            valueOperations.set(key, 1, TIME_WINDOW_IN_SECONDS, TimeUnit.SECONDS);
+            if (permits > policy.maxRequests()) {
+                return false;
+            }
+            RedisCommandEvent.run("SET", key,
+                    () -> valueOperations.set(key, permits, policy.windowSeconds(), TimeUnit.SECONDS));
             return true;
-        } else if (currentCount < MAX_REQUESTS) {
-            valueOperations.increment(key);
+        } else if (currentCount + permits <= policy.maxRequests()) {
+            if (permits == 1) {
+                RedisCommandEvent.record("INCR", key, () -> valueOperations.increment(key));
+            } else {
+                RedisCommandEvent.record("INCRBY", key, () -> valueOperations.increment(key, permits));
+            }
             return true;
         } else {
             return false;
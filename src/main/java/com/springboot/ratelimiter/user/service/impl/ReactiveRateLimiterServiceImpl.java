@@ -0,0 +1,101 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.springboot.ratelimiter.ratelimit.jfr.RateLimitDecisionEvent;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicy;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicyRegistry;
+import com.springboot.ratelimiter.user.service.ReactiveRateLimiterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Service class named {@link ReactiveRateLimiterServiceImpl} implementing for non-blocking rate limiting operations
+ * using Redis. It applies the same fixed window as {@link RateLimiterServiceImpl} on the same keys, so requests served
+ * by either stack count against one shared limit. Counters are plain decimal strings, which both stacks read and write.
+ * Checks that fail or are cancelled before a decision is taken are still recorded as a {@link RateLimitDecisionEvent}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveRateLimiterServiceImpl implements ReactiveRateLimiterService {
+
+    private static final String ALGORITHM_NAME = "fixed_window";
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    private final RateLimitPolicyRegistry policyRegistry;
+
+    /**
+     * Checks if the current request is allowed based on rate limiting rules.
+     *
+     * @return a Mono emitting true if the request is allowed, false otherwise
+     */
+    @Override
+    public Mono<Boolean> isAllowed() {
+        return isAllowed(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME, 1);
+    }
+
+    /**
+     * Checks if the given number of permits can be acquired at once under the named policy.
+     *
+     * @param policyName the name of the policy to charge
+     * @param permits    the number of permits to acquire
+     * @return a Mono emitting true if the permits were acquired, false otherwise
+     */
+    @Override
+    public Mono<Boolean> isAllowed(final String policyName, final int permits) {
+
+        return Mono.defer(() -> {
+
+            final RateLimitPolicy policy = policyRegistry.getPolicy(policyName);
+            final String key = "rate_limiter:" + policy.name();
+
+            final RateLimitDecisionEvent decisionEvent = new RateLimitDecisionEvent();
+            decisionEvent.begin();
+
+            return checkAndIncrement(key, policy, permits)
+                    .doOnNext(allowed -> decisionEvent.complete(key, policy.name(), ALGORITHM_NAME, allowed))
+                    .doOnError(ex -> decisionEvent.fail(key, policy.name(), ALGORITHM_NAME, ex))
+                    .doOnCancel(() -> decisionEvent.fail(key, policy.name(), ALGORITHM_NAME,
+                            new CancellationException("Rate limit check cancelled")));
+
+        });
+
+    }
+
+    /**
+     * Reads the current counter for the rate limiter key and adds the permits if the limit is not exceeded.
+     *
+     * @param key     the rate limiter key
+     * @param policy  the policy to enforce
+     * @param permits the number of permits to acquire
+     * @return a Mono emitting true if the permits were acquired, false otherwise
+     */
+    private Mono<Boolean> checkAndIncrement(final String key, final RateLimitPolicy policy, final int permits) {
+
+        final ReactiveValueOperations<String, String> valueOperations = reactiveStringRedisTemplate.opsForValue();
+
+        return valueOperations.get(key)
+                .map(Long::parseLong)
+                .flatMap(currentCount -> {
+                    if (currentCount + permits > policy.maxRequests()) {
+                        return Mono.just(false);
+                    }
+                    return (permits == 1 ? valueOperations.increment(key) : valueOperations.increment(key, permits))
+                            .thenReturn(true);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    if (permits > policy.maxRequests()) {
+                        return Mono.just(false);
+                    }
+                    return valueOperations.set(key, String.valueOf(permits), Duration.ofSeconds(policy.windowSeconds()))
+                            .thenReturn(true);
+                }));
+
+    }
+
+}
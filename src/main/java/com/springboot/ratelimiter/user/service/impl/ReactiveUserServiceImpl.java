@@ -0,0 +1,300 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.common.exception.user.EmailAlreadyExistsException;
+import com.springboot.ratelimiter.common.exception.user.UserNotFoundException;
+import com.springboot.ratelimiter.common.exception.user.UserVersionConflictException;
+import com.springboot.ratelimiter.common.model.entity.id.UuidV7;
+import com.springboot.ratelimiter.common.model.page.CountMode;
+import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.user.User;
+import com.springboot.ratelimiter.user.cache.UserCache;
+import com.springboot.ratelimiter.user.cache.UserPageCache;
+import com.springboot.ratelimiter.user.count.UserCount;
+import com.springboot.ratelimiter.user.email.EmailBloomFilter;
+import com.springboot.ratelimiter.user.model.UserEntity;
+import com.springboot.ratelimiter.user.payload.request.CreateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UpdateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import com.springboot.ratelimiter.user.repository.ReactiveUserRepository;
+import com.springboot.ratelimiter.user.service.ReactiveRateLimiterService;
+import com.springboot.ratelimiter.user.service.ReactiveUserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service class named {@link ReactiveUserServiceImpl} implementing for managing user operations without blocking.
+ * Users are read and written through the {@link ReactiveUserRepository} and the rate limit is checked through the
+ * {@link ReactiveRateLimiterService}, so a request never holds a thread while it waits on MySQL or Redis.
+ * Reads go straight to the database; writes still evict the {@link UserCache}, adjust the {@link UserCount} and
+ * invalidate the {@link UserPageCache} the servlet stack relies on, on a bounded elastic worker since all are blocking.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    private final ReactiveUserRepository reactiveUserRepository;
+
+    private final ReactiveRateLimiterService reactiveRateLimiterService;
+
+    private final UserCache userCache;
+
+    private final UserCount userCount;
+
+    private final UserPageCache userPageCache;
+
+    private final EmailBloomFilter emailBloomFilter;
+
+    /**
+     * Creates a new user based on the provided CreateUserRequest.
+     *
+     * @param createUserRequest the CreateUserRequest containing user details
+     * @return a Mono emitting the created User object
+     */
+    @Override
+    public Mono<User> createUser(final CreateUserRequest createUserRequest) {
+
+        final String email = createUserRequest.getEmail();
+
+        return checkRateLimit()
+                .then(Mono.defer(() -> emailBloomFilter.mightContain(email)
+                        ? reactiveUserRepository.existsByEmail(email)
+                        : Mono.just(false)))
+                .flatMap(taken -> {
+
+                    if (taken) {
+                        return Mono.error(new EmailAlreadyExistsException(email));
+                    }
+
+                    final User user = User.builder()
+                            .id(UuidV7.next().toString())
+                            .name(createUserRequest.getName())
+                            .email(email)
+                            .version(0L)
+                            .createdAt(LocalDateTime.now())
+                            .build();
+
+                    return reactiveUserRepository.insert(user.getId(), user.getName(), email, user.getCreatedAt())
+                            .onErrorMap(DataIntegrityViolationException.class,
+                                    ex -> translateEmailViolation(ex, email))
+                            .then(Mono.fromRunnable(() -> emailBloomFilter.put(email)))
+                            .then(afterWrite(() -> {
+                                userCache.put(user);
+                                userCount.add(1L);
+                                userPageCache.invalidateAll();
+                            }))
+                            .thenReturn(user);
+
+                });
+
+    }
+
+    /**
+     * Retrieves a user by their unique identifier with a primary key lookup.
+     *
+     * @param id the identifier of the user to retrieve
+     * @return a Mono emitting the User object, or failing if no user has the given identifier
+     */
+    @Override
+    public Mono<User> getUserById(final String id) {
+        return checkRateLimit()
+                .then(reactiveUserRepository.findById(id))
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(id)));
+    }
+
+    /**
+     * Updates an existing user identified by their unique identifier.
+     * As in {@link UserServiceImpl#updateUser}, the update is a single statement guarded by the version of the user,
+     * and only when no row was updated a primary key lookup tells a missing user apart from a concurrent modification.
+     *
+     * @param id                the identifier of the user to update
+     * @param updateUserRequest the UpdateUserRequest containing updated user details
+     * @return a Mono emitting the updated User object
+     */
+    @Override
+    public Mono<User> updateUser(final String id, final UpdateUserRequest updateUserRequest) {
+
+        final long version = updateUserRequest.getVersion();
+        final String email = updateUserRequest.getEmail();
+
+        return checkRateLimit()
+                .then(Mono.defer(() -> {
+
+                    final LocalDateTime updatedAt = LocalDateTime.now();
+
+                    return reactiveUserRepository
+                            .updateIfVersionMatches(id, version, updateUserRequest.getName(), email, updatedAt)
+                            .onErrorMap(DataIntegrityViolationException.class,
+                                    ex -> translateEmailViolation(ex, email))
+                            .flatMap(updatedRows -> {
+
+                                if (updatedRows == 0) {
+                                    return reactiveUserRepository.existsById(id)
+                                            .flatMap(exists -> Mono.error(exists
+                                                    ? new UserVersionConflictException(id, version)
+                                                    : new UserNotFoundException(id)));
+                                }
+
+                                emailBloomFilter.put(email);
+
+                                return afterWrite(() -> {
+                                    userCache.evict(id, version + 1);
+                                    userPageCache.invalidateAll();
+                                })
+                                        .thenReturn(User.builder()
+                                                .id(id)
+                                                .name(updateUserRequest.getName())
+                                                .email(email)
+                                                .version(version + 1)
+                                                .updatedAt(updatedAt)
+                                                .build());
+
+                            });
+
+                }));
+
+    }
+
+    /**
+     * Deletes a user by their unique identifier in a single statement.
+     *
+     * @param id the identifier of the user to delete
+     * @return a Mono completing once the user is deleted
+     */
+    @Override
+    public Mono<Void> deleteUserById(final String id) {
+        return checkRateLimit()
+                .then(reactiveUserRepository.deleteById(id))
+                .flatMap(deletedRows -> {
+                    if (deletedRows == 0) {
+                        return Mono.error(new UserNotFoundException(id));
+                    }
+                    return afterWrite(() -> {
+                        userCache.evict(id);
+                        userCount.add(-1L);
+                        userPageCache.invalidateAll();
+                    });
+                });
+    }
+
+    /**
+     * Retrieves a paginated list of user responses based on the provided UserPagingRequest.
+     * One extra row is fetched to find out whether a next page exists; totals follow the requested
+     * {@link CountMode} as in {@link UserServiceImpl#getUserSummaries}.
+     *
+     * @param userPagingRequest the UserPagingRequest containing pagination parameters
+     * @return a Mono emitting a CustomPage containing the list of user responses
+     */
+    @Override
+    public Mono<CustomPage<UserResponse>> getUserResponses(final UserPagingRequest userPagingRequest) {
+
+        return checkRateLimit().then(Mono.defer(() -> {
+
+            final Pageable pageable = userPagingRequest.toPageable();
+            final int pageSize = pageable.getPageSize();
+
+            final Mono<List<UserResponse>> rows = reactiveUserRepository
+                    .findSummaries(pageable.getOffset(), pageSize + 1)
+                    .collectList();
+
+            return Mono.zip(rows, findTotal(userPagingRequest.getCountMode())).map(result -> {
+
+                final List<UserResponse> fetched = result.getT1();
+                if (fetched.isEmpty()) {
+                    throw new UserNotFoundException("Couldn't find any User");
+                }
+
+                final boolean hasNext = fetched.size() > pageSize;
+                final List<UserResponse> content = hasNext ? fetched.subList(0, pageSize) : fetched;
+                final SliceImpl<UserResponse> slice = new SliceImpl<>(content, pageable, hasNext);
+
+                return result.getT2()
+                        .map(total -> CustomPage.of(content, slice, total))
+                        .orElseGet(() -> CustomPage.of(content, slice));
+
+            });
+
+        }));
+
+    }
+
+    /**
+     * Resolves the total number of users for the given {@link CountMode}.
+     * A cached count that is not available falls back to the COUNT query.
+     *
+     * @param countMode the requested count mode
+     * @return a Mono emitting the total, or an empty Optional if totals are skipped
+     */
+    private Mono<Optional<Long>> findTotal(final CountMode countMode) {
+        return switch (countMode) {
+            case EXACT -> reactiveUserRepository.count().map(Optional::of);
+            case CACHED -> Mono.fromCallable(userCount::get)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(cachedTotal -> cachedTotal.isPresent()
+                            ? Mono.just(cachedTotal)
+                            : reactiveUserRepository.count().map(Optional::of));
+            case NONE -> Mono.just(Optional.empty());
+        };
+    }
+
+    /**
+     * Acquires the rate limit permit of the current request.
+     *
+     * @return a Mono completing if the permit was acquired, or failing with {@link RateLimitExceededException}
+     */
+    private Mono<Void> checkRateLimit() {
+        return reactiveRateLimiterService.isAllowed()
+                .flatMap(allowed -> allowed
+                        ? Mono.<Void>empty()
+                        : Mono.error(new RateLimitExceededException("Rate limit exceeded")));
+    }
+
+    /**
+     * Applies a completed write to the blocking user cache and count on a bounded elastic worker.
+     * Failures are logged and not propagated, as the write itself has already succeeded.
+     *
+     * @param action the action to apply
+     * @return a Mono completing once the action has run
+     */
+    private Mono<Void> afterWrite(final Runnable action) {
+        return Mono.fromRunnable(action)
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(ex -> {
+                    log.warn("Could not apply a user change to the cache or count", ex);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Translates a violation of the email index into an {@link EmailAlreadyExistsException}.
+     * Other integrity violations are returned unchanged.
+     *
+     * @param ex    the integrity violation
+     * @param email the email that was written
+     * @return the exception to signal
+     */
+    private static Throwable translateEmailViolation(final DataIntegrityViolationException ex, final String email) {
+
+        if (!StringUtils.containsIgnoreCase(ex.getMostSpecificCause().getMessage(), UserEntity.EMAIL_UNIQUE_CONSTRAINT)) {
+            return ex;
+        }
+
+        return new EmailAlreadyExistsException(email);
+
+    }
+
+}
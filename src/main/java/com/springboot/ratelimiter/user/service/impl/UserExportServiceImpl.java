@@ -0,0 +1,115 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.user.mapper.UserEntityToUserMapper;
+import com.springboot.ratelimiter.user.model.UserEntity;
+import com.springboot.ratelimiter.user.service.RateLimiterService;
+import com.springboot.ratelimiter.user.service.UserExportService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service class named {@link UserExportServiceImpl} implementing for exporting all users as newline delimited JSON.
+ * Rows are read through a forward-only JDBC cursor with the configured fetch size and written to the response
+ * one by one; each entity is detached once written, so memory stays flat regardless of the table size.
+ */
+@Slf4j
+@Service
+public class UserExportServiceImpl implements UserExportService {
+
+    private static final String EXPORT_QUERY = "SELECT u FROM UserEntity u";
+
+    private final RateLimiterService rateLimiterService;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final int fetchSize;
+
+    private final UserEntityToUserMapper userEntityToUserMapper = UserEntityToUserMapper.initialize();
+
+    public UserExportServiceImpl(final RateLimiterService rateLimiterService,
+                                 final EntityManager entityManager,
+                                 final ObjectMapper objectMapper,
+                                 final PlatformTransactionManager transactionManager,
+                                 @Value("${user.export.fetch-size:1000}") final int fetchSize) {
+        this.rateLimiterService = rateLimiterService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Creates a response body streaming all users as newline delimited JSON.
+     *
+     * @return the streaming response body
+     */
+    @Override
+    public StreamingResponseBody exportUsers() {
+
+        if (!rateLimiterService.isAllowed()) {
+            throw new RateLimitExceededException("Rate limit exceeded");
+        }
+
+        return outputStream -> {
+            final long exportedCount = readOnlyTransactionTemplate.execute(status -> writeUsers(outputStream));
+            log.debug("Exported {} users", exportedCount);
+        };
+
+    }
+
+    /**
+     * Writes every user to the given stream, one JSON document per line.
+     * Must be called within a transaction, which keeps the cursor open.
+     *
+     * @param outputStream the stream to write to
+     * @return the number of exported users
+     */
+    long writeUsers(final OutputStream outputStream) {
+
+        long count = 0L;
+        try (Stream<UserEntity> userEntities = entityManager.createQuery(EXPORT_QUERY, UserEntity.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            final Iterator<UserEntity> iterator = userEntities.iterator();
+            while (iterator.hasNext()) {
+                final UserEntity userEntity = iterator.next();
+                generator.writeObject(userEntityToUserMapper.map(userEntity));
+                generator.writeRaw('\n');
+                entityManager.detach(userEntity);
+                count++;
+            }
+
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return count;
+
+    }
+
+}
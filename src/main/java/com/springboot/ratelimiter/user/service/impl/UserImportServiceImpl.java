@@ -0,0 +1,338 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicyRegistry;
+import com.springboot.ratelimiter.user.email.EmailBloomFilter;
+import com.springboot.ratelimiter.user.event.UsersCreatedEvent;
+import com.springboot.ratelimiter.user.mapper.CreateUserRequestToUserEntityMapper;
+import com.springboot.ratelimiter.user.model.UserEntity;
+import com.springboot.ratelimiter.user.payload.request.CreateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UserImportFormat;
+import com.springboot.ratelimiter.user.payload.response.UserImportChunkReport;
+import com.springboot.ratelimiter.user.payload.response.UserImportFailure;
+import com.springboot.ratelimiter.user.payload.response.UserImportResponse;
+import com.springboot.ratelimiter.user.repository.UserRepository;
+import com.springboot.ratelimiter.user.service.RateLimiterService;
+import com.springboot.ratelimiter.user.service.UserImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Service class named {@link UserImportServiceImpl} implementing for importing users from NDJSON or CSV files.
+ * Records are parsed one by one from the stream and validated; every chunk of records is then deduplicated
+ * against the database with a single IN query and persisted in its own transaction, after which the
+ * persistence context is cleared. A failing chunk is reported and does not roll back the chunks before it.
+ * Every chunk is charged one permit per valid record against the bulk rate limit policy before it is committed;
+ * once the policy refuses a chunk, the import stops and keeps the chunks committed before it.
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final UserRepository userRepository;
+
+    private final RateLimiterService rateLimiterService;
+
+    private final EntityManager entityManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    private final EmailBloomFilter emailBloomFilter;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+
+    private final CreateUserRequestToUserEntityMapper createUserRequestToUserEntity =
+            CreateUserRequestToUserEntityMapper.initialize();
+
+    public UserImportServiceImpl(final UserRepository userRepository,
+                                 final RateLimiterService rateLimiterService,
+                                 final EntityManager entityManager,
+                                 final ApplicationEventPublisher eventPublisher,
+                                 final ObjectMapper objectMapper,
+                                 final Validator validator,
+                                 final EmailBloomFilter emailBloomFilter,
+                                 final PlatformTransactionManager transactionManager,
+                                 @Value("${user.import.chunk-size:1000}") final int chunkSize) {
+        this.userRepository = userRepository;
+        this.rateLimiterService = rateLimiterService;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.emailBloomFilter = emailBloomFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports the users read from the given stream, committing them in chunks.
+     *
+     * @param inputStream the stream to read the users from
+     * @param format      the format of the stream
+     * @return the import result with one report per chunk
+     * @throws RateLimitExceededException if the first chunk is refused by the bulk rate limit policy
+     */
+    @Override
+    public UserImportResponse importUsers(final InputStream inputStream, final UserImportFormat format) {
+
+        final List<UserImportChunkReport> chunkReports = new ArrayList<>();
+        long recordNumber = 0L;
+        long importedCount = 0L;
+        long failedCount = 0L;
+        boolean aborted = false;
+
+        try (MappingIterator<CreateUserRequest> records = openReader(inputStream, format)) {
+
+            Chunk chunk = new Chunk(1, 1L);
+            while (true) {
+
+                CreateUserRequest record = null;
+                String unreadableReason = null;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    record = records.nextValue();
+                } catch (MismatchedInputException ex) {
+                    // A well-formed value that does not bind is skipped by the iterator, so reading can go on
+                    unreadableReason = ex.getOriginalMessage();
+                } catch (IOException | RuntimeException ex) {
+                    // The parser cannot resynchronize reliably after a malformed record, so stop here
+                    chunk.fail(recordNumber + 1, null, "Unreadable record: " + ex.getMessage());
+                    aborted = true;
+                    break;
+                }
+
+                if (unreadableReason != null) {
+                    chunk.fail(++recordNumber, null, "Unreadable record: " + unreadableReason);
+                } else {
+                    chunk.accept(++recordNumber, record);
+                }
+
+                if (recordNumber - chunk.firstRecordNumber + 1 == chunkSize) {
+                    final UserImportChunkReport report = commit(chunk, recordNumber);
+                    chunkReports.add(report);
+                    importedCount += report.getImportedCount();
+                    failedCount += report.getFailures().size();
+                    final boolean throttled = chunk.throttled;
+                    chunk = new Chunk(chunk.chunkNumber + 1, recordNumber + 1);
+                    if (throttled) {
+                        aborted = true;
+                        break;
+                    }
+                }
+
+            }
+
+            if (!chunk.isEmpty()) {
+                final UserImportChunkReport report = commit(chunk, recordNumber);
+                chunkReports.add(report);
+                importedCount += report.getImportedCount();
+                failedCount += report.getFailures().size();
+                aborted |= chunk.throttled;
+            }
+
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return UserImportResponse.builder()
+                .recordCount(recordNumber)
+                .importedCount(importedCount)
+                .failedCount(failedCount)
+                .aborted(aborted)
+                .chunks(chunkReports)
+                .build();
+
+    }
+
+    /**
+     * Opens a lazily parsing reader over the given stream.
+     *
+     * @param inputStream the stream to read the users from
+     * @param format      the format of the stream
+     * @return the record iterator
+     * @throws IOException if the stream cannot be read
+     */
+    private MappingIterator<CreateUserRequest> openReader(final InputStream inputStream,
+                                                          final UserImportFormat format) throws IOException {
+        return switch (format) {
+            case NDJSON -> objectMapper.readerFor(CreateUserRequest.class).readValues(inputStream);
+            case CSV -> CSV_MAPPER.readerFor(CreateUserRequest.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(inputStream);
+        };
+    }
+
+    /**
+     * Charges the valid records of a chunk against the bulk rate limit policy and persists them in their own
+     * transaction. A chunk refused by the policy is reported with all of its records failed and marked as throttled.
+     *
+     * @param chunk            the chunk to persist
+     * @param lastRecordNumber the number of the last record of the chunk
+     * @return the report of the chunk
+     * @throws RateLimitExceededException if the first chunk is refused, so nothing has been imported yet
+     */
+    private UserImportChunkReport commit(final Chunk chunk, final long lastRecordNumber) {
+
+        int imported = 0;
+        if (!chunk.records.isEmpty()
+                && !rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, chunk.records.size())) {
+            if (chunk.chunkNumber == 1) {
+                throw new RateLimitExceededException("Rate limit exceeded");
+            }
+            chunk.throttled = true;
+            chunk.records.forEach((number, record) -> chunk.fail(number, record.getEmail(), "Rate limit exceeded"));
+        } else if (!chunk.records.isEmpty()) {
+            try {
+                imported = Objects.requireNonNull(transactionTemplate.execute(status -> persist(chunk)));
+            } catch (DataAccessException ex) {
+                log.warn("Could not import chunk {} of users", chunk.chunkNumber, ex);
+                chunk.records.forEach((number, record) ->
+                        chunk.fail(number, record.getEmail(), "Chunk could not be committed"));
+            }
+        }
+
+        log.info("Imported chunk {} of users: records {}-{}, imported {}, failed {}",
+                chunk.chunkNumber, chunk.firstRecordNumber, lastRecordNumber, imported, chunk.failures.size());
+
+        chunk.failures.sort(Comparator.comparing(UserImportFailure::getRecordNumber));
+        return UserImportChunkReport.builder()
+                .chunkNumber(chunk.chunkNumber)
+                .firstRecordNumber(chunk.firstRecordNumber)
+                .lastRecordNumber(lastRecordNumber)
+                .importedCount(imported)
+                .failures(chunk.failures)
+                .build();
+
+    }
+
+    /**
+     * Drops the records whose email is already taken and saves the rest.
+     * Must be called within a transaction.
+     *
+     * @param chunk the chunk to persist
+     * @return the number of saved users
+     */
+    private int persist(final Chunk chunk) {
+
+        final Set<String> candidateEmails = chunk.records.values().stream()
+                .map(CreateUserRequest::getEmail)
+                .filter(emailBloomFilter::mightContain)
+                .collect(Collectors.toSet());
+        final Set<String> existingEmails = candidateEmails.isEmpty()
+                ? Set.of()
+                : userRepository.findExistingEmails(candidateEmails).stream()
+                        .map(email -> email.toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toSet());
+
+        final List<UserEntity> userEntitiesToBeSaved = new ArrayList<>(chunk.records.size());
+        final List<Long> duplicateRecordNumbers = new ArrayList<>();
+        chunk.records.forEach((number, record) -> {
+            if (existingEmails.contains(record.getEmail().toLowerCase(Locale.ROOT))) {
+                duplicateRecordNumbers.add(number);
+            } else {
+                userEntitiesToBeSaved.add(createUserRequestToUserEntity.map(record));
+            }
+        });
+
+        if (!userEntitiesToBeSaved.isEmpty()) {
+            // Flushed through the repository, so constraint violations surface as a DataAccessException
+            userRepository.saveAllAndFlush(userEntitiesToBeSaved);
+            entityManager.clear();
+            userEntitiesToBeSaved.forEach(userEntity -> emailBloomFilter.put(userEntity.getEmail()));
+            eventPublisher.publishEvent(new UsersCreatedEvent(userEntitiesToBeSaved.size()));
+        }
+
+        // Only reported once the chunk is written, so a failing chunk does not report its records twice
+        duplicateRecordNumbers.forEach(number ->
+                chunk.fail(number, chunk.records.get(number).getEmail(), "Email already exists"));
+        return userEntitiesToBeSaved.size();
+
+    }
+
+    /**
+     * Class named {@link Chunk} collecting the valid records and the failures of one chunk of an import.
+     */
+    private final class Chunk {
+
+        private final int chunkNumber;
+
+        private final long firstRecordNumber;
+
+        private final Map<Long, CreateUserRequest> records = new LinkedHashMap<>();
+
+        private final Set<String> emails = new HashSet<>();
+
+        private final List<UserImportFailure> failures = new ArrayList<>();
+
+        private boolean throttled;
+
+        private Chunk(final int chunkNumber, final long firstRecordNumber) {
+            this.chunkNumber = chunkNumber;
+            this.firstRecordNumber = firstRecordNumber;
+        }
+
+        void accept(final long recordNumber, final CreateUserRequest record) {
+
+            if (record == null) {
+                fail(recordNumber, null, "Unreadable record: null");
+                return;
+            }
+
+            final Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(record);
+            if (!violations.isEmpty()) {
+                fail(recordNumber, record.getEmail(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            } else if (!emails.add(record.getEmail().toLowerCase(Locale.ROOT))) {
+                fail(recordNumber, record.getEmail(), "Duplicate email in chunk");
+            } else {
+                records.put(recordNumber, record);
+            }
+
+        }
+
+        void fail(final long recordNumber, final String email, final String reason) {
+            failures.add(UserImportFailure.builder()
+                    .recordNumber(recordNumber)
+                    .email(email)
+                    .reason(reason)
+                    .build());
+        }
+
+        boolean isEmpty() {
+            return records.isEmpty() && failures.isEmpty();
+        }
+
+    }
+
+}
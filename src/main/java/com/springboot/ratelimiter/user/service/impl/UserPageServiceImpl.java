@@ -0,0 +1,93 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.springboot.ratelimiter.common.compression.Gzip;
+import com.springboot.ratelimiter.common.datasource.ReplicaRoutingDataSource;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.common.timing.ServerTiming;
+import com.springboot.ratelimiter.user.cache.UserPageCache;
+import com.springboot.ratelimiter.user.json.UserPageJsonWriter;
+import com.springboot.ratelimiter.user.model.UserSummary;
+import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
+import com.springboot.ratelimiter.user.service.RateLimiterService;
+import com.springboot.ratelimiter.user.service.UserPageService;
+import com.springboot.ratelimiter.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Service class named {@link UserPageServiceImpl} implementing for serving rendered pages of the user list.
+ * Pages are queried through {@link UserService#getUserSummariesUncharged}, and each row is written by the
+ * {@link UserPageJsonWriter} straight into the complete JSON response while it is being compressed, so neither a
+ * list of responses nor the uncompressed body is built. The compressed body is kept in the {@link UserPageCache},
+ * so a cached page is sent without touching MySQL or Jackson. Each request is charged against the rate limit
+ * exactly once, by this service before the cache is read, so a throttled request costs no cache round trip.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserPageServiceImpl implements UserPageService {
+
+    private final UserService userService;
+
+    private final UserPageCache userPageCache;
+
+    private final RateLimiterService rateLimiterService;
+
+    private final UserPageJsonWriter userPageJsonWriter;
+
+    /**
+     * Retrieves a page of users as the gzip compressed JSON of the complete response.
+     * The users version is read before the page is queried, so a page rendered while a write commits is stored
+     * under the version that write invalidates. The page is queried on the primary, as a lagging replica could
+     * otherwise put rows older than the version into the cache.
+     *
+     * @param userPagingRequest the UserPagingRequest containing pagination parameters
+     * @return the gzip compressed JSON response
+     */
+    @Override
+    public byte[] getUserPage(final UserPagingRequest userPagingRequest) {
+
+        if (!rateLimiterService.isAllowed()) {
+            throw new RateLimitExceededException("Rate limit exceeded");
+        }
+
+        final String pageKey = pageKey(userPagingRequest);
+        final OptionalLong version = userPageCache.currentVersion();
+
+        if (version.isPresent()) {
+            final Optional<byte[]> cachedBody = userPageCache.get(version.getAsLong(), pageKey);
+            if (cachedBody.isPresent()) {
+                return cachedBody.get();
+            }
+        }
+
+        final CustomPage<UserSummary> userSummaryPage = ReplicaRoutingDataSource.readFromPrimary(
+                () -> userService.getUserSummariesUncharged(userPagingRequest));
+        final LocalDateTime time = LocalDateTime.now();
+
+        final byte[] body = ServerTiming.time(ServerTiming.Phase.SERIALIZATION,
+                () -> Gzip.compress(UserPageJsonWriter.sizeHint(userSummaryPage),
+                        outputStream -> userPageJsonWriter.write(outputStream, userSummaryPage, time)));
+
+        version.ifPresent(currentVersion -> userPageCache.put(currentVersion, pageKey, body));
+        return body;
+
+    }
+
+    /**
+     * Builds the key identifying a page within a users version.
+     *
+     * @param userPagingRequest the UserPagingRequest containing pagination parameters
+     * @return the page key
+     */
+    static String pageKey(final UserPagingRequest userPagingRequest) {
+        return userPagingRequest.getPagination().getPageNumber()
+                + ":" + userPagingRequest.getPagination().getPageSize()
+                + ":" + userPagingRequest.getCountMode().name();
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.ratelimiter.common.exception.page.InvalidPageCursorException;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.common.exception.user.UserNotFoundException;
+import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.common.model.page.PageCursor;
+import com.springboot.ratelimiter.common.timing.ServerTiming;
+import com.springboot.ratelimiter.user.mapper.UserSummaryToUserResponseMapper;
+import com.springboot.ratelimiter.user.model.UserSummary;
+import com.springboot.ratelimiter.user.payload.request.UserSearchField;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import com.springboot.ratelimiter.user.repository.UserRepository;
+import com.springboot.ratelimiter.user.service.RateLimiterService;
+import com.springboot.ratelimiter.user.service.UserSearchService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Service class named {@link UserSearchServiceImpl} implementing for searching users by name or email prefix.
+ * A prefix is turned into an escaped LIKE pattern, so every search is a range scan on the name or email index,
+ * and pages are keyset paginated on (value, id) so that later pages cost the same as the first one.
+ * Results are kept in a bounded in-process cache for a few seconds; its frequency based admission keeps the hot
+ * searches of support tools resident, while the short TTL bounds how stale a result can be after a write.
+ */
+@Service
+public class UserSearchServiceImpl implements UserSearchService {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private static final int ID_LENGTH = 36;
+
+    private final UserRepository userRepository;
+
+    private final RateLimiterService rateLimiterService;
+
+    private final Cache<SearchKey, CustomPage<UserResponse>> resultCache;
+
+    private final UserSummaryToUserResponseMapper userSummaryToUserResponseMapper =
+            UserSummaryToUserResponseMapper.initialize();
+
+    public UserSearchServiceImpl(final UserRepository userRepository,
+                                 final RateLimiterService rateLimiterService,
+                                 final MeterRegistry meterRegistry,
+                                 @Value("${user.search.cache.max-size:1000}") final long maxSize,
+                                 @Value("${user.search.cache.ttl-seconds:5}") final long ttlSeconds) {
+
+        this.userRepository = userRepository;
+        this.rateLimiterService = rateLimiterService;
+        this.resultCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, resultCache, "user.search");
+
+    }
+
+    /**
+     * Retrieves a keyset page of the users whose given field starts with the given prefix.
+     * Prefixes are matched with the collation of the column, which is case-insensitive by default,
+     * so searches differing only in case share one cache entry.
+     *
+     * @param field    the field to match the prefix against
+     * @param prefix   the prefix to search for
+     * @param cursor   the opaque cursor returned with the previous page, or null for the first page
+     * @param pageSize the maximum number of users to return
+     * @return a CustomPage containing the matching users and the cursor to the next page
+     */
+    @Override
+    public CustomPage<UserResponse> searchUsers(final UserSearchField field, final String prefix,
+                                                final String cursor, final int pageSize) {
+
+        if (!rateLimiterService.isAllowed()) {
+            throw new RateLimitExceededException("Rate limit exceeded");
+        }
+
+        final SearchKey searchKey = new SearchKey(field, prefix.toLowerCase(Locale.ROOT), cursor, pageSize);
+        return resultCache.get(searchKey, key -> search(field, prefix, cursor, pageSize));
+
+    }
+
+    /**
+     * Runs a search against the database.
+     * One extra row is fetched to find out whether a next page exists without counting.
+     *
+     * @param field    the field to match the prefix against
+     * @param prefix   the prefix to search for
+     * @param cursor   the opaque cursor returned with the previous page, or null for the first page
+     * @param pageSize the maximum number of users to return
+     * @return a CustomPage containing the matching users and the cursor to the next page
+     */
+    private CustomPage<UserResponse> search(final UserSearchField field, final String prefix,
+                                            final String cursor, final int pageSize) {
+
+        final String pattern = toPrefixPattern(prefix);
+        final Limit limit = Limit.of(pageSize + 1);
+
+        final List<UserSummary> userSummaries;
+        if (cursor == null) {
+            userSummaries = ServerTiming.time(ServerTiming.Phase.JPA, () -> switch (field) {
+                case NAME -> userRepository.findSummariesByNameLike(pattern, limit);
+                case EMAIL -> userRepository.findSummariesByEmailLike(pattern, limit);
+            });
+        } else {
+            final String lastKey = PageCursor.decode(cursor);
+            final String lastId = decodeId(lastKey);
+            final String lastValue = lastKey.substring(ID_LENGTH);
+            userSummaries = ServerTiming.time(ServerTiming.Phase.JPA, () -> switch (field) {
+                case NAME -> userRepository.findSummariesByNameLikeAfter(pattern, lastValue, lastId, limit);
+                case EMAIL -> userRepository.findSummariesByEmailLikeAfter(pattern, lastValue, lastId, limit);
+            });
+        }
+
+        if (userSummaries.isEmpty()) {
+            throw new UserNotFoundException("Couldn't find any User");
+        }
+
+        final boolean hasNext = userSummaries.size() > pageSize;
+        final List<UserSummary> pageContent = hasNext ? userSummaries.subList(0, pageSize) : userSummaries;
+        final String nextCursor = hasNext ? encodeCursor(field, pageContent.get(pageSize - 1)) : null;
+
+        final List<UserResponse> userResponses = ServerTiming.time(ServerTiming.Phase.MAPPING,
+                () -> userSummaryToUserResponseMapper.map(pageContent));
+
+        return CustomPage.ofCursor(userResponses, pageSize, nextCursor);
+
+    }
+
+    /**
+     * Encodes the sort key of the given user into a cursor, as its id followed by the searched value.
+     *
+     * @param field       the searched field
+     * @param userSummary the last user of the page
+     * @return the opaque cursor
+     */
+    private static String encodeCursor(final UserSearchField field, final UserSummary userSummary) {
+        final String value = switch (field) {
+            case NAME -> userSummary.name();
+            case EMAIL -> userSummary.email();
+        };
+        return PageCursor.encode(userSummary.id() + value);
+    }
+
+    /**
+     * Extracts the id of the last user of the previous page from a decoded cursor.
+     *
+     * @param lastKey the decoded cursor
+     * @return the id of the last user of the previous page
+     * @throws InvalidPageCursorException if the cursor does not start with a user id
+     */
+    private static String decodeId(final String lastKey) {
+        if (lastKey.length() <= ID_LENGTH) {
+            throw new InvalidPageCursorException();
+        }
+        final String lastId = lastKey.substring(0, ID_LENGTH);
+        try {
+            UUID.fromString(lastId);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidPageCursorException();
+        }
+        return lastId;
+    }
+
+    /**
+     * Turns a prefix into a LIKE pattern, escaping the wildcard characters it contains.
+     *
+     * @param prefix the prefix to search for
+     * @return the LIKE pattern escaped with {@value #LIKE_ESCAPE}
+     */
+    static String toPrefixPattern(final String prefix) {
+        final StringBuilder pattern = new StringBuilder(prefix.length() + 2);
+        for (int i = 0; i < prefix.length(); i++) {
+            final char c = prefix.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * Record named {@link SearchKey} identifying a cached search result.
+     *
+     * @param field    the searched field
+     * @param prefix   the lower case prefix
+     * @param cursor   the cursor, or null for the first page
+     * @param pageSize the page size
+     */
+    private record SearchKey(UserSearchField field, String prefix, String cursor, int pageSize) {
+    }
+
+}
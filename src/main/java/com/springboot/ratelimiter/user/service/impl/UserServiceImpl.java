@@ -1,27 +1,56 @@
 package com.springboot.ratelimiter.user.service.impl;
 
+import com.springboot.ratelimiter.common.datasource.ReplicaRoutingDataSource;
+import com.springboot.ratelimiter.common.exception.page.InvalidPageCursorException;
 import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
 import com.springboot.ratelimiter.common.exception.user.EmailAlreadyExistsException;
 import com.springboot.ratelimiter.common.exception.user.UserNotFoundException;
+import com.springboot.ratelimiter.common.exception.user.UserVersionConflictException;
+import com.springboot.ratelimiter.common.model.page.CountMode;
 import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.common.model.page.PageCursor;
+import com.springboot.ratelimiter.common.timing.ServerTiming;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicyRegistry;
 import com.springboot.ratelimiter.user.User;
+import com.springboot.ratelimiter.user.cache.UserCache;
+import com.springboot.ratelimiter.user.count.UserCount;
+import com.springboot.ratelimiter.user.email.EmailBloomFilter;
+import com.springboot.ratelimiter.user.event.UserCreatedEvent;
+import com.springboot.ratelimiter.user.event.UserDeletedEvent;
+import com.springboot.ratelimiter.user.event.UserUpdatedEvent;
+import com.springboot.ratelimiter.user.event.UsersCreatedEvent;
+import com.springboot.ratelimiter.user.event.UsersDeletedEvent;
 import com.springboot.ratelimiter.user.mapper.CreateUserRequestToUserEntityMapper;
 import com.springboot.ratelimiter.user.mapper.ListUserEntityToListUserMapper;
-import com.springboot.ratelimiter.user.mapper.UpdateUserRequestToUserEntityMapper;
 import com.springboot.ratelimiter.user.mapper.UserEntityToUserMapper;
 import com.springboot.ratelimiter.user.model.UserEntity;
+import com.springboot.ratelimiter.user.model.UserSummary;
 import com.springboot.ratelimiter.user.payload.request.CreateUserRequest;
 import com.springboot.ratelimiter.user.payload.request.UpdateUserRequest;
 import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
 import com.springboot.ratelimiter.user.repository.UserRepository;
 import com.springboot.ratelimiter.user.service.RateLimiterService;
 import com.springboot.ratelimiter.user.service.UserService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Service class named {@link UserServiceImpl} implementing for managing user operations.
@@ -35,6 +64,19 @@ public class UserServiceImpl implements UserService {
 
     private final RateLimiterService rateLimiterService;
 
+    private final UserCache userCache;
+
+    private final UserCount userCount;
+
+    private final EmailBloomFilter emailBloomFilter;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final EntityManager entityManager;
+
+    @Value("${user.batch.insert-chunk-size:500}")
+    private int insertChunkSize;
+
     private final UserEntityToUserMapper userEntityToUserMapper = UserEntityToUserMapper.initialize();
 
     private final CreateUserRequestToUserEntityMapper createUserRequestToUserEntity =
@@ -57,18 +99,88 @@ public class UserServiceImpl implements UserService {
             throw new RateLimitExceededException("Rate limit exceeded");
         }
 
-        if (userRepository.existsByEmail(createUserRequest.getEmail())) {
+        if (isEmailTaken(createUserRequest.getEmail())) {
             throw new EmailAlreadyExistsException(createUserRequest.getEmail());
         }
 
-        final UserEntity userEntityToBeSaved = createUserRequestToUserEntity.map(createUserRequest);
-        final UserEntity savedUserEntity = userRepository.save(userEntityToBeSaved);
-        return userEntityToUserMapper.map(savedUserEntity);
+        final UserEntity userEntityToBeSaved = ServerTiming.time(ServerTiming.Phase.MAPPING,
+                () -> createUserRequestToUserEntity.map(createUserRequest));
+        final UserEntity savedUserEntity = ServerTiming.time(ServerTiming.Phase.JPA,
+                () -> saveAndFlush(userEntityToBeSaved));
+        emailBloomFilter.put(savedUserEntity.getEmail());
+        final User savedUser = ServerTiming.time(ServerTiming.Phase.MAPPING,
+                () -> userEntityToUserMapper.map(savedUserEntity));
+
+        eventPublisher.publishEvent(new UserCreatedEvent(savedUser));
+        return savedUser;
+
+    }
+
+    /**
+     * Creates several users in one transaction, charging one permit per user against the bulk rate limit policy.
+     * Duplicate emails are detected with a single IN query, and the users are persisted in chunks that are
+     * flushed and detached one by one, so Hibernate sends them as JDBC batches and the persistence context
+     * stays small.
+     *
+     * @param createUserRequests the CreateUserRequests containing user details
+     * @return the created User objects
+     */
+    @Override
+    @Transactional
+    public List<User> createUsers(List<CreateUserRequest> createUserRequests) {
+
+        if (!rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, createUserRequests.size())) {
+            throw new RateLimitExceededException("Rate limit exceeded");
+        }
+
+        final Set<String> emails = new HashSet<>(createUserRequests.size() * 2);
+        for (CreateUserRequest createUserRequest : createUserRequests) {
+            if (!emails.add(createUserRequest.getEmail().toLowerCase(Locale.ROOT))) {
+                throw new EmailAlreadyExistsException(createUserRequest.getEmail());
+            }
+        }
+
+        final List<String> candidateEmails = emails.stream().filter(emailBloomFilter::mightContain).toList();
+        if (!candidateEmails.isEmpty()) {
+            final List<String> existingEmails = ServerTiming.time(ServerTiming.Phase.JPA,
+                    () -> userRepository.findExistingEmails(candidateEmails));
+            if (!existingEmails.isEmpty()) {
+                throw new EmailAlreadyExistsException(existingEmails.get(0));
+            }
+        }
+
+        final List<UserEntity> userEntitiesToBeSaved = ServerTiming.time(ServerTiming.Phase.MAPPING,
+                () -> createUserRequests.stream().map(createUserRequestToUserEntity::map).toList());
+
+        final List<User> savedUsers = new ArrayList<>(userEntitiesToBeSaved.size());
+        for (int from = 0; from < userEntitiesToBeSaved.size(); from += insertChunkSize) {
+            final List<UserEntity> chunk = userEntitiesToBeSaved
+                    .subList(from, Math.min(from + insertChunkSize, userEntitiesToBeSaved.size()));
+            final List<UserEntity> savedChunk = ServerTiming.time(ServerTiming.Phase.JPA, () -> {
+                try {
+                    // Flushed through the repository, so a violated email index surfaces translated
+                    final List<UserEntity> saved = userRepository.saveAllAndFlush(chunk);
+                    entityManager.clear();
+                    return saved;
+                } catch (DataIntegrityViolationException ex) {
+                    throw translateEmailViolation(ex, findReportedEmail(ex, chunk));
+                }
+            });
+            savedChunk.forEach(userEntity -> emailBloomFilter.put(userEntity.getEmail()));
+            savedUsers.addAll(ServerTiming.time(ServerTiming.Phase.MAPPING,
+                    () -> listUserEntityToListUserMapper.toUserList(savedChunk)));
+        }
+
+        eventPublisher.publishEvent(new UsersCreatedEvent(savedUsers.size()));
+        return savedUsers;
 
     }
 
     /**
      * Retrieves a user by their unique identifier.
+     * The user is read through the {@link UserCache}, so the database is only queried on a cache miss.
+     * A miss is loaded from the primary, as the loaded user is cached and a lagging replica could still hold the
+     * version an update just replaced.
      *
      * @param id the identifier of the user to retrieve
      * @return the User object if found, otherwise null
@@ -80,14 +192,22 @@ public class UserServiceImpl implements UserService {
             throw new RateLimitExceededException("Rate limit exceeded");
         }
 
-        final UserEntity userEntity = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException(id));
-        return userEntityToUserMapper.map(userEntity);
+        return userCache.get(id).orElseGet(() -> {
+            final UserEntity userEntity = ServerTiming.time(ServerTiming.Phase.JPA,
+                            () -> ReplicaRoutingDataSource.readFromPrimary(() -> userRepository.findById(id)))
+                    .orElseThrow(() -> new UserNotFoundException(id));
+            final User user = ServerTiming.time(ServerTiming.Phase.MAPPING, () -> userEntityToUserMapper.map(userEntity));
+            userCache.put(user);
+            return user;
+        });
 
     }
 
     /**
      * Updates an existing user identified by their unique identifier.
+     * The update is a single conditional statement guarded by the version of the user, so nothing is read
+     * up front: a taken email is reported by the unique email index, and when no row was updated a primary key
+     * lookup tells a missing user apart from a concurrent modification.
      *
      * @param id               the identifier of the user to update
      * @param updateUserRequest the UpdateUserRequest containing updated user details
@@ -101,25 +221,42 @@ public class UserServiceImpl implements UserService {
             throw new RateLimitExceededException("Rate limit exceeded");
         }
 
-        if (userRepository.existsByEmail(updateUserRequest.getEmail())) {
-            throw new EmailAlreadyExistsException(updateUserRequest.getEmail());
+        final long version = updateUserRequest.getVersion();
+        final LocalDateTime updatedAt = LocalDateTime.now();
+
+        final int updatedRows = ServerTiming.time(ServerTiming.Phase.JPA, () -> {
+            try {
+                return userRepository.updateIfVersionMatches(id, version,
+                        updateUserRequest.getName(), updateUserRequest.getEmail(), updatedAt);
+            } catch (DataIntegrityViolationException ex) {
+                throw translateEmailViolation(ex, updateUserRequest.getEmail());
+            }
+        });
+
+        if (updatedRows == 0) {
+            if (ServerTiming.time(ServerTiming.Phase.JPA, () -> userRepository.existsById(id))) {
+                throw new UserVersionConflictException(id, version);
+            }
+            throw new UserNotFoundException(id);
         }
 
-        final UserEntity userEntity = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException(id));
-
-
-        UserEntity userEntityToBeUpdated = UpdateUserRequestToUserEntityMapper
-                .mapForUpdate(userEntity, updateUserRequest);
+        emailBloomFilter.put(updateUserRequest.getEmail());
 
-        final UserEntity userEntityUpdated = userRepository.save(userEntityToBeUpdated);
+        eventPublisher.publishEvent(new UserUpdatedEvent(id, version + 1));
 
-        return userEntityToUserMapper.map(userEntityUpdated);
+        return User.builder()
+                .id(id)
+                .name(updateUserRequest.getName())
+                .email(updateUserRequest.getEmail())
+                .version(version + 1)
+                .updatedAt(updatedAt)
+                .build();
 
     }
 
     /**
      * Deletes a user by their unique identifier.
+     * The user is deleted in a single statement; a missing user is detected from the deleted row count.
      *
      * @param id the identifier of the user to delete
      */
@@ -131,35 +268,221 @@ public class UserServiceImpl implements UserService {
             throw new RateLimitExceededException("Rate limit exceeded");
         }
 
-        UserEntity userEntity = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException(id));
+        final int deletedRows = ServerTiming.time(ServerTiming.Phase.JPA,
+                () -> userRepository.deleteByIdReturningCount(id));
+
+        if (deletedRows == 0) {
+            throw new UserNotFoundException(id);
+        }
+
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
+
+    }
+
+    /**
+     * Deletes the users with the given identifiers in a single statement.
+     * Every identifier counts against the bulk rate limit policy, and the cached copies of all of them are evicted
+     * once the transaction commits.
+     *
+     * @param ids the identifiers of the users to delete
+     * @return the number of deleted users
+     */
+    @Override
+    @Transactional
+    public int deleteUsersByIds(List<String> ids) {
+
+        if (!rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, ids.size())) {
+            throw new RateLimitExceededException("Rate limit exceeded");
+        }
+
+        final List<String> distinctIds = ids.stream().distinct().toList();
+
+        final int deletedRows = ServerTiming.time(ServerTiming.Phase.JPA,
+                () -> userRepository.deleteAllByIdReturningCount(distinctIds));
+
+        if (deletedRows > 0) {
+            eventPublisher.publishEvent(new UsersDeletedEvent(distinctIds, deletedRows));
+        }
+
+        return deletedRows;
+
+    }
+
+    /**
+     * Retrieves a paginated list of user rows read through a column projection.
+     * The rows are returned as selected, so callers can write them out without building a list of responses.
+     * Depending on the requested {@link CountMode}, totals come from a COUNT query, from the maintained
+     * {@link UserCount}, or are skipped in favour of a has-next flag. A cached count that is not available
+     * falls back to the COUNT query.
+     *
+     * @param userPagingRequest the UserPagingRequest containing pagination parameters
+     * @return a CustomPage containing the list of user rows
+     */
+    @Override
+    public CustomPage<UserSummary> getUserSummaries(UserPagingRequest userPagingRequest) {
+
+        if (!rateLimiterService.isAllowed()) {
+            throw new RateLimitExceededException("Rate limit exceeded");
+        }
 
-        userRepository.delete(userEntity);
+        return getUserSummariesUncharged(userPagingRequest);
 
     }
 
     /**
-     * Retrieves a paginated list of users based on the provided UserPagingRequest.
+     * Retrieves a paginated list of user rows like {@link #getUserSummaries(UserPagingRequest)}, without charging
+     * the request against the rate limit.
      *
      * @param userPagingRequest the UserPagingRequest containing pagination parameters
-     * @return a CustomPage containing the list of users
+     * @return a CustomPage containing the list of user rows
      */
     @Override
-    public CustomPage<User> getUsers(UserPagingRequest userPagingRequest) {
+    public CustomPage<UserSummary> getUserSummariesUncharged(UserPagingRequest userPagingRequest) {
+
+        final Pageable pageable = userPagingRequest.toPageable();
+        final CountMode countMode = userPagingRequest.getCountMode();
+        final Long cachedTotal = countMode == CountMode.CACHED ? userCount.get().orElse(null) : null;
+        final boolean exactCount = countMode == CountMode.EXACT
+                || (countMode == CountMode.CACHED && cachedTotal == null);
+
+        final Slice<UserSummary> slice = ServerTiming.time(ServerTiming.Phase.JPA, () -> exactCount
+                ? userRepository.findAllSummaries(pageable)
+                : userRepository.findSummarySlice(pageable));
+
+        if (slice.getContent().isEmpty()) {
+            throw new UserNotFoundException("Couldn't find any User");
+        }
+
+        if (slice instanceof Page<UserSummary> page) {
+            return CustomPage.of(page.getContent(), page);
+        }
+        if (cachedTotal != null) {
+            return CustomPage.of(slice.getContent(), slice, cachedTotal);
+        }
+        return CustomPage.of(slice.getContent(), slice);
+
+    }
+
+    /**
+     * Retrieves a keyset page of users following the given cursor.
+     * One extra row is fetched to find out whether a next page exists without counting.
+     *
+     * @param cursor   the opaque cursor returned with the previous page, or null for the first page
+     * @param pageSize the maximum number of users to return
+     * @return a CustomPage containing the list of users and the cursor to the next page
+     */
+    @Override
+    public CustomPage<User> getUsersByCursor(String cursor, int pageSize) {
 
         if (!rateLimiterService.isAllowed()) {
             throw new RateLimitExceededException("Rate limit exceeded");
         }
 
-        final Page<UserEntity> userEntityPage = userRepository.findAll(userPagingRequest.toPageable());
+        final String lastId = cursor == null ? null : decodeIdCursor(cursor);
+        final Limit limit = Limit.of(pageSize + 1);
+        final List<UserEntity> userEntities = ServerTiming.time(ServerTiming.Phase.JPA, () -> lastId == null
+                ? userRepository.findAllByOrderByIdAsc(limit)
+                : userRepository.findByIdGreaterThanOrderByIdAsc(lastId, limit));
 
-        if (userEntityPage.getContent().isEmpty()) {
+        if (userEntities.isEmpty()) {
             throw new UserNotFoundException("Couldn't find any User");
         }
 
-        final List<User> userDomainModels = listUserEntityToListUserMapper.toUserList(userEntityPage.getContent());
+        final boolean hasNext = userEntities.size() > pageSize;
+        final List<UserEntity> pageContent = hasNext ? userEntities.subList(0, pageSize) : userEntities;
+        final String nextCursor = hasNext ? PageCursor.encode(pageContent.get(pageSize - 1).getId()) : null;
+
+        final List<User> userDomainModels = ServerTiming.time(ServerTiming.Phase.MAPPING,
+                () -> listUserEntityToListUserMapper.toUserList(pageContent));
+
+        return CustomPage.ofCursor(userDomainModels, pageSize, nextCursor);
+
+    }
+
+    /**
+     * Decodes a keyset cursor into the id of the last user of the previous page.
+     *
+     * @param cursor the opaque cursor
+     * @return the id of the last user of the previous page
+     * @throws InvalidPageCursorException if the cursor does not hold a user id
+     */
+    private static String decodeIdCursor(final String cursor) {
+        final String lastId = PageCursor.decode(cursor);
+        try {
+            UUID.fromString(lastId);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidPageCursorException();
+        }
+        return lastId;
+    }
+
+    /**
+     * Checks whether the given email is already in use.
+     * The query is skipped when the {@link EmailBloomFilter} rules the email out.
+     *
+     * @param email the email address to check
+     * @return true if the email is in use, false otherwise
+     */
+    private boolean isEmailTaken(final String email) {
+        return emailBloomFilter.mightContain(email)
+                && ServerTiming.time(ServerTiming.Phase.JPA, () -> userRepository.existsByEmail(email));
+    }
+
+    /**
+     * Saves the given user and flushes it, so that a violated email index is reported here and not at commit.
+     *
+     * @param userEntity the user to save
+     * @return the saved user
+     */
+    private UserEntity saveAndFlush(final UserEntity userEntity) {
+        try {
+            final UserEntity savedUserEntity = userRepository.save(userEntity);
+            userRepository.flush();
+            return savedUserEntity;
+        } catch (DataIntegrityViolationException ex) {
+            throw translateEmailViolation(ex, userEntity.getEmail());
+        }
+    }
+
+    /**
+     * Finds the email of the given users that the database reported in an integrity violation, as in MySQL's
+     * {@code Duplicate entry '<email>' for key ...} message.
+     *
+     * @param ex           the integrity violation
+     * @param userEntities the users that were written
+     * @return the reported email, or null if none of the emails is named
+     */
+    private static String findReportedEmail(final DataIntegrityViolationException ex,
+                                            final List<UserEntity> userEntities) {
+        final String message = ex.getMostSpecificCause().getMessage();
+        if (message == null) {
+            return null;
+        }
+        return userEntities.stream()
+                .map(UserEntity::getEmail)
+                .filter(email -> StringUtils.containsIgnoreCase(message, "'" + email + "'"))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Translates a violation of the email index into an {@link EmailAlreadyExistsException}.
+     * Other integrity violations are returned unchanged.
+     *
+     * @param ex    the integrity violation
+     * @param email the email that was written, or null if unknown
+     * @return the exception to throw
+     */
+    private static RuntimeException translateEmailViolation(final DataIntegrityViolationException ex,
+                                                            final String email) {
+
+        if (!(ex.getCause() instanceof org.hibernate.exception.ConstraintViolationException violation)
+                || violation.getConstraintName() == null
+                || !StringUtils.containsIgnoreCase(violation.getConstraintName(), UserEntity.EMAIL_UNIQUE_CONSTRAINT)) {
+            return ex;
+        }
 
-        return CustomPage.of(userDomainModels, userEntityPage);
+        return email == null ? new EmailAlreadyExistsException() : new EmailAlreadyExistsException(email);
 
     }
 
@@ -0,0 +1,101 @@
+package com.springboot.ratelimiter.common.bulkhead;
+
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.common.exception.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link BulkheadDataSource}.
+ */
+class BulkheadDataSourceTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private Bulkhead bulkhead;
+
+    private BulkheadDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        bulkhead = new Bulkhead("jdbc", 1, Duration.ofMillis(20), new SimpleMeterRegistry());
+        dataSource = new BulkheadDataSource(targetDataSource, bulkhead);
+    }
+
+    /**
+     * Test case for an open connection.
+     * Verifies that the permit is held until the connection is closed, and only returned once.
+     */
+    @Test
+    void givenOpenConnection_whenClose_thenReleasePermitOnce() throws SQLException {
+
+        // When
+        final Connection guarded = dataSource.getConnection();
+
+        // Then
+        assertEquals(0, bulkhead.getAvailablePermits());
+        assertThrows(BulkheadFullException.class, () -> dataSource.getConnection());
+
+        guarded.close();
+        guarded.close();
+
+        assertEquals(1, bulkhead.getAvailablePermits());
+        verify(connection, times(2)).close();
+
+    }
+
+    /**
+     * Test case for a connection that cannot be obtained.
+     * Verifies that the permit is returned.
+     */
+    @Test
+    void givenFailingTarget_whenGetConnection_thenReleasePermit() throws SQLException {
+
+        // Given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // When
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        // Then
+        assertEquals(1, bulkhead.getAvailablePermits());
+
+    }
+
+    /**
+     * Test case for calls on a guarded connection.
+     * Verifies that they are delegated to the target connection.
+     */
+    @Test
+    void givenGuardedConnection_whenCall_thenDelegateToTarget() throws SQLException {
+
+        // Given
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        // When
+        try (Connection guarded = dataSource.getConnection()) {
+
+            // Then
+            assertFalse(guarded.getAutoCommit());
+            verify(connection).getAutoCommit();
+
+        }
+
+    }
+
+}
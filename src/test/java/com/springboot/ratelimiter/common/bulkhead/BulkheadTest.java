@@ -0,0 +1,119 @@
+package com.springboot.ratelimiter.common.bulkhead;
+
+import com.springboot.ratelimiter.common.exception.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link Bulkhead}.
+ */
+class BulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Test case for many virtual threads calling through a small bulkhead.
+     * Verifies that no more calls than permits run at once and that every permit is returned.
+     */
+    @Test
+    void givenManyVirtualThreads_whenCall_thenConcurrencyNeverExceedsPermits() throws Exception {
+
+        // Given
+        final Bulkhead bulkhead = new Bulkhead("test", 4, Duration.ofSeconds(10), meterRegistry);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        // When
+        final List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() -> bulkhead.call(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    return 1;
+                })));
+            }
+        }
+
+        // Then
+        for (Future<Integer> result : results) {
+            assertEquals(1, result.get());
+        }
+        assertTrue(maxRunning.get() <= 4);
+        assertEquals(4, bulkhead.getAvailablePermits());
+
+    }
+
+    /**
+     * Test case for a full bulkhead.
+     * Verifies that a caller is rejected after the maximum wait and the rejection is counted.
+     */
+    @Test
+    void givenFullBulkhead_whenCall_thenThrowBulkheadFullException() throws Exception {
+
+        // Given
+        final Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofMillis(20), meterRegistry);
+        final CountDownLatch holding = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        final Thread holder = Thread.ofVirtual().start(() -> bulkhead.run(() -> {
+            holding.countDown();
+            try {
+                done.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        // When
+        final BulkheadFullException exception = assertThrows(BulkheadFullException.class,
+                () -> bulkhead.call(() -> 1));
+
+        // Then
+        assertEquals("Too many concurrent calls to test", exception.getMessage());
+        assertEquals(1.0d, meterRegistry.get("bulkhead.rejected.calls").tag("name", "test").counter().count());
+
+        done.countDown();
+        holder.join();
+        assertEquals(1, bulkhead.getAvailablePermits());
+
+    }
+
+    /**
+     * Test case for an operation that fails.
+     * Verifies that the permit is returned.
+     */
+    @Test
+    void givenFailingOperation_whenCall_thenReleasePermit() {
+
+        // Given
+        final Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofMillis(20), meterRegistry);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> bulkhead.call(() -> {
+            throw new IllegalStateException("failed");
+        }));
+
+        // Then
+        assertEquals(1, bulkhead.getAvailablePermits());
+
+    }
+
+}
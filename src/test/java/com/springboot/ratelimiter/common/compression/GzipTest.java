@@ -0,0 +1,47 @@
+package com.springboot.ratelimiter.common.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link Gzip}.
+ */
+class GzipTest {
+
+    /**
+     * Test case for {@link Gzip#compress(byte[])} and {@link Gzip#decompress(byte[])}.
+     */
+    @Test
+    void givenJsonBody_whenCompressAndDecompress_thenReturnOriginalBytes() {
+
+        // Given
+        final byte[] body = "{\"isSuccess\":true,\"response\":{\"content\":[]}}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        final byte[] compressed = Gzip.compress(body);
+
+        // Then
+        assertEquals(0x1f, compressed[0] & 0xff);
+        assertEquals(0x8b, compressed[1] & 0xff);
+        assertArrayEquals(body, Gzip.decompress(compressed));
+
+    }
+
+    /**
+     * Test case for {@link Gzip#isAccepted(String)} with the Accept-Encoding values browsers and clients send.
+     */
+    @Test
+    void givenAcceptEncodingHeaders_whenIsAccepted_thenOnlyAcceptListedGzipWithoutZeroQuality() {
+        assertTrue(Gzip.isAccepted("gzip"));
+        assertTrue(Gzip.isAccepted("gzip, deflate, br"));
+        assertTrue(Gzip.isAccepted("br;q=1.0, GZIP;q=0.5"));
+        assertFalse(Gzip.isAccepted(null));
+        assertFalse(Gzip.isAccepted("br, deflate"));
+        assertFalse(Gzip.isAccepted("gzip;q=0"));
+        assertFalse(Gzip.isAccepted("identity, gzip;q=0.000"));
+    }
+
+}
@@ -0,0 +1,199 @@
+package com.springboot.ratelimiter.common.datasource;
+
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ReplicaLagMonitor}.
+ */
+class ReplicaLagMonitorTest extends AbstractBaseServiceTest {
+
+    private static final String REPLICA_KEY = "replica-0";
+
+    private static final Duration CHECK_INTERVAL = Duration.ofSeconds(1);
+
+    private static final int MAX_MISSED_CHECKS = 3;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaLagMonitor.REPLICA_STATUS_QUERY)).thenReturn(resultSet);
+        replicaLagMonitor = new ReplicaLagMonitor(Map.of(REPLICA_KEY, dataSource), 2L, CHECK_INTERVAL,
+                MAX_MISSED_CHECKS, nanoTime::get);
+    }
+
+    /**
+     * Test case for a replica before the first check.
+     * Verifies that replicas do not receive reads until their lag is known.
+     */
+    @Test
+    void givenNoCheckYet_whenIsHealthy_thenReturnFalse() {
+        assertFalse(replicaLagMonitor.isHealthy(REPLICA_KEY));
+    }
+
+    /**
+     * Test case for a replica within the lag bound.
+     * Verifies that the replica is marked healthy.
+     */
+    @Test
+    void givenLagWithinBound_whenCheck_thenReplicaHealthy() throws SQLException {
+
+        // Given
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(ReplicaLagMonitor.LAG_COLUMN)).thenReturn(1L);
+        when(resultSet.wasNull()).thenReturn(false);
+
+        // When
+        replicaLagMonitor.check();
+
+        // Then
+        assertTrue(replicaLagMonitor.isHealthy(REPLICA_KEY));
+
+    }
+
+    /**
+     * Test case for a started monitor.
+     * Verifies that the replicas are checked on the monitor's own thread without a scheduled task.
+     */
+    @Test
+    void givenStartedMonitor_whenRunning_thenCheckReplicasOnOwnThread() throws Exception {
+
+        // Given
+        final AtomicReference<String> checkThread = new AtomicReference<>();
+        when(resultSet.next()).thenAnswer(invocation -> {
+            checkThread.set(Thread.currentThread().getName());
+            return true;
+        });
+        when(resultSet.getLong(ReplicaLagMonitor.LAG_COLUMN)).thenReturn(0L);
+        when(resultSet.wasNull()).thenReturn(false);
+
+        // When
+        replicaLagMonitor.start();
+
+        // Then
+        verify(statement, timeout(1000).atLeastOnce()).executeQuery(ReplicaLagMonitor.REPLICA_STATUS_QUERY);
+        replicaLagMonitor.close();
+        assertEquals("replica-lag-monitor", checkThread.get());
+
+    }
+
+    /**
+     * Test case for a healthy replica whose checks stop running.
+     * Verifies that the replica stops receiving reads once its last successful check is too old.
+     */
+    @Test
+    void givenNoCheckForTooManyIntervals_whenIsHealthy_thenReplicaUnhealthy() throws SQLException {
+
+        // Given
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(ReplicaLagMonitor.LAG_COLUMN)).thenReturn(0L);
+        when(resultSet.wasNull()).thenReturn(false);
+        replicaLagMonitor.check();
+
+        // When
+        nanoTime.addAndGet(CHECK_INTERVAL.multipliedBy(MAX_MISSED_CHECKS).toNanos());
+        final boolean healthyAtBound = replicaLagMonitor.isHealthy(REPLICA_KEY);
+        nanoTime.incrementAndGet();
+
+        // Then
+        assertTrue(healthyAtBound);
+        assertFalse(replicaLagMonitor.isHealthy(REPLICA_KEY));
+
+    }
+
+    /**
+     * Test case for a replica falling behind after being healthy.
+     * Verifies that the replica stops receiving reads.
+     */
+    @Test
+    void givenLagAboveBound_whenCheck_thenReplicaUnhealthy() throws SQLException {
+
+        // Given
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.wasNull()).thenReturn(false);
+        when(resultSet.getLong(ReplicaLagMonitor.LAG_COLUMN)).thenReturn(0L, 30L);
+
+        // When
+        replicaLagMonitor.check();
+        replicaLagMonitor.check();
+
+        // Then
+        assertFalse(replicaLagMonitor.isHealthy(REPLICA_KEY));
+
+    }
+
+    /**
+     * Test case for a replica whose replication is stopped.
+     * Verifies that an unknown lag is treated as unhealthy.
+     */
+    @Test
+    void givenReplicationStopped_whenCheck_thenReplicaUnhealthy() throws SQLException {
+
+        // Given
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(ReplicaLagMonitor.LAG_COLUMN)).thenReturn(0L);
+        when(resultSet.wasNull()).thenReturn(true);
+
+        // When
+        replicaLagMonitor.check();
+
+        // Then
+        assertFalse(replicaLagMonitor.isHealthy(REPLICA_KEY));
+
+    }
+
+    /**
+     * Test case for an unreachable replica.
+     * Verifies that a failing connection is treated as unhealthy.
+     */
+    @Test
+    void givenUnreachableReplica_whenCheck_thenReplicaUnhealthy() throws SQLException {
+
+        // Given
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // When
+        replicaLagMonitor.check();
+
+        // Then
+        assertFalse(replicaLagMonitor.isHealthy(REPLICA_KEY));
+
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.springboot.ratelimiter.common.datasource;
+
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ReplicaRoutingDataSource}.
+ */
+class ReplicaRoutingDataSourceTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection firstReplicaConnection;
+
+    @Mock
+    private Connection secondReplicaConnection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(firstReplica.getConnection()).thenReturn(firstReplicaConnection);
+        when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", firstReplica);
+        replicas.put("replica-1", secondReplica);
+        when(replicaLagMonitor.getReplicas()).thenReturn(replicas);
+        when(replicaLagMonitor.getReplicaKeys()).thenReturn(List.copyOf(replicas.keySet()));
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicaLagMonitor);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    /**
+     * Test case for a read-write transaction.
+     * Verifies that writes always go to the primary, even when replicas are healthy.
+     */
+    @Test
+    void givenReadWriteTransaction_whenDetermineTarget_thenReturnPrimary() throws SQLException {
+
+        // Given
+        when(replicaLagMonitor.isHealthy("replica-0")).thenReturn(true);
+        when(replicaLagMonitor.isHealthy("replica-1")).thenReturn(true);
+
+        // Then
+        assertSame(primaryConnection, routingDataSource.getConnection());
+
+    }
+
+    /**
+     * Test case for read-only transactions with healthy replicas.
+     * Verifies that reads are spread round robin over the replicas.
+     */
+    @Test
+    void givenReadOnlyTransaction_whenReplicasHealthy_thenRoundRobinOverReplicas() throws SQLException {
+
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isHealthy("replica-0")).thenReturn(true);
+        when(replicaLagMonitor.isHealthy("replica-1")).thenReturn(true);
+
+        // Then
+        assertSame(firstReplicaConnection, routingDataSource.getConnection());
+        assertSame(secondReplicaConnection, routingDataSource.getConnection());
+        assertSame(firstReplicaConnection, routingDataSource.getConnection());
+
+    }
+
+    /**
+     * Test case for read-only transactions with one lagging replica.
+     * Verifies that the lagging replica is skipped.
+     */
+    @Test
+    void givenReadOnlyTransaction_whenOneReplicaLagging_thenSkipLaggingReplica() throws SQLException {
+
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isHealthy("replica-0")).thenReturn(false);
+        when(replicaLagMonitor.isHealthy("replica-1")).thenReturn(true);
+
+        // Then
+        assertSame(secondReplicaConnection, routingDataSource.getConnection());
+        assertSame(secondReplicaConnection, routingDataSource.getConnection());
+
+    }
+
+    /**
+     * Test case for read-only transactions with all replicas lagging.
+     * Verifies that reads fall back to the primary.
+     */
+    @Test
+    void givenReadOnlyTransaction_whenAllReplicasLagging_thenFallBackToPrimary() throws SQLException {
+
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isHealthy("replica-0")).thenReturn(false);
+        when(replicaLagMonitor.isHealthy("replica-1")).thenReturn(false);
+
+        // Then
+        assertSame(primaryConnection, routingDataSource.getConnection());
+
+    }
+
+    /**
+     * Test case for a read-only transaction whose result is cached.
+     * Verifies that reads within {@link ReplicaRoutingDataSource#readFromPrimary} go to the primary even when
+     * replicas are healthy, and that routing returns to the replicas afterwards.
+     */
+    @Test
+    void givenReadOnlyTransaction_whenReadFromPrimary_thenReturnPrimary() throws SQLException {
+
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isHealthy("replica-0")).thenReturn(true);
+        when(replicaLagMonitor.isHealthy("replica-1")).thenReturn(true);
+
+        // Then
+        assertSame(primaryConnection, ReplicaRoutingDataSource.readFromPrimary(this::getConnection));
+        assertSame(firstReplicaConnection, routingDataSource.getConnection());
+
+    }
+
+    private Connection getConnection() {
+        try {
+            return routingDataSource.getConnection();
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
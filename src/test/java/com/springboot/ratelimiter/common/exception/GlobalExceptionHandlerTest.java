@@ -1,19 +1,26 @@
 package com.springboot.ratelimiter.common.exception;
 
 import com.springboot.ratelimiter.base.AbstractRestControllerTest;
+import com.springboot.ratelimiter.common.exception.bulkhead.BulkheadFullException;
 import com.springboot.ratelimiter.common.exception.error.CustomError;
 import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitKeyNotFoundException;
 import com.springboot.ratelimiter.common.exception.user.EmailAlreadyExistsException;
 import com.springboot.ratelimiter.common.exception.user.UserNotFoundException;
+import com.springboot.ratelimiter.common.exception.user.UserVersionConflictException;
+import com.springboot.ratelimiter.ratelimit.audit.RateLimitAuditEvent;
+import com.springboot.ratelimiter.ratelimit.audit.RateLimitAuditLog;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Path;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
@@ -22,7 +29,9 @@ import java.util.Collections;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -35,6 +44,9 @@ class GlobalExceptionHandlerTest extends AbstractRestControllerTest {
     @InjectMocks
     private GlobalExceptionHandler globalExceptionHandler;
 
+    @Mock
+    private RateLimitAuditLog rateLimitAuditLog;
+
     /**
      * Tests the handling of {@link MethodArgumentNotValidException}.
      * This test verifies that a {@link CustomError} is returned with the expected properties
@@ -165,7 +177,38 @@ class GlobalExceptionHandlerTest extends AbstractRestControllerTest {
                 .build();
 
         // When
-        ResponseEntity<?> responseEntity = globalExceptionHandler.handleRateLimitExceededException(mockException);
+        ResponseEntity<?> responseEntity = globalExceptionHandler.handleRateLimitExceededException(mockException,
+                new MockHttpServletRequest("GET", "/api/v1/users"));
+
+        // Then
+        CustomError actualError = (CustomError) responseEntity.getBody();
+
+        // Verify
+        checkCustomError(expectedError, actualError);
+        verify(rateLimitAuditLog).publish(any(RateLimitAuditEvent.class));
+
+    }
+
+    /**
+     * Tests the handling of {@link BulkheadFullException}.
+     * This test verifies that a {@link CustomError} is returned with the expected properties
+     * when a {@link BulkheadFullException} is thrown.
+     */
+    @Test
+    void givenBulkheadFullException_whenHandleBulkheadFullException_throwCustomError() {
+
+        // Given
+        BulkheadFullException mockException = new BulkheadFullException("redis");
+
+        CustomError expectedError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(CustomError.Header.SERVICE_UNAVAILABLE_ERROR.getName())
+                .message("Too many concurrent calls to redis")
+                .build();
+
+        // When
+        ResponseEntity<?> responseEntity = globalExceptionHandler.handleBulkheadFullException(mockException);
 
         // Then
         CustomError actualError = (CustomError) responseEntity.getBody();
@@ -204,6 +247,35 @@ class GlobalExceptionHandlerTest extends AbstractRestControllerTest {
 
     }
 
+    /**
+     * Tests the handling of {@link UserVersionConflictException}.
+     * This test verifies that a {@link CustomError} is returned with the expected properties
+     * when a {@link UserVersionConflictException} is thrown.
+     */
+    @Test
+    void givenUserVersionConflictException_whenHandleUserVersionConflictException_throwCustomError() {
+
+        // Given
+        UserVersionConflictException mockException = new UserVersionConflictException("123", 2L);
+
+        CustomError expectedError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.CONFLICT)
+                .header(CustomError.Header.CONFLICT_ERROR.getName())
+                .message("User with ID 123 was modified since version 2")
+                .build();
+
+        // When
+        ResponseEntity<?> responseEntity = globalExceptionHandler.handleUserVersionConflictException(mockException);
+
+        // Then
+        CustomError actualError = (CustomError) responseEntity.getBody();
+
+        // Verify
+        checkCustomError(expectedError, actualError);
+
+    }
+
     /**
      * Tests the handling of {@link UserNotFoundException}.
      * This test verifies that a {@link CustomError} is returned with the expected properties
@@ -233,6 +305,35 @@ class GlobalExceptionHandlerTest extends AbstractRestControllerTest {
 
     }
 
+    /**
+     * Tests the handling of {@link RateLimitKeyNotFoundException}.
+     * This test verifies that a {@link CustomError} is returned with the expected properties
+     * when a {@link RateLimitKeyNotFoundException} is thrown.
+     */
+    @Test
+    void givenRateLimitKeyNotFoundException_whenHandleRateLimitKeyNotFoundException_throwCustomError() {
+
+        // Given
+        RateLimitKeyNotFoundException mockException = new RateLimitKeyNotFoundException("rate_limiter:missing");
+
+        CustomError expectedError = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.NOT_FOUND)
+                .header(CustomError.Header.NOT_FOUND.getName())
+                .message("No rate limiter key was found: rate_limiter:missing")
+                .build();
+
+        // When
+        ResponseEntity<?> responseEntity = globalExceptionHandler.handleRateLimitKeyNotFoundException(mockException);
+
+        // Then
+        CustomError actualError = (CustomError) responseEntity.getBody();
+
+        // Verify
+        checkCustomError(expectedError, actualError);
+
+    }
+
     /**
      * Verifies the properties of a {@link CustomError}.
      *
@@ -0,0 +1,168 @@
+package com.springboot.ratelimiter.common.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.springboot.ratelimiter.common.exception.error.CustomError;
+import com.springboot.ratelimiter.common.model.dto.response.CustomResponse;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EnvelopeJsonModule}, verifying that pre-rendered envelopes match the regular bean serialization.
+ */
+class EnvelopeJsonModuleTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 7, 1, 12, 30, 15, 123_000_000);
+
+    private final ObjectMapper plainMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper tunedMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new BlackbirdModule())
+            .addModule(new EnvelopeJsonModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    /**
+     * Test case for {@link CustomResponse#SUCCESS}, which is rendered on first use and copied afterwards.
+     */
+    @Test
+    void givenSuccessConstant_whenWriteValueAsBytes_thenMatchBeanSerialization() throws Exception {
+
+        // Given
+        final byte[] expected = plainMapper.writeValueAsBytes(CustomResponse.SUCCESS);
+
+        // When
+        final byte[] first = tunedMapper.writeValueAsBytes(CustomResponse.SUCCESS);
+        final byte[] second = tunedMapper.writeValueAsBytes(CustomResponse.SUCCESS);
+
+        // Then
+        assertArrayEquals(expected, first);
+        assertArrayEquals(expected, second);
+
+    }
+
+    /**
+     * Test case for the rate limit error, which is written from its template with the time filled in.
+     */
+    @Test
+    void givenRateLimitError_whenWriteValueAsString_thenMatchBeanSerializationWithItsTime() throws Exception {
+
+        // Given
+        final CustomError customError = CustomError.builder()
+                .time(TIME)
+                .httpStatus(HttpStatus.TOO_MANY_REQUESTS)
+                .header(CustomError.Header.RATE_LIMITER_EXCEEDED_ERROR.getName())
+                .message("Rate limit exceeded")
+                .build();
+
+        // When
+        final String json = tunedMapper.writeValueAsString(customError);
+
+        // Then
+        assertEquals(plainMapper.writeValueAsString(customError), json);
+        assertTrue(json.startsWith("{\"time\":\"2024-07-01T12:30:15.123\","));
+        assertArrayEquals(plainMapper.writeValueAsBytes(customError), tunedMapper.writeValueAsBytes(customError));
+
+    }
+
+    /**
+     * Test case for errors that differ from the template, which keep going through the bean serializer.
+     */
+    @Test
+    void givenErrorNotMatchingTemplate_whenWriteValueAsString_thenMatchBeanSerialization() throws Exception {
+
+        // Given
+        final CustomError otherMessage = CustomError.builder()
+                .time(TIME)
+                .httpStatus(HttpStatus.TOO_MANY_REQUESTS)
+                .header(CustomError.Header.RATE_LIMITER_EXCEEDED_ERROR.getName())
+                .message("Slow down")
+                .build();
+
+        final CustomError withSubErrors = CustomError.builder()
+                .time(TIME)
+                .httpStatus(HttpStatus.BAD_REQUEST)
+                .header(CustomError.Header.VALIDATION_ERROR.getName())
+                .message("Validation failed")
+                .subErrors(List.of(CustomError.CustomSubError.builder()
+                        .field("email")
+                        .message("must not be blank")
+                        .build()))
+                .build();
+
+        // Then
+        assertEquals(plainMapper.writeValueAsString(otherMessage), tunedMapper.writeValueAsString(otherMessage));
+        assertEquals(plainMapper.writeValueAsString(withSubErrors), tunedMapper.writeValueAsString(withSubErrors));
+
+    }
+
+    /**
+     * Test case for regular responses and nested envelopes, which are not affected by the module.
+     */
+    @Test
+    void givenResponsesWithContent_whenWriteValueAsString_thenMatchBeanSerialization() throws Exception {
+
+        // Given
+        final UserResponse userResponse = UserResponse.builder()
+                .id("018f3c6e-1a2b-7c3d-8e4f-000000000001")
+                .name("User 1")
+                .email("user@userinfo.com")
+                .version(2L)
+                .build();
+
+        final CustomResponse<UserResponse> response = CustomResponse.<UserResponse>builder()
+                .time(TIME)
+                .httpStatus(HttpStatus.OK)
+                .isSuccess(true)
+                .response(userResponse)
+                .build();
+
+        final CustomResponse<List<CustomResponse<Void>>> nested = CustomResponse.<List<CustomResponse<Void>>>builder()
+                .time(TIME)
+                .httpStatus(HttpStatus.OK)
+                .isSuccess(true)
+                .response(List.of(CustomResponse.SUCCESS, CustomResponse.SUCCESS))
+                .build();
+
+        // Then
+        assertEquals(plainMapper.writeValueAsString(response), tunedMapper.writeValueAsString(response));
+        assertEquals(plainMapper.writeValueAsString(nested), tunedMapper.writeValueAsString(nested));
+
+    }
+
+    /**
+     * Test case for indented output, for which nothing is pre-rendered.
+     */
+    @Test
+    void givenIndentedOutput_whenWriteValueAsString_thenFallBackToBeanSerialization() throws Exception {
+
+        // Given
+        final CustomError customError = CustomError.builder()
+                .time(TIME)
+                .httpStatus(HttpStatus.TOO_MANY_REQUESTS)
+                .header(CustomError.Header.RATE_LIMITER_EXCEEDED_ERROR.getName())
+                .message("Rate limit exceeded")
+                .build();
+
+        // Then
+        assertEquals(plainMapper.writerWithDefaultPrettyPrinter().writeValueAsString(CustomResponse.SUCCESS),
+                tunedMapper.writerWithDefaultPrettyPrinter().writeValueAsString(CustomResponse.SUCCESS));
+        assertEquals(plainMapper.writerWithDefaultPrettyPrinter().writeValueAsString(customError),
+                tunedMapper.writerWithDefaultPrettyPrinter().writeValueAsString(customError));
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.springboot.ratelimiter.common.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.springboot.ratelimiter.common.exception.error.CustomError;
+import com.springboot.ratelimiter.common.model.dto.response.CustomPagingResponse;
+import com.springboot.ratelimiter.common.model.dto.response.CustomResponse;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark named {@link EnvelopeSerializationBenchmark} comparing the reflective Jackson setup with the tuned one
+ * of {@link com.springboot.ratelimiter.config.JacksonConfig} on the envelopes written for every response.
+ * Run it after {@code mvn test-compile} with
+ * {@code java -cp target/test-classes:target/classes:<test classpath> com.springboot.ratelimiter.common.json.EnvelopeSerializationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvelopeSerializationBenchmark {
+
+    @Param({"plain", "tuned"})
+    private String mapper;
+
+    private ObjectMapper objectMapper;
+
+    private CustomResponse<CustomPagingResponse<UserResponse>> pageResponse;
+
+    @Setup
+    public void setUp() {
+
+        final JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("tuned".equals(mapper)) {
+            builder.addModule(new BlackbirdModule()).addModule(new EnvelopeJsonModule());
+        }
+        objectMapper = builder.build();
+
+        final List<UserResponse> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(UserResponse.builder()
+                    .id("018f3c6e-1a2b-7c3d-8e4f-0000000000" + (10 + i))
+                    .name("User " + i)
+                    .email("user" + i + "@userinfo.com")
+                    .version((long) i)
+                    .build());
+        }
+        pageResponse = CustomResponse.ok(CustomPagingResponse.<UserResponse>builder()
+                .content(users)
+                .pageNumber(1)
+                .pageSize(20)
+                .totalElementCount(1000L)
+                .totalPageCount(50)
+                .build());
+
+    }
+
+    @Benchmark
+    public byte[] success() throws Exception {
+        return objectMapper.writeValueAsBytes(CustomResponse.SUCCESS);
+    }
+
+    @Benchmark
+    public byte[] rateLimitExceeded() throws Exception {
+        return objectMapper.writeValueAsBytes(CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(HttpStatus.TOO_MANY_REQUESTS)
+                .header(CustomError.Header.RATE_LIMITER_EXCEEDED_ERROR.getName())
+                .message("Rate limit exceeded")
+                .build());
+    }
+
+    @Benchmark
+    public byte[] userPage() throws Exception {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EnvelopeSerializationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.springboot.ratelimiter.common.model.entity.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link UuidV7} and {@link UuidBinaryType}.
+ */
+class UuidV7Test {
+
+    /**
+     * Test case for {@link UuidV7#next()}.
+     * Verifies the version and variant bits and that the timestamp prefix holds the current time.
+     */
+    @Test
+    void givenCurrentTime_whenNext_thenReturnVersion7UuidWithTimestamp() {
+
+        // Given
+        final long before = System.currentTimeMillis();
+
+        // When
+        final UUID uuid = UuidV7.next();
+
+        // Then
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        final long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1);
+
+    }
+
+    /**
+     * Test case for {@link UuidV7#next()} called in a tight loop.
+     * Verifies that identifiers are strictly increasing in both stored byte order and string order.
+     */
+    @Test
+    void givenManyIdentifiers_whenNext_thenIdentifiersAreStrictlyIncreasing() {
+
+        // When
+        final List<String> identifiers = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            identifiers.add(UuidV7.next().toString());
+        }
+
+        // Then
+        for (int i = 1; i < identifiers.size(); i++) {
+            assertTrue(identifiers.get(i - 1).compareTo(identifiers.get(i)) < 0);
+            assertTrue(Arrays.compareUnsigned(UuidBinaryType.toBytes(identifiers.get(i - 1)),
+                    UuidBinaryType.toBytes(identifiers.get(i))) < 0);
+        }
+
+    }
+
+    /**
+     * Test case for {@link UuidBinaryType#toBytes(String)} and {@link UuidBinaryType#fromBytes(byte[])}.
+     * Verifies that a UUID string survives the round trip through its binary form.
+     */
+    @Test
+    void givenUuidString_whenConvertedToBytesAndBack_thenReturnSameString() {
+
+        // Given
+        final String id = UuidV7.next().toString();
+
+        // When
+        final byte[] bytes = UuidBinaryType.toBytes(id);
+
+        // Then
+        assertEquals(16, bytes.length);
+        assertEquals(id, UuidBinaryType.fromBytes(bytes));
+        assertThrows(IllegalArgumentException.class, () -> UuidBinaryType.toBytes("not-a-uuid"));
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.springboot.ratelimiter.common.model.etag;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link WeakETag}.
+ */
+class WeakETagTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 7, 1, 12, 30, 15, 123_000_000);
+
+    /**
+     * Test case for {@link WeakETag#of}.
+     * Verifies that the tag is weak and quoted, and changes with the version and the update time.
+     */
+    @Test
+    void givenVersionAndUpdateTime_whenOf_thenReturnWeakQuotedTagDependingOnBoth() {
+
+        // When
+        final String eTag = WeakETag.of(3L, UPDATED_AT);
+
+        // Then
+        assertTrue(eTag.startsWith("W/\""));
+        assertTrue(eTag.endsWith("\""));
+        assertEquals(eTag, WeakETag.of(3L, UPDATED_AT));
+        assertNotEquals(eTag, WeakETag.of(4L, UPDATED_AT));
+        assertNotEquals(eTag, WeakETag.of(3L, UPDATED_AT.plusSeconds(1)));
+
+    }
+
+    /**
+     * Test case for {@link WeakETag#of} with update times differing below the millisecond,
+     * as between a cached user and the same user read back from the database.
+     */
+    @Test
+    void givenUpdateTimesWithinSameMillisecond_whenOf_thenReturnSameTag() {
+        assertEquals(WeakETag.of(3L, UPDATED_AT), WeakETag.of(3L, UPDATED_AT.plusNanos(456_789)));
+    }
+
+    /**
+     * Test case for {@link WeakETag#of} for a user that has neither a version nor an update time yet.
+     */
+    @Test
+    void givenNoVersionAndNoUpdateTime_whenOf_thenReturnInitialTag() {
+        assertEquals("W/\"0-0\"", WeakETag.of(null, null));
+    }
+
+}
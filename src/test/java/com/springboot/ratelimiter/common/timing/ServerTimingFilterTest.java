@@ -0,0 +1,83 @@
+package com.springboot.ratelimiter.common.timing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ServerTimingFilter}, {@link ServerTimingInterceptor} and {@link ServerTimingResponseBodyAdvice}.
+ */
+class ServerTimingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.setEnabled(false);
+    }
+
+    /**
+     * Test case for a sampled request.
+     * Verifies that the recorded phases are written to the Server-Timing header and published as histograms.
+     */
+    @Test
+    void givenSampledRequest_whenFilter_thenWriteHeaderAndRecordPhases() throws Exception {
+
+        // Given
+        final ServerTimingFilter filter = new ServerTimingFilter(meterRegistry, true, 1.0d);
+        final ServerTimingInterceptor interceptor = new ServerTimingInterceptor();
+        final ServerTimingResponseBodyAdvice advice = new ServerTimingResponseBodyAdvice();
+
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/1");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            interceptor.preHandle(request, response, new Object());
+            ServerTiming.handlerEntered();
+            ServerTiming.time(ServerTiming.Phase.LIMITER, () -> true);
+            ServerTiming.run(ServerTiming.Phase.JPA, () -> { });
+            final ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+            advice.beforeBodyWrite("body", null, null, null, new ServletServerHttpRequest(request), serverResponse);
+            serverResponse.flush();
+        });
+
+        // Then
+        final String header = response.getHeader(ServerTiming.HEADER_NAME);
+        assertNotNull(header);
+        assertTrue(header.contains("app;"));
+
+        assertEquals(1L, meterRegistry.get("http.server.requests.phase").tag("phase", "total").timer().count());
+        assertEquals(1L, meterRegistry.get("http.server.requests.phase").tag("phase", "serialization").timer().count());
+
+    }
+
+    /**
+     * Test case for a disabled filter.
+     * Verifies that no recorder is bound and no header or histogram is produced.
+     */
+    @Test
+    void givenDisabledFilter_whenFilter_thenSkipTiming() throws Exception {
+
+        // Given
+        final ServerTimingFilter filter = new ServerTimingFilter(meterRegistry, false, 1.0d);
+
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/1");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> assertNull(ServerTiming.current()));
+
+        // Then
+        assertNull(response.getHeader(ServerTiming.HEADER_NAME));
+        assertEquals(0L, meterRegistry.get("http.server.requests.phase").tag("phase", "total").timer().count());
+
+    }
+
+}
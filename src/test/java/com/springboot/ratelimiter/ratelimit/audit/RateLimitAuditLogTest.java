@@ -0,0 +1,142 @@
+package com.springboot.ratelimiter.ratelimit.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RateLimitAuditLog} and {@link RateLimitAuditRingBuffer}.
+ */
+class RateLimitAuditLogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Test case for {@link RateLimitAuditRingBuffer#offer(Object)} on a full buffer.
+     * Verifies that offers fail instead of blocking and that drained elements keep their publication order.
+     */
+    @Test
+    void givenFullRingBuffer_whenOffer_thenRejectAndDrainInOrder() {
+
+        // Given
+        final RateLimitAuditRingBuffer<Integer> ringBuffer = new RateLimitAuditRingBuffer<>(2);
+
+        // When
+        assertTrue(ringBuffer.offer(1));
+        assertTrue(ringBuffer.offer(2));
+        assertFalse(ringBuffer.offer(3));
+
+        final List<Integer> drained = new ArrayList<>();
+        final int count = ringBuffer.drain(drained::add, 10);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals(List.of(1, 2), drained);
+        assertTrue(ringBuffer.offer(4));
+
+    }
+
+    /**
+     * Test case for {@link RateLimitAuditLog#publish(RateLimitAuditEvent)} when the buffer is full.
+     * Verifies that the overflowing event is dropped and counted.
+     */
+    @Test
+    void givenFullBuffer_whenPublish_thenDropAndCount() {
+
+        // Given
+        final RateLimitAuditLog auditLog = newAuditLog(2);
+
+        // When
+        auditLog.publish(event("/api/v1/users/1"));
+        auditLog.publish(event("/api/v1/users/2"));
+        final boolean published = auditLog.publish(event("/api/v1/users/3"));
+
+        // Then
+        assertFalse(published);
+        assertEquals(1L, auditLog.getDroppedCount());
+
+    }
+
+    /**
+     * Test case for the background writer of {@link RateLimitAuditLog}.
+     * Verifies that published events are written as NDJSON lines once the log is stopped.
+     */
+    @Test
+    void givenPublishedEvents_whenStop_thenWriteSegment() throws IOException {
+
+        // Given
+        final RateLimitAuditLog auditLog = newAuditLog(16);
+        auditLog.start();
+
+        // When
+        auditLog.publish(event("/api/v1/users/1"));
+        auditLog.publish(event("/api/v1/users/2"));
+        auditLog.stop();
+
+        // Then
+        final List<String> lines = new ArrayList<>();
+        try (Stream<Path> segments = Files.list(directory)) {
+            for (Path segment : segments.toList()) {
+                lines.addAll(Files.readAllLines(segment));
+            }
+        }
+
+        assertEquals(2, lines.size());
+        assertEquals("/api/v1/users/1", objectMapper.readTree(lines.get(0)).get("path").asText());
+
+    }
+
+    /**
+     * Test case for the buffer gauges of {@link RateLimitAuditLog}.
+     * Verifies that the size gauge follows the events waiting to be written while the capacity stays constant.
+     */
+    @Test
+    void givenPublishedEvents_whenReadBufferGauges_thenReportOccupancy() {
+
+        // Given
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final RateLimitAuditLog auditLog = newAuditLog(meterRegistry, 4);
+
+        // When
+        auditLog.publish(event("/api/v1/users/1"));
+        auditLog.publish(event("/api/v1/users/2"));
+        auditLog.publish(event("/api/v1/users/3"));
+
+        // Then
+        assertEquals(3.0, meterRegistry.get("ratelimiter.audit.buffer.size").gauge().value());
+        assertEquals(4.0, meterRegistry.get("ratelimiter.audit.buffer.capacity").gauge().value());
+
+        auditLog.start();
+        auditLog.stop();
+
+        assertEquals(0.0, meterRegistry.get("ratelimiter.audit.buffer.size").gauge().value());
+
+    }
+
+    private RateLimitAuditLog newAuditLog(final int bufferCapacity) {
+        return newAuditLog(new SimpleMeterRegistry(), bufferCapacity);
+    }
+
+    private RateLimitAuditLog newAuditLog(final SimpleMeterRegistry meterRegistry, final int bufferCapacity) {
+        return new RateLimitAuditLog(objectMapper, meterRegistry, true, directory.toString(),
+                bufferCapacity, 64, 1024 * 1024, 10);
+    }
+
+    private static RateLimitAuditEvent event(final String path) {
+        return new RateLimitAuditEvent(System.currentTimeMillis(), "GET", path, "127.0.0.1", "Rate limit exceeded");
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.springboot.ratelimiter.ratelimit.controller;
+
+import com.springboot.ratelimiter.base.AbstractRestControllerTest;
+import com.springboot.ratelimiter.ratelimit.payload.response.RateLimitClearResponse;
+import com.springboot.ratelimiter.ratelimit.payload.response.RateLimitKeyStateResponse;
+import com.springboot.ratelimiter.ratelimit.service.RateLimiterAdminService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the {@link RateLimiterAdminController} class, testing rate limiter state operations.
+ */
+@SpringBootTest(properties = "rate.limiter.admin.enabled=true")
+class RateLimiterAdminControllerTest extends AbstractRestControllerTest {
+
+    private static final String ADMIN_PATH = "/api/v1/admin/rate-limiter";
+
+    @MockBean
+    private RateLimiterAdminService rateLimiterAdminService;
+
+    /**
+     * Test case for retrieving the state of a rate limiter key via HTTP GET request.
+     *
+     * @throws Exception if there is an error performing the HTTP request or assertions fail.
+     */
+    @Test
+    void givenKeyName_whenGetKeyState_thenReturnState() throws Exception {
+
+        // Given
+        final RateLimitKeyStateResponse keyState = RateLimitKeyStateResponse.builder()
+                .key("rate_limiter:user_creation")
+                .count(3L)
+                .ttlSeconds(42L)
+                .build();
+
+        // When
+        when(rateLimiterAdminService.getKeyState("user_creation")).thenReturn(keyState);
+
+        // Then
+        mockMvc.perform(get(ADMIN_PATH + "/keys/{name}", "user_creation"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.response.count").value(3))
+                .andExpect(jsonPath("$.response.ttlSeconds").value(42));
+
+        // Verify
+        verify(rateLimiterAdminService).getKeyState("user_creation");
+
+    }
+
+    /**
+     * Test case for resetting a rate limiter key via HTTP DELETE request.
+     *
+     * @throws Exception if there is an error performing the HTTP request or assertions fail.
+     */
+    @Test
+    void givenKeyName_whenResetKey_thenStatusOk() throws Exception {
+
+        mockMvc.perform(delete(ADMIN_PATH + "/keys/{name}", "user_creation"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true));
+
+        // Verify
+        verify(rateLimiterAdminService).resetKey("user_creation");
+
+    }
+
+    /**
+     * Test case for clearing rate limiter keys by pattern via HTTP DELETE request.
+     *
+     * @throws Exception if there is an error performing the HTTP request or assertions fail.
+     */
+    @Test
+    void givenPattern_whenClearKeys_thenReturnClearedKeyCount() throws Exception {
+
+        // Given
+        final RateLimitClearResponse clearResponse = RateLimitClearResponse.builder()
+                .pattern("rate_limiter:*")
+                .clearedKeyCount(7L)
+                .build();
+
+        // When
+        when(rateLimiterAdminService.clearKeys("*")).thenReturn(clearResponse);
+
+        // Then
+        mockMvc.perform(delete(ADMIN_PATH + "/keys").param("pattern", "*"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.clearedKeyCount").value(7));
+
+        // Verify
+        verify(rateLimiterAdminService).clearKeys("*");
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.springboot.ratelimiter.ratelimit.policy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RateLimitPolicyRegistry}.
+ */
+class RateLimitPolicyRegistryTest {
+
+    private final RateLimitPolicyRegistry policyRegistry = new RateLimitPolicyRegistry(new ObjectMapper(), 5, 60,
+            20000, 60);
+
+    /**
+     * Test case for {@link RateLimitPolicyRegistry#getPolicy(String)} before any reload.
+     * Verifies that the configured default policy is in effect.
+     */
+    @Test
+    void givenNoReload_whenGetPolicy_thenReturnConfiguredDefault() {
+
+        // When
+        final RateLimitPolicy policy = policyRegistry.getPolicy(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME);
+
+        // Then
+        assertEquals(5, policy.maxRequests());
+        assertEquals(60, policy.windowSeconds());
+        assertEquals(0L, policyRegistry.getSnapshot().version());
+
+    }
+
+    /**
+     * Test case for {@link RateLimitPolicyRegistry#getPolicy(String)} of the bulk policy.
+     * Verifies that bulk operations get their own configured policy, which a reload without it keeps.
+     */
+    @Test
+    void givenReloadWithoutBulkPolicy_whenGetBulkPolicy_thenReturnConfiguredBulkPolicy() {
+
+        // When
+        policyRegistry.reload("""
+                {"policies":[{"name":"user_creation","maxRequests":100,"windowSeconds":10}]}
+                """);
+
+        // Then
+        final RateLimitPolicy policy = policyRegistry.getPolicy(RateLimitPolicyRegistry.BULK_POLICY_NAME);
+        assertEquals(RateLimitPolicyRegistry.BULK_POLICY_NAME, policy.name());
+        assertEquals(20000, policy.maxRequests());
+        assertEquals(60, policy.windowSeconds());
+
+    }
+
+    /**
+     * Test case for {@link RateLimitPolicyRegistry#reload(String)} with a valid document.
+     * Verifies that a new snapshot is swapped in and the previous snapshot is left untouched.
+     */
+    @Test
+    void givenValidDocument_whenReload_thenSwapSnapshot() {
+
+        // Given
+        final RateLimitPolicySnapshot previous = policyRegistry.getSnapshot();
+        final String document = """
+                {"policies":[{"name":"user_creation","maxRequests":100,"windowSeconds":10}]}
+                """;
+
+        // When
+        final boolean reloaded = policyRegistry.reload(document);
+
+        // Then
+        assertTrue(reloaded);
+        assertEquals(1L, policyRegistry.getSnapshot().version());
+        assertEquals(100, policyRegistry.getPolicy(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME).maxRequests());
+        assertEquals(5, previous.get(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME).maxRequests());
+
+    }
+
+    /**
+     * Test case for {@link RateLimitPolicyRegistry#reload(String)} with an invalid document.
+     * Verifies that the document is rejected and the snapshot in effect is kept.
+     */
+    @Test
+    void givenInvalidDocument_whenReload_thenKeepSnapshot() {
+
+        // Given
+        final String document = """
+                {"policies":[{"name":"user_creation","maxRequests":0,"windowSeconds":10}]}
+                """;
+
+        // When
+        final boolean reloaded = policyRegistry.reload(document);
+
+        // Then
+        assertFalse(reloaded);
+        assertEquals(0L, policyRegistry.getSnapshot().version());
+        assertEquals(5, policyRegistry.getPolicy(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME).maxRequests());
+
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.springboot.ratelimiter.ratelimit.service.impl;
+
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitKeyNotFoundException;
+import com.springboot.ratelimiter.ratelimit.payload.response.RateLimitClearResponse;
+import com.springboot.ratelimiter.ratelimit.payload.response.RateLimitKeyStateResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RateLimiterAdminServiceImpl}
+ */
+class RateLimiterAdminServiceImplTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private RateLimiterAdminServiceImpl rateLimiterAdminService;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    /**
+     * Set up method executed before each test method in {@link RateLimiterAdminServiceImplTest}.
+     */
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        ReflectionTestUtils.setField(rateLimiterAdminService, "scanCount", 100);
+        ReflectionTestUtils.setField(rateLimiterAdminService, "unlinkBatchSize", 2);
+        ReflectionTestUtils.setField(rateLimiterAdminService, "policyConfigKey", "rate_limiter:config:policies");
+    }
+
+    /**
+     * Test case for {@link RateLimiterAdminServiceImpl#getKeyState(String)} with an existing key.
+     * Verifies that the counter and TTL of the key are returned.
+     */
+    @Test
+    void givenExistingKey_whenGetKeyState_thenReturnState() {
+
+        // Given
+        when(valueOperations.get("rate_limiter:user_creation")).thenReturn(3);
+        when(redisTemplate.getExpire("rate_limiter:user_creation", TimeUnit.SECONDS)).thenReturn(42L);
+
+        // When
+        final RateLimitKeyStateResponse result = rateLimiterAdminService.getKeyState("user_creation");
+
+        // Then
+        assertEquals("rate_limiter:user_creation", result.getKey());
+        assertEquals(3L, result.getCount());
+        assertEquals(42L, result.getTtlSeconds());
+
+    }
+
+    /**
+     * Test case for {@link RateLimiterAdminServiceImpl#getKeyState(String)} with a missing key.
+     * Verifies that {@link RateLimitKeyNotFoundException} is thrown.
+     */
+    @Test
+    void givenMissingKey_whenGetKeyState_thenThrowRateLimitKeyNotFoundException() {
+
+        // Given
+        when(valueOperations.get("rate_limiter:missing")).thenReturn(null);
+
+        // Then
+        assertThrows(RateLimitKeyNotFoundException.class, () -> rateLimiterAdminService.getKeyState("missing"));
+
+    }
+
+    /**
+     * Test case for {@link RateLimiterAdminServiceImpl#getKeyState(String)} with a key that does not hold a counter.
+     * Verifies that {@link RateLimitKeyNotFoundException} is thrown instead of failing on the value type.
+     */
+    @Test
+    void givenNonCounterKey_whenGetKeyState_thenThrowRateLimitKeyNotFoundException() {
+
+        // Given
+        when(valueOperations.get("rate_limiter:document")).thenReturn("{\"policies\":[]}");
+
+        // Then
+        assertThrows(RateLimitKeyNotFoundException.class, () -> rateLimiterAdminService.getKeyState("document"));
+        assertThrows(RateLimitKeyNotFoundException.class,
+                () -> rateLimiterAdminService.getKeyState("config:policies"));
+
+        // Verify
+        verify(valueOperations, never()).get("rate_limiter:config:policies");
+
+    }
+
+    /**
+     * Test case for {@link RateLimiterAdminServiceImpl#resetKey(String)} with the policy config key.
+     * Verifies that the key is reported as missing and never unlinked.
+     */
+    @Test
+    void givenPolicyConfigKey_whenResetKey_thenThrowRateLimitKeyNotFoundException() {
+
+        // Then
+        assertThrows(RateLimitKeyNotFoundException.class, () -> rateLimiterAdminService.resetKey("config:policies"));
+
+        // Verify
+        verify(redisTemplate, never()).unlink(anyCollection());
+
+    }
+
+    /**
+     * Test case for {@link RateLimiterAdminServiceImpl#resetKey(String)} with a missing key.
+     * Verifies that {@link RateLimitKeyNotFoundException} is thrown when nothing was unlinked.
+     */
+    @Test
+    void givenMissingKey_whenResetKey_thenThrowRateLimitKeyNotFoundException() {
+
+        // Given
+        when(redisTemplate.unlink(List.of("rate_limiter:missing"))).thenReturn(0L);
+
+        // Then
+        assertThrows(RateLimitKeyNotFoundException.class, () -> rateLimiterAdminService.resetKey("missing"));
+
+    }
+
+    /**
+     * Test case for {@link RateLimiterAdminServiceImpl#clearKeys(String)}.
+     * Verifies that scanned keys are unlinked in batches and never through KEYS or DEL.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenPattern_whenClearKeys_thenScanAndUnlinkInBatches() {
+
+        // Given
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, true, true, false);
+        when(cursor.next()).thenReturn("rate_limiter:a", "rate_limiter:b", "rate_limiter:c");
+        when(redisTemplate.unlink(anyCollection()))
+                .thenAnswer(invocation -> (long) ((Collection<String>) invocation.getArgument(0)).size());
+
+        // When
+        final RateLimitClearResponse result = rateLimiterAdminService.clearKeys("*");
+
+        // Then
+        assertEquals("rate_limiter:*", result.getPattern());
+        assertEquals(3L, result.getClearedKeyCount());
+
+        // Verify
+        verify(redisTemplate, times(2)).unlink(anyCollection());
+        verify(redisTemplate, never()).keys(any());
+        verify(redisTemplate, never()).delete(anyCollection());
+        verify(cursor).close();
+
+    }
+
+    /**
+     * Test case for {@link RateLimiterAdminServiceImpl#clearKeys(String)} when the policy config key matches.
+     * Verifies that the policy config key is skipped while the counters are unlinked.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenPatternMatchingPolicyConfigKey_whenClearKeys_thenKeepPolicyConfigKey() {
+
+        // Given
+        final List<String> unlinkedKeys = new ArrayList<>();
+
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn("rate_limiter:config:policies", "rate_limiter:user_creation");
+        when(redisTemplate.unlink(anyCollection())).thenAnswer(invocation -> {
+            unlinkedKeys.addAll(invocation.getArgument(0));
+            return (long) ((Collection<String>) invocation.getArgument(0)).size();
+        });
+
+        // When
+        final RateLimitClearResponse result = rateLimiterAdminService.clearKeys("*");
+
+        // Then
+        assertEquals(1L, result.getClearedKeyCount());
+        assertEquals(List.of("rate_limiter:user_creation"), unlinkedKeys);
+
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.springboot.ratelimiter.user.cache;
+
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.common.bulkhead.Bulkhead;
+import com.springboot.ratelimiter.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RedisUserCache}, covering puts racing with evictions.
+ */
+class RedisUserCacheTest extends AbstractBaseServiceTest {
+
+    private static final String ID = "018f3c6e-1a2b-7c3d-8e4f-000000000001";
+
+    private static final String KEY = RedisUserCache.KEY_PREFIX + ID;
+
+    private static final String EVICTED_KEY = RedisUserCache.EVICTED_KEY_PREFIX + ID;
+
+    @Mock
+    private RedisTemplate<String, User> userRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, User> userValueOperations;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> stringValueOperations;
+
+    private RedisUserCache redisUserCache;
+
+    @BeforeEach
+    void setUp() {
+        when(userRedisTemplate.opsForValue()).thenReturn(userValueOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOperations);
+        redisUserCache = new RedisUserCache(userRedisTemplate, stringRedisTemplate, 600, 30,
+                new Bulkhead("redis", 8, Duration.ofMillis(100), new SimpleMeterRegistry()));
+    }
+
+    /**
+     * Test case for {@link RedisUserCache#put(User)} without a recent eviction.
+     * Verifies that the user is stored and kept.
+     */
+    @Test
+    void givenNoRecentEviction_whenPut_thenKeepUser() {
+
+        // Given
+        final User user = user(2L);
+
+        // When
+        when(stringValueOperations.get(EVICTED_KEY)).thenReturn(null);
+
+        // Then
+        assertTrue(redisUserCache.put(user));
+
+        // Verify
+        verify(userValueOperations).set(KEY, user, Duration.ofSeconds(600));
+        verify(userRedisTemplate, never()).unlink(anyString());
+
+    }
+
+    /**
+     * Test case for {@link RedisUserCache#put(User)} of a user loaded before it was updated.
+     * Verifies that the older copy is removed right after being written.
+     */
+    @Test
+    void givenUserOlderThanEviction_whenPut_thenRemoveOwnWrite() {
+
+        // When
+        when(stringValueOperations.get(EVICTED_KEY)).thenReturn("3");
+
+        // Then
+        assertFalse(redisUserCache.put(user(2L)));
+
+        // Verify
+        verify(userRedisTemplate).unlink(KEY);
+
+    }
+
+    /**
+     * Test case for {@link RedisUserCache#put(User)} of the version a recent update produced.
+     * Verifies that the new version is kept.
+     */
+    @Test
+    void givenUserAtEvictedVersion_whenPut_thenKeepUser() {
+
+        // When
+        when(stringValueOperations.get(EVICTED_KEY)).thenReturn("3");
+
+        // Then
+        assertTrue(redisUserCache.put(user(3L)));
+
+        // Verify
+        verify(userRedisTemplate, never()).unlink(anyString());
+
+    }
+
+    /**
+     * Test case for {@link RedisUserCache#evict(String, long)}.
+     * Verifies that the eviction marker is written before the entry is removed, so a racing put sees it.
+     */
+    @Test
+    void givenUpdatedUser_whenEvict_thenMarkBeforeUnlink() {
+
+        // When
+        redisUserCache.evict(ID, 3L);
+
+        // Verify
+        final InOrder inOrder = inOrder(stringValueOperations, userRedisTemplate);
+        inOrder.verify(stringValueOperations).set(EVICTED_KEY, "3", Duration.ofSeconds(30));
+        inOrder.verify(userRedisTemplate).unlink(KEY);
+
+    }
+
+    /**
+     * Test case for {@link RedisUserCache#evict(String)} of a deleted user.
+     * Verifies that no version of the user can be cached again while the marker lives.
+     */
+    @Test
+    void givenDeletedUser_whenEvictThenPut_thenRejectAnyVersion() {
+
+        // When
+        redisUserCache.evict(ID);
+
+        // Then
+        verify(stringValueOperations).set(EVICTED_KEY, Long.toString(Long.MAX_VALUE), Duration.ofSeconds(30));
+
+        when(stringValueOperations.get(EVICTED_KEY)).thenReturn(Long.toString(Long.MAX_VALUE));
+        assertFalse(redisUserCache.put(user(7L)));
+
+    }
+
+    /**
+     * Test case for {@link RedisUserCache#put(User)} when the eviction marker cannot be read.
+     * Verifies that the unchecked write is removed again.
+     */
+    @Test
+    void givenMarkerReadFailure_whenPut_thenRemoveUncheckedWrite() {
+
+        // When
+        when(stringValueOperations.get(EVICTED_KEY)).thenThrow(new IllegalStateException("Redis unavailable"));
+
+        // Then
+        assertFalse(redisUserCache.put(user(2L)));
+
+        // Verify
+        verify(userValueOperations).set(any(), any(), any(Duration.class));
+        verify(userRedisTemplate).unlink(KEY);
+
+    }
+
+    private static User user(final long version) {
+        return User.builder()
+                .id(ID)
+                .name("User 1")
+                .email("user@userinfo.com")
+                .version(version)
+                .build();
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.springboot.ratelimiter.user.cache;
+
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link TwoLevelUserCache}.
+ */
+class TwoLevelUserCacheTest extends AbstractBaseServiceTest {
+
+    private static final String CHANNEL = "user_cache:invalidation";
+
+    @Mock
+    private RedisUserCache redisUserCache;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private TwoLevelUserCache userCache;
+
+    private final User user = User.builder()
+            .id("123")
+            .name("User 1")
+            .email("user@userinfo.com")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        userCache = new TwoLevelUserCache(redisUserCache, stringRedisTemplate, redisMessageListenerContainer,
+                new SimpleMeterRegistry(), 100, 30, CHANNEL);
+        when(redisUserCache.put(user)).thenReturn(true);
+    }
+
+    /**
+     * Test case for {@link TwoLevelUserCache#get(String)} after a shared cache hit.
+     * Verifies that the second lookup is served locally without another Redis round trip.
+     */
+    @Test
+    void givenSharedCacheHit_whenGetTwice_thenServeSecondLookupLocally() {
+
+        // Given
+        when(redisUserCache.get("123")).thenReturn(Optional.of(user));
+
+        // When
+        userCache.get("123");
+        final Optional<User> result = userCache.get("123");
+
+        // Then
+        assertTrue(result.isPresent());
+        assertSame(user, result.get());
+
+        // Verify
+        verify(redisUserCache, times(1)).get("123");
+
+    }
+
+    /**
+     * Test case for {@link TwoLevelUserCache#put(User)} when the shared cache rejects the user as older than a
+     * recent eviction.
+     * Verifies that no local copy is kept either.
+     */
+    @Test
+    void givenSharedCacheRejectsUser_whenPut_thenDoNotKeepLocalCopy() {
+
+        // Given
+        when(redisUserCache.put(user)).thenReturn(false);
+
+        // When
+        final boolean cached = userCache.put(user);
+
+        // Then
+        assertFalse(cached);
+        when(redisUserCache.get("123")).thenReturn(Optional.empty());
+        assertTrue(userCache.get("123").isEmpty());
+
+    }
+
+    /**
+     * Test case for {@link TwoLevelUserCache#evict(String, long)} after an update.
+     * Verifies that the version is passed to the shared cache and the local copy is dropped.
+     */
+    @Test
+    void givenCachedUser_whenEvictUpdatedVersion_thenClearBothLevelsWithVersion() {
+
+        // Given
+        userCache.put(user);
+
+        // When
+        userCache.evict("123", 4L);
+
+        // Then
+        when(redisUserCache.get("123")).thenReturn(Optional.empty());
+        assertTrue(userCache.get("123").isEmpty());
+
+        // Verify
+        verify(redisUserCache).evict("123", 4L);
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), anyString());
+
+    }
+
+    /**
+     * Test case for {@link TwoLevelUserCache#evict(String)}.
+     * Verifies that both levels are cleared and the invalidation is broadcast.
+     */
+    @Test
+    void givenCachedUser_whenEvict_thenClearBothLevelsAndBroadcast() {
+
+        // Given
+        userCache.put(user);
+
+        // When
+        userCache.evict("123");
+
+        // Then
+        when(redisUserCache.get("123")).thenReturn(Optional.empty());
+        assertTrue(userCache.get("123").isEmpty());
+
+        // Verify
+        verify(redisUserCache).evict("123");
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), anyString());
+
+    }
+
+    /**
+     * Test case for {@link TwoLevelUserCache#onMessage} with invalidations from this and another node.
+     * Verifies that only invalidations from other nodes drop the local copy.
+     */
+    @Test
+    void givenInvalidationMessages_whenOnMessage_thenDropLocalCopyOnlyForOtherNodes() {
+
+        // Given
+        userCache.put(user);
+        userCache.evict("unrelated");
+
+        final ArgumentCaptor<String> ownMessage = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), ownMessage.capture());
+        final String ownNodeId = ownMessage.getValue().substring(0, ownMessage.getValue().indexOf('|'));
+
+        // When
+        userCache.onMessage(message(ownNodeId + "|123"), null);
+
+        // Then
+        assertTrue(userCache.get("123").isPresent());
+
+        // When
+        userCache.onMessage(message("other-node|123"), null);
+
+        // Then
+        when(redisUserCache.get("123")).thenReturn(Optional.empty());
+        assertTrue(userCache.get("123").isEmpty());
+
+    }
+
+    private static DefaultMessage message(final String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.springboot.ratelimiter.user.cache;
+
+import com.springboot.ratelimiter.user.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link UserRedisSerializer}.
+ */
+class UserRedisSerializerTest {
+
+    private final UserRedisSerializer serializer = new UserRedisSerializer();
+
+    /**
+     * Test case for a serialize and deserialize round trip.
+     * Verifies that all fields survive, including null values and nanosecond timestamps.
+     */
+    @Test
+    void givenUser_whenSerializeAndDeserialize_thenReturnEqualUser() {
+
+        // Given
+        final User user = User.builder()
+                .id("0190a4c6-8f6e-7d4b-9a39-7c0f3c1b2d4e")
+                .name("User 1")
+                .email("user@userinfo.com")
+                .createdAt(LocalDateTime.of(2024, 7, 1, 10, 15, 30, 123_456_789))
+                .updatedAt(null)
+                .version(3L)
+                .build();
+
+        // When
+        final byte[] bytes = serializer.serialize(user);
+        final User result = serializer.deserialize(bytes);
+
+        // Then
+        assertEquals(user.getId(), result.getId());
+        assertEquals(user.getName(), result.getName());
+        assertEquals(user.getEmail(), result.getEmail());
+        assertEquals(user.getCreatedAt(), result.getCreatedAt());
+        assertNull(result.getUpdatedAt());
+        assertEquals(user.getVersion(), result.getVersion());
+
+    }
+
+    /**
+     * Test case for deserializing an empty value.
+     * Verifies that an empty value is treated as a cache miss.
+     */
+    @Test
+    void givenEmptyBytes_whenDeserialize_thenReturnNull() {
+        assertNull(serializer.deserialize(new byte[0]));
+    }
+
+}
@@ -1,25 +1,42 @@
 package com.springboot.ratelimiter.user.controller;
 
 import com.springboot.ratelimiter.base.AbstractRestControllerTest;
+import com.springboot.ratelimiter.common.compression.Gzip;
 import com.springboot.ratelimiter.common.model.dto.response.CustomPagingResponse;
 import com.springboot.ratelimiter.common.model.dto.response.CustomResponse;
+import com.springboot.ratelimiter.common.model.etag.WeakETag;
 import com.springboot.ratelimiter.common.model.mapper.CustomPageToCustomPagingResponseMapper;
+import com.springboot.ratelimiter.common.model.page.CountMode;
 import com.springboot.ratelimiter.common.model.page.CustomPage;
-import com.springboot.ratelimiter.common.model.page.CustomPaging;
+import com.springboot.ratelimiter.common.model.page.PageCursor;
 import com.springboot.ratelimiter.user.User;
 import com.springboot.ratelimiter.user.model.UserEntity;
 import com.springboot.ratelimiter.user.payload.request.CreateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.CreateUsersBatchRequest;
+import com.springboot.ratelimiter.user.payload.request.DeleteUsersBatchRequest;
 import com.springboot.ratelimiter.user.payload.request.UpdateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UserImportFormat;
 import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
+import com.springboot.ratelimiter.user.payload.request.UserSearchField;
+import com.springboot.ratelimiter.user.payload.response.UserImportResponse;
 import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import com.springboot.ratelimiter.user.service.UserExportService;
+import com.springboot.ratelimiter.user.service.UserImportService;
+import com.springboot.ratelimiter.user.service.UserPageService;
+import com.springboot.ratelimiter.user.service.UserSearchService;
 import com.springboot.ratelimiter.user.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -27,11 +44,19 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -42,6 +67,18 @@ class UserControllerTest extends AbstractRestControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UserExportService userExportService;
+
+    @MockBean
+    private UserImportService userImportService;
+
+    @MockBean
+    private UserSearchService userSearchService;
+
+    @MockBean
+    private UserPageService userPageService;
+
     private final CustomPageToCustomPagingResponseMapper customPageToCustomPagingResponseMapper =
             CustomPageToCustomPagingResponseMapper.initialize();
 
@@ -116,6 +153,49 @@ class UserControllerTest extends AbstractRestControllerTest {
 
     }
 
+    /**
+     * Test case for retrieving a user with an If-None-Match header holding its current ETag.
+     * Verifies that the request is answered with 304 (Not Modified), the ETag and no body.
+     *
+     * @throws Exception if there is an error performing the HTTP request or assertions fail.
+     */
+    @Test
+    void givenCurrentETag_whenGetUserById_thenReturnNotModifiedWithoutBody() throws Exception {
+
+        // Given
+        final String userId = UUID.randomUUID().toString();
+        final LocalDateTime updatedAt = LocalDateTime.of(2024, 7, 1, 12, 30, 15);
+
+        final User user = User.builder()
+                .id(userId)
+                .name("Test User")
+                .email("test@example.com")
+                .version(3L)
+                .updatedAt(updatedAt)
+                .build();
+
+        final String eTag = WeakETag.of(3L, updatedAt);
+
+        // When
+        when(userService.getUserById(userId)).thenReturn(user);
+
+        // Then
+        mockMvc.perform(get(BASE_PATH + "/{id}", userId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get(BASE_PATH + "/{id}", userId)
+                        .header(HttpHeaders.IF_NONE_MATCH, WeakETag.of(2L, updatedAt)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(jsonPath("$.response.version").value(3));
+
+    }
+
     /**
      * Test case for updating an existing user via HTTP PUT request.
      *
@@ -130,12 +210,14 @@ class UserControllerTest extends AbstractRestControllerTest {
         final UpdateUserRequest updateUserRequest = UpdateUserRequest.builder()
                 .email("updated@userinfo.com")
                 .name("Updated Test User")
+                .version(0L)
                 .build();
 
         final User updatedUser = User.builder()
                 .id(userId)
                 .name(updateUserRequest.getName())
                 .email(updateUserRequest.getEmail())
+                .version(1L)
                 .build();
 
         // When
@@ -150,7 +232,8 @@ class UserControllerTest extends AbstractRestControllerTest {
                 .andExpect(jsonPath("$.httpStatus").value("OK"))
                 .andExpect(jsonPath("$.isSuccess").value(true))
                 .andExpect(jsonPath("$.response.name").value("Updated Test User"))
-                .andExpect(jsonPath("$.response.email").value("updated@userinfo.com"));
+                .andExpect(jsonPath("$.response.email").value("updated@userinfo.com"))
+                .andExpect(jsonPath("$.response.version").value(1));
 
         // Verify
         verify(userService).updateUser(any(String.class), any(UpdateUserRequest.class));
@@ -182,6 +265,39 @@ class UserControllerTest extends AbstractRestControllerTest {
 
     }
 
+    /**
+     * Test case for deleting several users via HTTP DELETE request.
+     *
+     * @throws Exception if there is an error performing the HTTP request or assertions fail.
+     */
+    @Test
+    void givenDeleteUsersBatchRequest_whenDeleteUsers_thenReturnDeletedCount() throws Exception {
+
+        // Given
+        final List<String> ids = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+        final DeleteUsersBatchRequest deleteUsersBatchRequest = DeleteUsersBatchRequest.builder()
+                .ids(ids)
+                .build();
+
+        // When
+        when(userService.deleteUsersByIds(ids)).thenReturn(1);
+
+        // Then
+        mockMvc.perform(delete(BASE_PATH + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(deleteUsersBatchRequest)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.response.requestedCount").value(2))
+                .andExpect(jsonPath("$.response.deletedCount").value(1));
+
+        // Verify
+        verify(userService).deleteUsersByIds(ids);
+
+    }
+
     /**
      * Test case for retrieving a paginated list of users via HTTP GET request.
      *
@@ -191,14 +307,6 @@ class UserControllerTest extends AbstractRestControllerTest {
     void givenProductPagingRequest_whenGetProductsFromUser_thenReturnCustomPageProduct() throws Exception {
 
         // Given
-        final UserPagingRequest pagingRequest = UserPagingRequest.builder()
-                .pagination(
-                        CustomPaging.builder()
-                                .pageSize(1)
-                                .pageNumber(1)
-                                .build()
-                ).build();
-
         final String userId = UUID.randomUUID().toString();
 
         final UserEntity expected = UserEntity.builder()
@@ -215,7 +323,7 @@ class UserControllerTest extends AbstractRestControllerTest {
         );
 
         final List<User> userDomainModels = userEntities.stream()
-                .map(entity -> new User(entity.getId(),entity.getName(),entity.getEmail()))
+                .map(entity -> new User(entity.getId(),entity.getName(),entity.getEmail(), entity.getVersion()))
                 .collect(Collectors.toList());
 
         final CustomPage<User> userPage = CustomPage.of(userDomainModels, userEntityPage);
@@ -226,15 +334,18 @@ class UserControllerTest extends AbstractRestControllerTest {
         final CustomResponse<CustomPagingResponse<UserResponse>> expectedResult =
                 CustomResponse.ok(userPagingResponse);
 
+        final byte[] compressedBody = Gzip.compress(objectMapper.writeValueAsBytes(expectedResult));
+
         // When
-        when(userService.getUsers(any(UserPagingRequest.class))).thenReturn(userPage);
+        when(userPageService.getUserPage(any(UserPagingRequest.class))).thenReturn(compressedBody);
 
         // Then
         mockMvc.perform(get(BASE_PATH)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(pagingRequest)))
+                        .param("page", "1")
+                        .param("size", "1"))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
                 .andExpect(jsonPath("$.httpStatus").value("OK"))
                 .andExpect(jsonPath("$.isSuccess").value(true))
                 .andExpect(jsonPath("$.response.content[0].id")
@@ -242,11 +353,232 @@ class UserControllerTest extends AbstractRestControllerTest {
                 .andExpect(jsonPath("$.response.content[0].name")
                         .value(expectedResult.getResponse().getContent().get(0).getName()))
                 .andExpect(jsonPath("$.response.content[0].email")
-                        .value(expectedResult.getResponse().getContent().get(0).getEmail()));
+                        .value(expectedResult.getResponse().getContent().get(0).getEmail()))
+                .andExpect(jsonPath("$.response.totalElementCount")
+                        .value(expectedResult.getResponse().getTotalElementCount()));
+
+        // Verify
+        verify(userPageService).getUserPage(argThat(request ->
+                request.getPagination().getPageNumber() == 0
+                        && request.getPagination().getPageSize() == 1
+                        && request.getCountMode() == CountMode.EXACT));
+
+    }
+
+    /**
+     * Test case for retrieving a paginated list of users by a client accepting gzip.
+     * Verifies that the compressed page is sent as it is, with the matching Content-Encoding.
+     *
+     * @throws Exception if there is an error performing the HTTP request or assertions fail.
+     */
+    @Test
+    void givenClientAcceptingGzip_whenGetUsers_thenReturnCompressedPageAsIs() throws Exception {
+
+        // Given
+        final byte[] compressedBody = Gzip.compress("{\"isSuccess\":true}".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        when(userPageService.getUserPage(any(UserPagingRequest.class))).thenReturn(compressedBody);
+
+        // Then
+        mockMvc.perform(get(BASE_PATH)
+                        .param("page", "2")
+                        .param("size", "50")
+                        .param("countMode", "NONE")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, Gzip.ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(compressedBody));
+
+        // Verify
+        verify(userPageService).getUserPage(argThat(request ->
+                request.getPagination().getPageNumber() == 1
+                        && request.getPagination().getPageSize() == 50
+                        && request.getCountMode() == CountMode.NONE));
+
+    }
+
+    /**
+     * Test case for retrieving the first keyset page of users via HTTP GET request.
+     *
+     * @throws Exception if there is an error performing the HTTP request or assertions fail.
+     */
+    @Test
+    void givenNoCursor_whenGetUsersByCursor_thenReturnFirstPageWithNextCursor() throws Exception {
+
+        // Given
+        final String userId = UUID.randomUUID().toString();
+
+        final User user = new User(userId, "Test User", "test@userinfo.com", 0L);
+
+        final String nextCursor = PageCursor.encode(userId);
+
+        final CustomPage<User> userPage = CustomPage.ofCursor(List.of(user), 1, nextCursor);
+
+        // When
+        when(userService.getUsersByCursor(isNull(), anyInt())).thenReturn(userPage);
+
+        // Then
+        mockMvc.perform(get(BASE_PATH + "/cursor")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.httpStatus").value("OK"))
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.response.content[0].id").value(userId))
+                .andExpect(jsonPath("$.response.pageSize").value(1))
+                .andExpect(jsonPath("$.response.nextCursor").value(nextCursor));
+
+        // Verify
+        verify(userService).getUsersByCursor(null, 1);
+
+    }
+
+    /**
+     * Test case for searching users by name prefix via HTTP GET request.
+     *
+     * @throws Exception if there is an error performing the HTTP request or assertions fail.
+     */
+    @Test
+    void givenNamePrefix_whenSearchUsers_thenReturnMatchingUsersWithNextCursor() throws Exception {
+
+        // Given
+        final String userId = UUID.randomUUID().toString();
+
+        final UserResponse userResponse = new UserResponse(userId, "Test User", "test@userinfo.com", 0L);
+
+        final String nextCursor = PageCursor.encode(userId + "Test User");
+
+        final CustomPage<UserResponse> userResponsePage = CustomPage.ofCursor(List.of(userResponse), 1, nextCursor);
+
+        // When
+        when(userSearchService.searchUsers(UserSearchField.NAME, "Test", null, 1)).thenReturn(userResponsePage);
+
+        // Then
+        mockMvc.perform(get(BASE_PATH + "/search")
+                        .param("field", "NAME")
+                        .param("prefix", "Test")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.httpStatus").value("OK"))
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.response.content[0].id").value(userId))
+                .andExpect(jsonPath("$.response.content[0].name").value("Test User"))
+                .andExpect(jsonPath("$.response.nextCursor").value(nextCursor));
+
+        // Verify
+        verify(userSearchService).searchUsers(UserSearchField.NAME, "Test", null, 1);
+
+    }
+
+    /**
+     * Test case for creating several users via HTTP POST request.
+     *
+     * @throws Exception if there is an error performing the HTTP request or assertions fail.
+     */
+    @Test
+    void givenCreateUsersBatchRequest_whenSaveUsers_thenReturnSavedUsers() throws Exception {
+
+        // Given
+        final CreateUsersBatchRequest createUsersBatchRequest = CreateUsersBatchRequest.builder()
+                .users(List.of(
+                        CreateUserRequest.builder().name("User 1").email("user1@userinfo.com").build(),
+                        CreateUserRequest.builder().name("User 2").email("user2@userinfo.com").build()
+                ))
+                .build();
+
+        final List<User> users = createUsersBatchRequest.getUsers().stream()
+                .<User>map(request -> User.builder().name(request.getName()).email(request.getEmail()).build())
+                .toList();
+
+        // When
+        when(userService.createUsers(anyList())).thenReturn(users);
+
+        // Then
+        mockMvc.perform(post(BASE_PATH + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createUsersBatchRequest)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.httpStatus").value("CREATED"))
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.response.length()").value(2))
+                .andExpect(jsonPath("$.response[1].email").value("user2@userinfo.com"));
+
+        // Verify
+        verify(userService).createUsers(anyList());
+
+    }
+
+    /**
+     * Test case for exporting all users as newline delimited JSON via HTTP GET request.
+     *
+     * @throws Exception if there is an error performing the HTTP request or assertions fail.
+     */
+    @Test
+    void givenUsers_whenExportUsers_thenStreamNdjson() throws Exception {
+
+        // Given
+        final String ndjson = "{\"id\":\"1\"}\n{\"id\":\"2\"}\n";
+        final StreamingResponseBody body = outputStream -> outputStream.write(ndjson.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        when(userExportService.exportUsers()).thenReturn(body);
+
+        // Then
+        final MvcResult mvcResult = mockMvc.perform(get(BASE_PATH + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(ndjson));
+
+        // Verify
+        verify(userExportService).exportUsers();
+
+    }
+
+    /**
+     * Test case for importing users from a CSV body via HTTP POST request.
+     *
+     * @throws Exception if there is an error performing the HTTP request or assertions fail.
+     */
+    @Test
+    void givenCsvBody_whenImportUsers_thenReturnImportResult() throws Exception {
+
+        // Given
+        final String csv = "name,email\nUser 1,user1@userinfo.com\n";
+
+        final UserImportResponse importResponse = UserImportResponse.builder()
+                .recordCount(1L)
+                .importedCount(1L)
+                .failedCount(0L)
+                .aborted(false)
+                .chunks(Collections.emptyList())
+                .build();
+
+        // When
+        when(userImportService.importUsers(any(), eq(UserImportFormat.CSV))).thenReturn(importResponse);
+
+        // Then
+        mockMvc.perform(post(BASE_PATH + "/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.response.importedCount").value(1))
+                .andExpect(jsonPath("$.response.aborted").value(false));
 
         // Verify
-        verify(userService).getUsers(any(UserPagingRequest.class));
+        verify(userImportService).importUsers(any(), eq(UserImportFormat.CSV));
 
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package com.springboot.ratelimiter.user.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.springboot.ratelimiter.base.AbstractRestControllerTest;
+import com.springboot.ratelimiter.user.payload.request.CreateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UpdateUserRequest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration test named {@link UserVirtualThreadPinningTest} running the user endpoints on virtual threads.
+ * Requests are sent concurrently over HTTP, so they are served by Tomcat's virtual thread executor and go through
+ * the bulkheads, Hikari, the MySQL driver and Lettuce, while a flight recording captures every
+ * {@code jdk.VirtualThreadPinned} event. Any virtual thread that blocks while pinned to its carrier fails the test.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "bulkhead.enabled=true",
+        "rate.limiter.max.requests=1000000",
+        "rate.limiter.bulk.max.records=1000000"
+})
+class UserVirtualThreadPinningTest extends AbstractRestControllerTest {
+
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    private static final int USER_COUNT = 64;
+
+    private static final int REPORTED_FRAME_COUNT = 8;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    /**
+     * Test case for concurrent creates, reads, updates, list pages and deletes on virtual threads.
+     * Verifies that every request succeeds and no virtual thread is pinned while blocking.
+     */
+    @Test
+    void givenVirtualThreads_whenServeConcurrentRequests_thenRecordNoPinnedThreads() throws IOException {
+
+        // Given
+        final Path recordingFile = Files.createTempFile("virtual-thread-pinning", ".jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT_NAME).withoutThreshold().withStackTrace();
+            recording.start();
+            exerciseUserEndpoints();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // Then
+        final List<RecordedEvent> pinnedEvents = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals(PINNED_EVENT_NAME))
+                .toList();
+        Files.deleteIfExists(recordingFile);
+
+        assertTrue(pinnedEvents.isEmpty(), () -> pinnedEvents.size() + " pinned virtual threads:\n"
+                + pinnedEvents.stream().map(UserVirtualThreadPinningTest::describe).collect(Collectors.joining("\n")));
+
+    }
+
+    private void exerciseUserEndpoints() {
+
+        final List<JsonNode> users = await(IntStream.range(0, USER_COUNT)
+                .mapToObj(i -> send(HttpRequest.newBuilder(uri(BASE_PATH + "/save"))
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .POST(json(CreateUserRequest.builder()
+                                .name("User " + i)
+                                .email("pinning-" + i + "-" + System.nanoTime() + "@userinfo.com")
+                                .build()))))
+                .toList());
+
+        // Read twice, so both the cache miss and the cache hit are served
+        for (int round = 0; round < 2; round++) {
+            await(users.stream()
+                    .map(user -> send(HttpRequest.newBuilder(uri(BASE_PATH + "/" + user.get("id").asText())).GET()))
+                    .toList());
+        }
+
+        await(users.stream()
+                .map(user -> send(HttpRequest.newBuilder(uri(BASE_PATH + "/" + user.get("id").asText()))
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .PUT(json(UpdateUserRequest.builder()
+                                .name(user.get("name").asText() + " Updated")
+                                .email(user.get("email").asText())
+                                .version(user.get("version").asLong())
+                                .build()))))
+                .toList());
+
+        await(IntStream.range(1, 9)
+                .mapToObj(page -> send(HttpRequest.newBuilder(uri(BASE_PATH + "?page=" + page + "&size=8")).GET()))
+                .toList());
+
+        await(users.stream()
+                .map(user -> send(HttpRequest.newBuilder(uri(BASE_PATH + "/" + user.get("id").asText())).DELETE()))
+                .toList());
+
+    }
+
+    private CompletableFuture<JsonNode> send(final HttpRequest.Builder request) {
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    assertEquals(200, response.statusCode(), response::body);
+                    try {
+                        return objectMapper.readTree(response.body()).get("response");
+                    } catch (IOException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                });
+    }
+
+    private static List<JsonNode> await(final List<CompletableFuture<JsonNode>> responses) {
+        return responses.stream().map(CompletableFuture::join).toList();
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private HttpRequest.BodyPublisher json(final Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String describe(final RecordedEvent event) {
+        final String frames = event.getStackTrace() == null ? "" : event.getStackTrace().getFrames().stream()
+                .limit(REPORTED_FRAME_COUNT)
+                .map(RecordedFrame::getMethod)
+                .map(method -> "    at " + method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n"));
+        return "pinned for " + event.getDuration() + "\n" + frames;
+    }
+
+}
@@ -0,0 +1,212 @@
+package com.springboot.ratelimiter.user.controller;
+
+import com.springboot.ratelimiter.RatelimiterApplication;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JMH benchmark named {@link VirtualThreadCapacityBenchmark} comparing how many concurrent connections the application
+ * serves on Tomcat's platform thread pool and on virtual threads. Every operation opens the given number of
+ * connections at once, each streaming a small NDJSON import whose records trickle in, so every request keeps its
+ * thread blocked on the socket for the whole upload. Platform threads serve these in waves of
+ * {@code server.tomcat.threads.max}, virtual threads serve all of them at once until the bulkheads push back.
+ * The time of an operation is the time until every connection got its response; the {@code succeeded} and
+ * {@code rejected} counters report how many were imported and how many were turned away with a 503.
+ * It starts the whole application, so MySQL and Redis have to be reachable as configured in {@code application.yaml}.
+ * Run it after {@code mvn test-compile} with
+ * {@code java -cp target/test-classes:target/classes:<test classpath> com.springboot.ratelimiter.user.controller.VirtualThreadCapacityBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VirtualThreadCapacityBenchmark {
+
+    private static final String IMPORT_PATH = "/api/v1/users/import";
+
+    private static final int RECORDS_PER_CONNECTION = 5;
+
+    private static final long RECORD_INTERVAL_MILLIS = 100L;
+
+    private static final AtomicLong EMAIL_SEQUENCE = new AtomicLong();
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"200", "1000", "4000"})
+    private int connections;
+
+    private ConfigurableApplicationContext context;
+
+    private ExecutorService clientExecutor;
+
+    private HttpClient httpClient;
+
+    private URI importUri;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        context = new SpringApplicationBuilder(RatelimiterApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "bulkhead.enabled=" + virtualThreads,
+                        "rate.limiter.max.requests=" + Integer.MAX_VALUE,
+                        "rate.limiter.bulk.max.records=" + Integer.MAX_VALUE)
+                .run();
+
+        final int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        importUri = URI.create("http://localhost:" + port + IMPORT_PATH);
+
+        // The client streams every upload on its own virtual thread, so it never limits the connections itself
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientExecutor.close();
+        context.close();
+    }
+
+    /**
+     * Class named {@link Outcome} counting the responses of an operation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+
+        public long succeeded;
+
+        public long rejected;
+
+    }
+
+    @Benchmark
+    public void concurrentSlowUploads(final Outcome outcome) {
+
+        final List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            responses.add(httpClient.sendAsync(HttpRequest.newBuilder(importUri)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+                            .POST(HttpRequest.BodyPublishers.ofInputStream(VirtualThreadCapacityBenchmark::trickle))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding()));
+        }
+
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() == 200) {
+                outcome.succeeded++;
+            } else {
+                outcome.rejected++;
+            }
+        }
+
+    }
+
+    /**
+     * Opens an upload whose records are only released one interval after another.
+     *
+     * @return the stream of the upload
+     */
+    private static InputStream trickle() {
+        final List<InputStream> records = new ArrayList<>(RECORDS_PER_CONNECTION);
+        for (int i = 0; i < RECORDS_PER_CONNECTION; i++) {
+            final long sequence = EMAIL_SEQUENCE.incrementAndGet();
+            records.add(new DelayedInputStream(("{\"name\":\"User " + sequence + "\",\"email\":\"capacity-"
+                    + System.nanoTime() + "-" + sequence + "@userinfo.com\"}\n").getBytes(StandardCharsets.UTF_8)));
+        }
+        return new SequenceInputStream(Collections.enumeration(records));
+    }
+
+    /**
+     * Class named {@link DelayedInputStream} releasing its bytes only after {@link #RECORD_INTERVAL_MILLIS}.
+     */
+    private static final class DelayedInputStream extends InputStream {
+
+        private final byte[] bytes;
+
+        private int position = -1;
+
+        private DelayedInputStream(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read() {
+            final byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) {
+            if (position < 0) {
+                try {
+                    Thread.sleep(RECORD_INTERVAL_MILLIS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                position = 0;
+            }
+            if (position == bytes.length) {
+                return -1;
+            }
+            final int count = Math.min(length, bytes.length - position);
+            System.arraycopy(bytes, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VirtualThreadCapacityBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+}
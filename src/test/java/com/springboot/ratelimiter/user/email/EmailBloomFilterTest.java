@@ -0,0 +1,90 @@
+package com.springboot.ratelimiter.user.email;
+
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link EmailBloomFilter}.
+ */
+class EmailBloomFilterTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmailBloomFilter emailBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        emailBloomFilter = new EmailBloomFilter(userRepository, transactionManager, 10_000, 0.01);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    /**
+     * Test case for {@link EmailBloomFilter#mightContain(String)} before the first build.
+     * Verifies that every email is reported as possibly taken.
+     */
+    @Test
+    void givenFilterNotBuilt_whenMightContain_thenReturnTrue() {
+        assertTrue(emailBloomFilter.mightContain("unknown@userinfo.com"));
+    }
+
+    /**
+     * Test case for {@link EmailBloomFilter#mightContain(String)} after a build.
+     * Verifies that loaded and recorded emails are found regardless of case and unknown ones are ruled out.
+     */
+    @Test
+    void givenBuiltFilter_whenMightContain_thenNeverReturnFalseNegatives() {
+
+        // Given
+        when(userRepository.streamAllEmails()).thenReturn(Stream.of("User1@UserInfo.com", "user2@userinfo.com"));
+
+        // When
+        emailBloomFilter.rebuild();
+        emailBloomFilter.put("user3@userinfo.com");
+
+        // Then
+        assertTrue(emailBloomFilter.mightContain("user1@userinfo.com"));
+        assertTrue(emailBloomFilter.mightContain("user2@userinfo.com"));
+        assertTrue(emailBloomFilter.mightContain("USER3@userinfo.com"));
+        assertFalse(emailBloomFilter.mightContain("user4@userinfo.com"));
+
+    }
+
+    /**
+     * Test case for {@link EmailBloomFilter#mightContain(String)} filled up to the expected insertions.
+     * Verifies that the false positive rate stays close to the configured one.
+     */
+    @Test
+    void givenExpectedInsertions_whenMightContain_thenFalsePositiveRateStaysNearTarget() {
+
+        // Given
+        when(userRepository.streamAllEmails())
+                .thenReturn(IntStream.range(0, 10_000).mapToObj(i -> "user" + i + "@userinfo.com"));
+
+        // When
+        emailBloomFilter.rebuild();
+
+        // Then
+        final long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> emailBloomFilter.mightContain("other" + i + "@userinfo.com"))
+                .count();
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+
+    }
+
+}
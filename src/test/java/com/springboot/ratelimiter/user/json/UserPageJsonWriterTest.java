@@ -0,0 +1,108 @@
+package com.springboot.ratelimiter.user.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.springboot.ratelimiter.common.json.EnvelopeJsonModule;
+import com.springboot.ratelimiter.common.model.dto.response.CustomPagingResponse;
+import com.springboot.ratelimiter.common.model.dto.response.CustomResponse;
+import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.user.mapper.UserSummaryToUserResponseMapper;
+import com.springboot.ratelimiter.user.model.UserSummary;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link UserPageJsonWriter}, verifying that pages written row by row match the serialization of
+ * the mapped response envelope.
+ */
+class UserPageJsonWriterTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 7, 1, 12, 30, 15, 123_000_000);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new BlackbirdModule())
+            .addModule(new EnvelopeJsonModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final UserPageJsonWriter userPageJsonWriter = new UserPageJsonWriter(objectMapper);
+
+    private final UserSummaryToUserResponseMapper userSummaryToUserResponseMapper =
+            UserSummaryToUserResponseMapper.initialize();
+
+    private final List<UserSummary> userSummaries = List.of(
+            new UserSummary("018f3c6e-1a2b-7c3d-8e4f-000000000001", "User 1", "user1@userinfo.com", 0L),
+            new UserSummary("018f3c6e-1a2b-7c3d-8e4f-000000000002", "User \"2\"", "user2@userinfo.com", 3L),
+            new UserSummary("018f3c6e-1a2b-7c3d-8e4f-000000000003", null, null, null));
+
+    /**
+     * Test case for a page with exact totals.
+     */
+    @Test
+    void givenPageWithTotals_whenWrite_thenMatchMappedResponseSerialization() throws Exception {
+
+        // Given
+        final CustomPage<UserSummary> userSummaryPage = CustomPage.of(userSummaries,
+                new PageImpl<>(userSummaries, PageRequest.of(1, 3), 9));
+
+        // Then
+        assertEquals(toMappedJson(userSummaryPage), write(userSummaryPage));
+
+    }
+
+    /**
+     * Test case for a page read without a count, which carries a has-next flag instead of totals.
+     */
+    @Test
+    void givenPageWithoutTotals_whenWrite_thenMatchMappedResponseSerialization() throws Exception {
+
+        // Given
+        final CustomPage<UserSummary> userSummaryPage = CustomPage.of(userSummaries,
+                new SliceImpl<>(userSummaries, PageRequest.of(0, 3), true));
+
+        // When
+        final String json = write(userSummaryPage);
+
+        // Then
+        assertEquals(toMappedJson(userSummaryPage), json);
+        assertFalse(json.contains("totalElementCount"));
+
+    }
+
+    private String write(final CustomPage<UserSummary> userSummaryPage) throws Exception {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        userPageJsonWriter.write(outputStream, userSummaryPage, TIME);
+        return outputStream.toString();
+    }
+
+    private String toMappedJson(final CustomPage<UserSummary> userSummaryPage) throws Exception {
+
+        final CustomPagingResponse<UserResponse> userPagingResponse = CustomPagingResponse.<UserResponse>builder()
+                .of(userSummaryPage)
+                .content(userSummaryToUserResponseMapper.map(userSummaryPage.getContent()))
+                .build();
+
+        return objectMapper.writeValueAsString(CustomResponse.<CustomPagingResponse<UserResponse>>builder()
+                .time(TIME)
+                .httpStatus(HttpStatus.OK)
+                .isSuccess(true)
+                .response(userPagingResponse)
+                .build());
+
+    }
+
+}
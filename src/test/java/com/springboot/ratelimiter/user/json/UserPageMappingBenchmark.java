@@ -0,0 +1,121 @@
+package com.springboot.ratelimiter.user.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.springboot.ratelimiter.common.compression.Gzip;
+import com.springboot.ratelimiter.common.json.EnvelopeJsonModule;
+import com.springboot.ratelimiter.common.model.dto.response.CustomPagingResponse;
+import com.springboot.ratelimiter.common.model.dto.response.CustomResponse;
+import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.user.mapper.UserSummaryToUserResponseMapper;
+import com.springboot.ratelimiter.user.model.UserSummary;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark named {@link UserPageMappingBenchmark} comparing the mapped rendering of a user list page, which
+ * builds a list of {@link UserResponse} and serializes it as beans, with the single pass of {@link UserPageJsonWriter},
+ * both on their own and as part of the compressed body cached by
+ * {@link com.springboot.ratelimiter.user.service.impl.UserPageServiceImpl}. The {@code gc} profiler is enabled to
+ * compare allocations. Run it after {@code mvn test-compile} with
+ * {@code java -cp target/test-classes:target/classes:<test classpath> com.springboot.ratelimiter.user.json.UserPageMappingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserPageMappingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new BlackbirdModule())
+            .addModule(new EnvelopeJsonModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final UserPageJsonWriter userPageJsonWriter = new UserPageJsonWriter(objectMapper);
+
+    private final UserSummaryToUserResponseMapper userSummaryToUserResponseMapper =
+            UserSummaryToUserResponseMapper.initialize();
+
+    private CustomPage<UserSummary> userSummaryPage;
+
+    @Setup
+    public void setUp() {
+
+        final List<UserSummary> userSummaries = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            userSummaries.add(new UserSummary("018f3c6e-1a2b-7c3d-8e4f-" + String.format("%012d", i),
+                    "User " + i, "user" + i + "@userinfo.com", (long) i));
+        }
+        userSummaryPage = CustomPage.of(userSummaries,
+                new PageImpl<>(userSummaries, PageRequest.of(0, pageSize), 100_000));
+
+    }
+
+    @Benchmark
+    public void mapped() throws Exception {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), toMappedResponse());
+    }
+
+    @Benchmark
+    public void fused() throws Exception {
+        userPageJsonWriter.write(OutputStream.nullOutputStream(), userSummaryPage, LocalDateTime.now());
+    }
+
+    @Benchmark
+    public byte[] mappedCompressed() throws Exception {
+        return Gzip.compress(objectMapper.writeValueAsBytes(toMappedResponse()));
+    }
+
+    @Benchmark
+    public byte[] fusedCompressed() {
+        return Gzip.compress(UserPageJsonWriter.sizeHint(userSummaryPage),
+                outputStream -> userPageJsonWriter.write(outputStream, userSummaryPage, LocalDateTime.now()));
+    }
+
+    private CustomResponse<CustomPagingResponse<UserResponse>> toMappedResponse() {
+        return CustomResponse.ok(CustomPagingResponse.<UserResponse>builder()
+                .of(userSummaryPage)
+                .content(userSummaryToUserResponseMapper.map(userSummaryPage.getContent()))
+                .build());
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserPageMappingBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+                .run();
+    }
+
+}
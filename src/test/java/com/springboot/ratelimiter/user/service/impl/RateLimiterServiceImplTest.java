@@ -1,18 +1,37 @@
 package com.springboot.ratelimiter.user.service.impl;
 
 import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.common.bulkhead.Bulkhead;
+import com.springboot.ratelimiter.common.exception.bulkhead.BulkheadFullException;
+import com.springboot.ratelimiter.ratelimit.jfr.RateLimitDecisionEvent;
+import com.springboot.ratelimiter.ratelimit.jfr.RedisCommandEvent;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicy;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicyRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +49,12 @@ class RateLimiterServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private RateLimitPolicyRegistry policyRegistry;
+
+    @Spy
+    private Bulkhead redisBulkhead = new Bulkhead("redis", 8, Duration.ofMillis(100), new SimpleMeterRegistry());
+
     private static final String RATE_LIMITER_KEY = "rate_limiter:user_creation";
 
     /**
@@ -40,8 +65,8 @@ class RateLimiterServiceImplTest extends AbstractBaseServiceTest {
     public void setUp() {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
-        ReflectionTestUtils.setField(rateLimiterService, "MAX_REQUESTS", 5);
-        ReflectionTestUtils.setField(rateLimiterService, "TIME_WINDOW_IN_SECONDS", 60);
+        when(policyRegistry.getPolicy(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME))
+                .thenReturn(new RateLimitPolicy(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME, 5, 60));
     }
 
     /**
@@ -103,4 +128,170 @@ class RateLimiterServiceImplTest extends AbstractBaseServiceTest {
 
     }
 
-}
\ No newline at end of file
+    /**
+     * Test case for {@link RateLimiterServiceImpl#isAllowed(String, int)} when several permits fit into the window.
+     * Verifies that all permits are charged with a single INCRBY.
+     */
+    @Test
+    public void testIsAllowedPermits_WithinLimit() {
+
+        // Given
+        when(valueOperations.get(RATE_LIMITER_KEY)).thenReturn(2);
+
+        // When
+        boolean isAllowed = rateLimiterService.isAllowed(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME, 3);
+
+        // Then
+        assertTrue(isAllowed);
+        verify(valueOperations).increment(RATE_LIMITER_KEY, 3L);
+
+    }
+
+    /**
+     * Test case for {@link RateLimiterServiceImpl#isAllowed(String, int)} when the permits do not fit into the window.
+     * Verifies that no permits are charged at all.
+     */
+    @Test
+    public void testIsAllowedPermits_LimitExceeded() {
+
+        // Given
+        when(valueOperations.get(RATE_LIMITER_KEY)).thenReturn(null);
+
+        // When
+        boolean isAllowed = rateLimiterService.isAllowed(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME, 6);
+
+        // Then
+        assertFalse(isAllowed);
+        verify(valueOperations, never()).set(any(), any(), anyLong(), any(TimeUnit.class));
+        verify(valueOperations, never()).increment(any(), anyLong());
+
+    }
+
+    /**
+     * Test case for {@link RateLimiterServiceImpl#isAllowed(String, int)} under the bulk policy.
+     * Verifies that a batch larger than the request limit is charged against the bulk counter.
+     */
+    @Test
+    public void testIsAllowedPermits_BulkPolicy() {
+
+        // Given
+        final String bulkKey = "rate_limiter:" + RateLimitPolicyRegistry.BULK_POLICY_NAME;
+        when(policyRegistry.getPolicy(RateLimitPolicyRegistry.BULK_POLICY_NAME))
+                .thenReturn(new RateLimitPolicy(RateLimitPolicyRegistry.BULK_POLICY_NAME, 20000, 60));
+        when(valueOperations.get(bulkKey)).thenReturn(null);
+
+        // When
+        boolean isAllowed = rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, 10000);
+
+        // Then
+        assertTrue(isAllowed);
+        verify(valueOperations).set(bulkKey, 10000, 60, TimeUnit.SECONDS);
+        verify(valueOperations, never()).get(RATE_LIMITER_KEY);
+
+    }
+
+    /**
+     * Test case for the Java Flight Recorder events emitted by {@link RateLimiterServiceImpl#isAllowed()}.
+     * Verifies that a decision event and one event per Redis command are recorded when enabled in the recording.
+     */
+    @Test
+    public void testIsAllowed_RecordsFlightRecorderEvents() throws IOException {
+
+        // Given
+        when(valueOperations.get(RATE_LIMITER_KEY)).thenReturn(3);
+
+        final Path recordingFile = Files.createTempFile("ratelimiter", ".jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(RateLimitDecisionEvent.NAME).withoutThreshold();
+            recording.enable(RedisCommandEvent.NAME).withoutThreshold();
+            recording.start();
+            rateLimiterService.isAllowed();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // Then
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        Files.deleteIfExists(recordingFile);
+
+        final List<RecordedEvent> decisions = events.stream()
+                .filter(event -> event.getEventType().getName().equals(RateLimitDecisionEvent.NAME))
+                .toList();
+        final List<String> commands = events.stream()
+                .filter(event -> event.getEventType().getName().equals(RedisCommandEvent.NAME))
+                .map(event -> event.getString("command"))
+                .toList();
+
+        assertEquals(1, decisions.size());
+        assertEquals("ALLOWED", decisions.get(0).getString("outcome"));
+        assertEquals("user_creation", decisions.get(0).getString("policy"));
+        assertEquals(List.of("GET", "INCR"), commands);
+
+    }
+
+    /**
+     * Test case for the Java Flight Recorder event emitted by {@link RateLimiterServiceImpl#isAllowed()}
+     * when the Redis bulkhead is full.
+     * Verifies that the failed check is still recorded, with an error outcome.
+     */
+    @Test
+    public void testIsAllowed_BulkheadFull_RecordsErrorDecision() throws IOException {
+
+        // Given
+        doThrow(new BulkheadFullException("redis")).when(redisBulkhead).call(any());
+
+        // When
+        final List<RecordedEvent> decisions = recordDecisions(() -> assertThrows(BulkheadFullException.class,
+                () -> rateLimiterService.isAllowed()));
+
+        // Then
+        assertEquals(1, decisions.size());
+        assertEquals("ERROR", decisions.get(0).getString("outcome"));
+        assertEquals(BulkheadFullException.class.getName(), decisions.get(0).getString("error"));
+
+    }
+
+    /**
+     * Test case for the Java Flight Recorder event emitted by {@link RateLimiterServiceImpl#isAllowed()}
+     * when Redis fails.
+     * Verifies that the failed check is still recorded, with an error outcome.
+     */
+    @Test
+    public void testIsAllowed_RedisFailure_RecordsErrorDecision() throws IOException {
+
+        // Given
+        when(valueOperations.get(RATE_LIMITER_KEY)).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        // When
+        final List<RecordedEvent> decisions = recordDecisions(() -> assertThrows(RedisConnectionFailureException.class,
+                () -> rateLimiterService.isAllowed()));
+
+        // Then
+        assertEquals(1, decisions.size());
+        assertEquals("ERROR", decisions.get(0).getString("outcome"));
+        assertEquals(RedisConnectionFailureException.class.getName(), decisions.get(0).getString("error"));
+
+    }
+
+    private static List<RecordedEvent> recordDecisions(final Runnable checks) throws IOException {
+
+        final Path recordingFile = Files.createTempFile("ratelimiter", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RateLimitDecisionEvent.NAME).withoutThreshold();
+            recording.start();
+            checks.run();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        Files.deleteIfExists(recordingFile);
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(RateLimitDecisionEvent.NAME))
+                .toList();
+
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.ratelimit.jfr.RateLimitDecisionEvent;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicy;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicyRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ReactiveRateLimiterServiceImpl}
+ */
+class ReactiveRateLimiterServiceImplTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private ReactiveRateLimiterServiceImpl reactiveRateLimiterService;
+
+    @Mock
+    private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RateLimitPolicyRegistry policyRegistry;
+
+    private static final String RATE_LIMITER_KEY = "rate_limiter:user_creation";
+
+    @BeforeEach
+    public void setUp() {
+        when(reactiveStringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        when(policyRegistry.getPolicy(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME))
+                .thenReturn(new RateLimitPolicy(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME, 5, 60));
+    }
+
+    @Test
+    void givenNoCounter_whenIsAllowed_thenStartWindowAndAllow() {
+
+        // Given
+        when(valueOperations.get(RATE_LIMITER_KEY)).thenReturn(Mono.empty());
+        when(valueOperations.set(RATE_LIMITER_KEY, "1", Duration.ofSeconds(60))).thenReturn(Mono.just(true));
+
+        // When / Then
+        StepVerifier.create(reactiveRateLimiterService.isAllowed())
+                .expectNext(true)
+                .verifyComplete();
+
+        // Verify
+        verify(valueOperations).set(RATE_LIMITER_KEY, "1", Duration.ofSeconds(60));
+        verify(valueOperations, never()).increment(anyString());
+
+    }
+
+    @Test
+    void givenCounterBelowLimit_whenIsAllowed_thenIncrementAndAllow() {
+
+        // Given
+        when(valueOperations.get(RATE_LIMITER_KEY)).thenReturn(Mono.just("3"));
+        when(valueOperations.increment(RATE_LIMITER_KEY)).thenReturn(Mono.just(4L));
+
+        // When / Then
+        StepVerifier.create(reactiveRateLimiterService.isAllowed())
+                .expectNext(true)
+                .verifyComplete();
+
+        // Verify
+        verify(valueOperations).increment(RATE_LIMITER_KEY);
+
+    }
+
+    @Test
+    void givenCounterAtLimit_whenIsAllowed_thenReject() {
+
+        // Given
+        when(valueOperations.get(RATE_LIMITER_KEY)).thenReturn(Mono.just("5"));
+
+        // When / Then
+        StepVerifier.create(reactiveRateLimiterService.isAllowed())
+                .expectNext(false)
+                .verifyComplete();
+
+        // Verify
+        verify(valueOperations, never()).increment(anyString());
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+
+    }
+
+    @Test
+    void givenPermitsFittingWindow_whenIsAllowed_thenIncrementByPermits() {
+
+        // Given
+        when(valueOperations.get(RATE_LIMITER_KEY)).thenReturn(Mono.just("2"));
+        when(valueOperations.increment(RATE_LIMITER_KEY, 3L)).thenReturn(Mono.just(5L));
+
+        // When / Then
+        StepVerifier.create(reactiveRateLimiterService.isAllowed(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME, 3))
+                .expectNext(true)
+                .verifyComplete();
+
+        // Verify
+        verify(valueOperations).increment(RATE_LIMITER_KEY, 3L);
+
+    }
+
+    @Test
+    void givenMorePermitsThanPolicyAllows_whenIsAllowedWithoutCounter_thenRejectWithoutWriting() {
+
+        // Given
+        when(valueOperations.get(RATE_LIMITER_KEY)).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(reactiveRateLimiterService.isAllowed(RateLimitPolicyRegistry.DEFAULT_POLICY_NAME, 6))
+                .expectNext(false)
+                .verifyComplete();
+
+        // Verify
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+
+    }
+
+    /**
+     * Test case for the Java Flight Recorder event emitted by {@link ReactiveRateLimiterServiceImpl#isAllowed()}
+     * when Redis fails.
+     * Verifies that the failed check is still recorded, with an error outcome.
+     */
+    @Test
+    void givenRedisFailure_whenIsAllowed_thenRecordErrorDecision() throws IOException {
+
+        // Given
+        when(valueOperations.get(RATE_LIMITER_KEY))
+                .thenReturn(Mono.error(new RedisConnectionFailureException("Connection refused")));
+
+        final Path recordingFile = Files.createTempFile("ratelimiter", ".jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(RateLimitDecisionEvent.NAME).withoutThreshold();
+            recording.start();
+            StepVerifier.create(reactiveRateLimiterService.isAllowed())
+                    .expectError(RedisConnectionFailureException.class)
+                    .verify();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // Then
+        final List<RecordedEvent> decisions = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals(RateLimitDecisionEvent.NAME))
+                .toList();
+        Files.deleteIfExists(recordingFile);
+
+        assertEquals(1, decisions.size());
+        assertEquals("ERROR", decisions.get(0).getString("outcome"));
+        assertEquals(RedisConnectionFailureException.class.getName(), decisions.get(0).getString("error"));
+
+    }
+
+}
@@ -0,0 +1,315 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.common.exception.user.EmailAlreadyExistsException;
+import com.springboot.ratelimiter.common.exception.user.UserNotFoundException;
+import com.springboot.ratelimiter.common.exception.user.UserVersionConflictException;
+import com.springboot.ratelimiter.common.model.page.CountMode;
+import com.springboot.ratelimiter.common.model.page.CustomPaging;
+import com.springboot.ratelimiter.user.User;
+import com.springboot.ratelimiter.user.cache.UserCache;
+import com.springboot.ratelimiter.user.cache.UserPageCache;
+import com.springboot.ratelimiter.user.count.UserCount;
+import com.springboot.ratelimiter.user.email.EmailBloomFilter;
+import com.springboot.ratelimiter.user.model.UserEntity;
+import com.springboot.ratelimiter.user.payload.request.CreateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UpdateUserRequest;
+import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import com.springboot.ratelimiter.user.repository.ReactiveUserRepository;
+import com.springboot.ratelimiter.user.service.ReactiveRateLimiterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ReactiveUserServiceImpl}, covering the non-blocking user management operations.
+ */
+class ReactiveUserServiceImplTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private ReactiveUserServiceImpl reactiveUserService;
+
+    private static final String USER_ID = "018f3c6e-1a2b-7c3d-8e4f-000000000001";
+
+    @Mock
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @Mock
+    private ReactiveRateLimiterService reactiveRateLimiterService;
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private UserCount userCount;
+
+    @Mock
+    private UserPageCache userPageCache;
+
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        when(reactiveRateLimiterService.isAllowed()).thenReturn(Mono.just(true));
+        when(emailBloomFilter.mightContain(anyString())).thenReturn(true);
+    }
+
+    @Test
+    void givenCreateRequest_whenCreateUser_thenInsertAndCacheUser() {
+
+        // Given
+        final CreateUserRequest createUserRequest = CreateUserRequest.builder()
+                .email("user@userinfo.com")
+                .name("User 1")
+                .build();
+
+        // When
+        when(reactiveUserRepository.existsByEmail("user@userinfo.com")).thenReturn(Mono.just(false));
+        when(reactiveUserRepository.insert(anyString(), eq("User 1"), eq("user@userinfo.com"), any(LocalDateTime.class)))
+                .thenReturn(Mono.empty());
+
+        // Then
+        StepVerifier.create(reactiveUserService.createUser(createUserRequest))
+                .assertNext(user -> {
+                    assertNotNull(user.getId());
+                    assertEquals("User 1", user.getName());
+                    assertEquals("user@userinfo.com", user.getEmail());
+                    assertEquals(0L, user.getVersion());
+                })
+                .verifyComplete();
+
+        // Verify
+        verify(emailBloomFilter).put("user@userinfo.com");
+        verify(userCache).put(any(User.class));
+        verify(userCount).add(1L);
+        verify(userPageCache).invalidateAll();
+
+    }
+
+    @Test
+    void givenRateLimitExceeded_whenCreateUser_thenFailWithoutTouchingDatabase() {
+
+        // Given
+        final CreateUserRequest createUserRequest = CreateUserRequest.builder()
+                .email("user@userinfo.com")
+                .name("User 1")
+                .build();
+
+        // When
+        when(reactiveRateLimiterService.isAllowed()).thenReturn(Mono.just(false));
+
+        // Then
+        StepVerifier.create(reactiveUserService.createUser(createUserRequest))
+                .expectErrorSatisfies(ex -> {
+                    assertInstanceOf(RateLimitExceededException.class, ex);
+                    assertEquals("Rate limit exceeded", ex.getMessage());
+                })
+                .verify();
+
+        // Verify
+        verifyNoInteractions(reactiveUserRepository);
+
+    }
+
+    @Test
+    void givenConcurrentInsertOfSameEmail_whenCreateUser_thenFailWithEmailAlreadyExists() {
+
+        // Given
+        final CreateUserRequest createUserRequest = CreateUserRequest.builder()
+                .email("user@userinfo.com")
+                .name("User 1")
+                .build();
+
+        final DuplicateKeyException violation = new DuplicateKeyException(
+                "Duplicate entry 'user@userinfo.com' for key 'USERS." + UserEntity.EMAIL_UNIQUE_CONSTRAINT + "'");
+
+        // When
+        when(reactiveUserRepository.existsByEmail("user@userinfo.com")).thenReturn(Mono.just(false));
+        when(reactiveUserRepository.insert(anyString(), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(Mono.error(violation));
+
+        // Then
+        StepVerifier.create(reactiveUserService.createUser(createUserRequest))
+                .expectError(EmailAlreadyExistsException.class)
+                .verify();
+
+        // Verify
+        verify(emailBloomFilter, never()).put(anyString());
+        verifyNoInteractions(userCache, userCount, userPageCache);
+
+    }
+
+    @Test
+    void givenMissingUser_whenGetUserById_thenFailWithUserNotFound() {
+
+        // When
+        when(reactiveUserRepository.findById(USER_ID)).thenReturn(Mono.empty());
+
+        // Then
+        StepVerifier.create(reactiveUserService.getUserById(USER_ID))
+                .expectError(UserNotFoundException.class)
+                .verify();
+
+    }
+
+    @Test
+    void givenStaleVersion_whenUpdateUser_thenFailWithVersionConflict() {
+
+        // Given
+        final UpdateUserRequest updateUserRequest = UpdateUserRequest.builder()
+                .email("user@userinfo.com")
+                .name("User Updated")
+                .version(3L)
+                .build();
+
+        // When
+        when(reactiveUserRepository.updateIfVersionMatches(eq(USER_ID), eq(3L), eq("User Updated"),
+                eq("user@userinfo.com"), any(LocalDateTime.class))).thenReturn(Mono.just(0L));
+        when(reactiveUserRepository.existsById(USER_ID)).thenReturn(Mono.just(true));
+
+        // Then
+        StepVerifier.create(reactiveUserService.updateUser(USER_ID, updateUserRequest))
+                .expectError(UserVersionConflictException.class)
+                .verify();
+
+        // Verify
+        verify(userCache, never()).evict(anyString(), anyLong());
+
+    }
+
+    @Test
+    void givenCurrentVersion_whenUpdateUser_thenReturnNextVersionAndEvictCache() {
+
+        // Given
+        final UpdateUserRequest updateUserRequest = UpdateUserRequest.builder()
+                .email("user@userinfo.com")
+                .name("User Updated")
+                .version(3L)
+                .build();
+
+        // When
+        when(reactiveUserRepository.updateIfVersionMatches(eq(USER_ID), eq(3L), eq("User Updated"),
+                eq("user@userinfo.com"), any(LocalDateTime.class))).thenReturn(Mono.just(1L));
+
+        // Then
+        StepVerifier.create(reactiveUserService.updateUser(USER_ID, updateUserRequest))
+                .assertNext(user -> {
+                    assertEquals(USER_ID, user.getId());
+                    assertEquals(4L, user.getVersion());
+                    assertNotNull(user.getUpdatedAt());
+                })
+                .verifyComplete();
+
+        // Verify
+        verify(userCache).evict(USER_ID, 4L);
+        verify(reactiveUserRepository, never()).existsById(anyString());
+
+    }
+
+    @Test
+    void givenExistingUser_whenDeleteUserById_thenEvictCacheAndDecrementCount() {
+
+        // When
+        when(reactiveUserRepository.deleteById(USER_ID)).thenReturn(Mono.just(1L));
+
+        // Then
+        StepVerifier.create(reactiveUserService.deleteUserById(USER_ID))
+                .verifyComplete();
+
+        // Verify
+        verify(userCache).evict(USER_ID);
+        verify(userCount).add(-1L);
+        verify(userPageCache).invalidateAll();
+
+    }
+
+    @Test
+    void givenMissingUser_whenDeleteUserById_thenFailWithUserNotFound() {
+
+        // When
+        when(reactiveUserRepository.deleteById(USER_ID)).thenReturn(Mono.just(0L));
+
+        // Then
+        StepVerifier.create(reactiveUserService.deleteUserById(USER_ID))
+                .expectError(UserNotFoundException.class)
+                .verify();
+
+        // Verify
+        verifyNoInteractions(userCache, userCount);
+
+    }
+
+    @Test
+    void givenCachedCountMode_whenGetUserResponses_thenUseCachedTotalAndExtraRowForHasNext() {
+
+        // Given
+        final UserPagingRequest userPagingRequest = UserPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageSize(1)
+                        .pageNumber(1)
+                        .build())
+                .countMode(CountMode.CACHED)
+                .build();
+
+        final UserResponse first = UserResponse.builder().id(USER_ID).name("User 1").email("a@b.com").version(0L).build();
+        final UserResponse extra = UserResponse.builder().id("018f3c6e-1a2b-7c3d-8e4f-000000000002").build();
+
+        // When
+        when(reactiveUserRepository.findSummaries(0L, 2)).thenReturn(Flux.just(first, extra));
+        when(userCount.get()).thenReturn(Optional.of(42L));
+
+        // Then
+        StepVerifier.create(reactiveUserService.getUserResponses(userPagingRequest))
+                .assertNext(page -> {
+                    assertEquals(1, page.getContent().size());
+                    assertEquals(USER_ID, page.getContent().get(0).getId());
+                    assertEquals(42L, page.getTotalElementCount());
+                    assertEquals(42, page.getTotalPageCount());
+                    assertTrue(page.getHasNext());
+                })
+                .verifyComplete();
+
+        // Verify
+        verify(reactiveUserRepository, never()).count();
+
+    }
+
+    @Test
+    void givenPrimaryKeyViolation_whenCreateUser_thenPropagateUnchanged() {
+
+        // Given
+        final CreateUserRequest createUserRequest = CreateUserRequest.builder()
+                .email("user@userinfo.com")
+                .name("User 1")
+                .build();
+
+        final DuplicateKeyException violation = new DuplicateKeyException("Duplicate entry for key 'USERS.PRIMARY'");
+
+        // When
+        when(reactiveUserRepository.existsByEmail("user@userinfo.com")).thenReturn(Mono.just(false));
+        when(reactiveUserRepository.insert(anyString(), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(Mono.error(violation));
+
+        // Then
+        StepVerifier.create(reactiveUserService.createUser(createUserRequest))
+                .expectErrorMatches(ex -> ex == violation)
+                .verify();
+
+    }
+
+}
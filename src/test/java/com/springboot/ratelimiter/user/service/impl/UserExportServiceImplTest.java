@@ -0,0 +1,112 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.user.model.UserEntity;
+import com.springboot.ratelimiter.user.service.RateLimiterService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link UserExportServiceImpl}.
+ */
+class UserExportServiceImplTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private RateLimiterService rateLimiterService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TypedQuery<UserEntity> query;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private UserExportServiceImpl userExportService;
+
+    @BeforeEach
+    void setUp() {
+        userExportService = new UserExportServiceImpl(rateLimiterService, entityManager, objectMapper,
+                transactionManager, 250);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(entityManager.createQuery(anyString(), eq(UserEntity.class))).thenReturn(query);
+        when(query.setHint(anyString(), any())).thenReturn(query);
+    }
+
+    /**
+     * Test case for {@link UserExportServiceImpl#exportUsers()}.
+     * Verifies that every user is written as one JSON line, detached afterwards, and the fetch size is applied.
+     */
+    @Test
+    void givenUsers_whenExportUsers_thenWriteOneLinePerUser() throws Exception {
+
+        // Given
+        final UserEntity first = UserEntity.builder().id("1").name("User 1").email("user1@userinfo.com").build();
+        final UserEntity second = UserEntity.builder().id("2").name("User 2").email("user2@userinfo.com").build();
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(query.getResultStream()).thenReturn(Stream.of(first, second));
+
+        final StreamingResponseBody body = userExportService.exportUsers();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+
+        // Then
+        final String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+
+        final JsonNode secondLine = objectMapper.readTree(lines[1]);
+        assertEquals("2", secondLine.get("id").asText());
+        assertEquals("user2@userinfo.com", secondLine.get("email").asText());
+
+        // Verify
+        verify(query).setHint(HibernateHints.HINT_FETCH_SIZE, 250);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+        verify(transactionManager).commit(any());
+
+    }
+
+    /**
+     * Test case for {@link UserExportServiceImpl#exportUsers()} when rate limit is exceeded.
+     * Verifies that {@link RateLimitExceededException} is thrown before any query is issued.
+     */
+    @Test
+    void givenRateLimitExceeded_whenExportUsers_thenThrowRateLimitExceededException() {
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(false);
+
+        // Then
+        assertThrows(RateLimitExceededException.class, () -> userExportService.exportUsers());
+
+        // Verify
+        verifyNoInteractions(entityManager);
+
+    }
+
+}
@@ -0,0 +1,308 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicyRegistry;
+import com.springboot.ratelimiter.user.email.EmailBloomFilter;
+import com.springboot.ratelimiter.user.event.UsersCreatedEvent;
+import com.springboot.ratelimiter.user.payload.request.UserImportFormat;
+import com.springboot.ratelimiter.user.payload.response.UserImportChunkReport;
+import com.springboot.ratelimiter.user.payload.response.UserImportResponse;
+import com.springboot.ratelimiter.user.repository.UserRepository;
+import com.springboot.ratelimiter.user.service.RateLimiterService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link UserImportServiceImpl}.
+ */
+class UserImportServiceImplTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RateLimiterService rateLimiterService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
+    private UserImportServiceImpl userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportServiceImpl(userRepository, rateLimiterService, entityManager,
+                eventPublisher, new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(),
+                emailBloomFilter, transactionManager, 2);
+        when(emailBloomFilter.mightContain(anyString())).thenReturn(true);
+        when(rateLimiterService.isAllowed(eq(RateLimitPolicyRegistry.BULK_POLICY_NAME), anyInt())).thenReturn(true);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(userRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    /**
+     * Test case for {@link UserImportServiceImpl#importUsers(InputStream, UserImportFormat)} with NDJSON input.
+     * Verifies that records are committed in chunks and invalid, repeated and existing emails are reported.
+     */
+    @Test
+    void givenNdjson_whenImportUsers_thenCommitChunksAndReportFailures() {
+
+        // Given
+        final String ndjson = """
+                {"name":"User 1","email":"user1@userinfo.com"}
+                {"name":"User 2","email":"not-an-email"}
+                {"name":"User 3","email":"user3@userinfo.com"}
+                {"name":"User 3 again","email":"user3@userinfo.com"}
+                {"name":"User 5","email":"taken@userinfo.com"}
+                """;
+
+        // When
+        when(userRepository.findExistingEmails(anyCollection()))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(Collections.emptyList())
+                .thenReturn(List.of("taken@userinfo.com"));
+
+        // Then
+        final UserImportResponse response = userImportService.importUsers(toStream(ndjson), UserImportFormat.NDJSON);
+
+        assertEquals(5L, response.getRecordCount());
+        assertEquals(2L, response.getImportedCount());
+        assertEquals(3L, response.getFailedCount());
+        assertFalse(response.getAborted());
+        assertEquals(3, response.getChunks().size());
+
+        final UserImportChunkReport secondChunk = response.getChunks().get(1);
+        assertEquals(3L, secondChunk.getFirstRecordNumber());
+        assertEquals(4L, secondChunk.getLastRecordNumber());
+        assertEquals(1, secondChunk.getImportedCount());
+        assertEquals("Duplicate email in chunk", secondChunk.getFailures().get(0).getReason());
+
+        assertEquals(2L, response.getChunks().get(0).getFailures().get(0).getRecordNumber());
+        assertEquals("Email already exists", response.getChunks().get(2).getFailures().get(0).getReason());
+
+        // Verify
+        verify(userRepository, times(2)).saveAllAndFlush(anyList());
+        verify(entityManager, times(2)).clear();
+        verify(transactionManager, times(3)).commit(any());
+        verify(eventPublisher, times(2)).publishEvent(new UsersCreatedEvent(1));
+        verify(rateLimiterService, times(3)).isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, 1);
+
+    }
+
+    /**
+     * Test case for {@link UserImportServiceImpl#importUsers(InputStream, UserImportFormat)} with CSV input.
+     * Verifies that the columns are resolved from the header row.
+     */
+    @Test
+    void givenCsv_whenImportUsers_thenImportRows() {
+
+        // Given
+        final String csv = """
+                email,name
+                user1@userinfo.com,User 1
+                user2@userinfo.com,User 2
+                """;
+
+        // When
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Collections.emptyList());
+
+        // Then
+        final UserImportResponse response = userImportService.importUsers(toStream(csv), UserImportFormat.CSV);
+
+        assertEquals(2L, response.getRecordCount());
+        assertEquals(2L, response.getImportedCount());
+        assertEquals(0L, response.getFailedCount());
+
+        // Verify
+        verify(eventPublisher).publishEvent(new UsersCreatedEvent(2));
+
+    }
+
+    /**
+     * Test case for {@link UserImportServiceImpl#importUsers(InputStream, UserImportFormat)} with a malformed record.
+     * Verifies that the import stops at the record while keeping the records read before it.
+     */
+    @Test
+    void givenMalformedNdjson_whenImportUsers_thenAbortAfterCommittingPreviousRecords() {
+
+        // Given
+        final String ndjson = """
+                {"name":"User 1","email":"user1@userinfo.com"}
+                {"name":"User 2",
+                """;
+
+        // When
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Collections.emptyList());
+
+        // Then
+        final UserImportResponse response = userImportService.importUsers(toStream(ndjson), UserImportFormat.NDJSON);
+
+        assertTrue(response.getAborted());
+        assertEquals(1L, response.getImportedCount());
+        assertEquals(1L, response.getFailedCount());
+        assertTrue(response.getChunks().get(0).getFailures().get(0).getReason().startsWith("Unreadable record"));
+
+    }
+
+    /**
+     * Test case for {@link UserImportServiceImpl#importUsers(InputStream, UserImportFormat)} when flushing a chunk
+     * violates a database constraint, e.g. an email inserted concurrently.
+     * Verifies that the records of the chunk are reported and the following chunks are still imported.
+     */
+    @Test
+    void givenFlushViolatingConstraint_whenImportUsers_thenReportChunkAndContinue() {
+
+        // Given
+        final String ndjson = """
+                {"name":"User 1","email":"user1@userinfo.com"}
+                {"name":"User 2","email":"user2@userinfo.com"}
+                {"name":"User 3","email":"user3@userinfo.com"}
+                """;
+
+        // When
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Collections.emptyList());
+        when(userRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'user2@userinfo.com'"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Then
+        final UserImportResponse response = userImportService.importUsers(toStream(ndjson), UserImportFormat.NDJSON);
+
+        assertFalse(response.getAborted());
+        assertEquals(1L, response.getImportedCount());
+        assertEquals(2L, response.getFailedCount());
+        assertEquals("Chunk could not be committed", response.getChunks().get(0).getFailures().get(0).getReason());
+        assertEquals(1, response.getChunks().get(1).getImportedCount());
+
+        // Verify
+        verify(eventPublisher, times(1)).publishEvent(new UsersCreatedEvent(1));
+
+    }
+
+    /**
+     * Test case for {@link UserImportServiceImpl#importUsers(InputStream, UserImportFormat)} with a {@code null} line.
+     * Verifies that the line is reported as an unreadable record and the import goes on.
+     */
+    @Test
+    void givenNullNdjsonRecord_whenImportUsers_thenReportUnreadableRecord() {
+
+        // Given
+        final String ndjson = """
+                null
+                {"name":"User 2","email":"user2@userinfo.com"}
+                """;
+
+        // When
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Collections.emptyList());
+
+        // Then
+        final UserImportResponse response = userImportService.importUsers(toStream(ndjson), UserImportFormat.NDJSON);
+
+        assertFalse(response.getAborted());
+        assertEquals(2L, response.getRecordCount());
+        assertEquals(1L, response.getImportedCount());
+        assertEquals(1L, response.getFailedCount());
+        assertTrue(response.getChunks().get(0).getFailures().get(0).getReason().startsWith("Unreadable record"));
+
+    }
+
+    /**
+     * Test case for {@link UserImportServiceImpl#importUsers(InputStream, UserImportFormat)} when the bulk rate limit
+     * refuses the first chunk.
+     * Verifies that {@link RateLimitExceededException} is thrown before anything is written.
+     */
+    @Test
+    void givenRateLimitExceeded_whenImportUsers_thenThrowRateLimitExceededException() {
+
+        // Given
+        final String ndjson = """
+                {"name":"User 1","email":"user1@userinfo.com"}
+                """;
+
+        // When
+        when(rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, 1)).thenReturn(false);
+
+        // Then
+        assertThrows(RateLimitExceededException.class,
+                () -> userImportService.importUsers(toStream(ndjson), UserImportFormat.NDJSON));
+
+        // Verify
+        verifyNoInteractions(userRepository);
+
+    }
+
+    /**
+     * Test case for {@link UserImportServiceImpl#importUsers(InputStream, UserImportFormat)} when the bulk rate limit
+     * refuses a later chunk.
+     * Verifies that the import stops at that chunk while keeping the chunks committed before it.
+     */
+    @Test
+    void givenRateLimitExceededOnLaterChunk_whenImportUsers_thenAbortAfterCommittingPreviousChunks() {
+
+        // Given
+        final String ndjson = """
+                {"name":"User 1","email":"user1@userinfo.com"}
+                {"name":"User 2","email":"user2@userinfo.com"}
+                {"name":"User 3","email":"user3@userinfo.com"}
+                {"name":"User 4","email":"user4@userinfo.com"}
+                {"name":"User 5","email":"user5@userinfo.com"}
+                """;
+
+        // When
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Collections.emptyList());
+        when(rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, 2))
+                .thenReturn(true)
+                .thenReturn(false);
+
+        // Then
+        final UserImportResponse response = userImportService.importUsers(toStream(ndjson), UserImportFormat.NDJSON);
+
+        assertTrue(response.getAborted());
+        assertEquals(4L, response.getRecordCount());
+        assertEquals(2L, response.getImportedCount());
+        assertEquals(2L, response.getFailedCount());
+        assertEquals(2, response.getChunks().size());
+        assertEquals("Rate limit exceeded", response.getChunks().get(1).getFailures().get(0).getReason());
+
+        // Verify
+        verify(userRepository, times(1)).saveAllAndFlush(anyList());
+
+    }
+
+    private static InputStream toStream(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.common.compression.Gzip;
+import com.springboot.ratelimiter.common.datasource.ReplicaRoutingDataSource;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.common.model.page.CountMode;
+import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.user.cache.UserPageCache;
+import com.springboot.ratelimiter.user.json.UserPageJsonWriter;
+import com.springboot.ratelimiter.user.model.UserSummary;
+import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
+import com.springboot.ratelimiter.user.service.RateLimiterService;
+import com.springboot.ratelimiter.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link UserPageServiceImpl}, covering the versioned cache of rendered user list pages.
+ */
+class UserPageServiceImplTest extends AbstractBaseServiceTest {
+
+    private UserPageServiceImpl userPageService;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .build();
+
+    private final UserPagingRequest userPagingRequest = UserPagingRequest.of(2, 20, CountMode.EXACT);
+
+    private static final String PAGE_KEY = "1:20:EXACT";
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private UserPageCache userPageCache;
+
+    @Mock
+    private RateLimiterService rateLimiterService;
+
+    @BeforeEach
+    void setUp() {
+        userPageService = new UserPageServiceImpl(userService, userPageCache, rateLimiterService,
+                new UserPageJsonWriter(objectMapper));
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+    }
+
+    /**
+     * Test case for {@link UserPageServiceImpl#getUserPage} when the page is cached under the current version.
+     * Verifies that the cached body is returned as it is and the request is still charged against the rate limit.
+     */
+    @Test
+    void givenCachedPage_whenGetUserPage_thenReturnCachedBodyWithoutQuerying() {
+
+        // Given
+        final byte[] cachedBody = Gzip.compress("{}".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        when(userPageCache.currentVersion()).thenReturn(OptionalLong.of(7L));
+        when(userPageCache.get(7L, PAGE_KEY)).thenReturn(Optional.of(cachedBody));
+
+        // Then
+        assertSame(cachedBody, userPageService.getUserPage(userPagingRequest));
+
+        // Verify
+        verify(rateLimiterService).isAllowed();
+        verifyNoInteractions(userService);
+        verify(userPageCache, never()).put(anyLong(), anyString(), any(byte[].class));
+
+    }
+
+    /**
+     * Test case for {@link UserPageServiceImpl#getUserPage} when the rate limit is exceeded.
+     * Verifies that the request is rejected before the page cache or MySQL is read.
+     */
+    @Test
+    void givenRateLimitExceeded_whenGetUserPage_thenThrowWithoutReadingCache() {
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(false);
+
+        // Then
+        assertThrows(RateLimitExceededException.class, () -> userPageService.getUserPage(userPagingRequest));
+
+        // Verify
+        verifyNoInteractions(userPageCache, userService);
+
+    }
+
+    /**
+     * Test case for {@link UserPageServiceImpl#getUserPage} on a cache miss.
+     * Verifies that the page is queried once on the primary, rendered into the compressed response and stored under
+     * the version read before the query, and that the request is charged once, without charging it again in the
+     * queried service.
+     */
+    @Test
+    void givenPageNotCached_whenGetUserPage_thenRenderCompressAndCacheUnderVersionReadBeforeQuery() throws Exception {
+
+        // Given
+        final UserSummary userSummary = new UserSummary("018f3c6e-1a2b-7c3d-8e4f-000000000001", "User 1",
+                "user@userinfo.com", 0L);
+
+        final CustomPage<UserSummary> userSummaryPage = CustomPage.of(List.of(userSummary),
+                new PageImpl<>(List.of(userSummary), PageRequest.of(1, 20), 21));
+
+        // When
+        when(userPageCache.currentVersion()).thenReturn(OptionalLong.of(7L));
+        when(userPageCache.get(7L, PAGE_KEY)).thenReturn(Optional.empty());
+        when(userService.getUserSummariesUncharged(userPagingRequest)).thenAnswer(invocation -> {
+            assertTrue(ReplicaRoutingDataSource.isReadingFromPrimary());
+            return userSummaryPage;
+        });
+
+        // Then
+        final byte[] body = userPageService.getUserPage(userPagingRequest);
+
+        final JsonNode json = objectMapper.readTree(Gzip.decompress(body));
+        assertEquals("OK", json.get("httpStatus").asText());
+        assertEquals("User 1", json.get("response").get("content").get(0).get("name").asText());
+        assertEquals(21L, json.get("response").get("totalElementCount").asLong());
+
+        // Verify
+        verify(userPageCache).put(7L, PAGE_KEY, body);
+        verify(rateLimiterService).isAllowed();
+        verify(userService, never()).getUserSummaries(any(UserPagingRequest.class));
+
+    }
+
+    /**
+     * Test case for {@link UserPageServiceImpl#getUserPage} when the users version cannot be read from Redis.
+     * Verifies that the page is still served but neither looked up nor stored.
+     */
+    @Test
+    void givenVersionUnavailable_whenGetUserPage_thenServeWithoutCaching() {
+
+        // Given
+        final UserSummary userSummary = new UserSummary("018f3c6e-1a2b-7c3d-8e4f-000000000001", null, null, null);
+
+        // When
+        when(userPageCache.currentVersion()).thenReturn(OptionalLong.empty());
+        when(userService.getUserSummariesUncharged(userPagingRequest)).thenReturn(CustomPage.of(List.of(userSummary),
+                new PageImpl<>(List.of(userSummary), PageRequest.of(1, 20), 21)));
+
+        // Then
+        assertNotNull(userPageService.getUserPage(userPagingRequest));
+
+        // Verify
+        verify(userPageCache, never()).get(anyLong(), anyString());
+        verify(userPageCache, never()).put(anyLong(), anyString(), any(byte[].class));
+
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.springboot.ratelimiter.user.service.impl;
+
+import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.common.exception.page.InvalidPageCursorException;
+import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
+import com.springboot.ratelimiter.common.exception.user.UserNotFoundException;
+import com.springboot.ratelimiter.common.model.page.CustomPage;
+import com.springboot.ratelimiter.common.model.page.PageCursor;
+import com.springboot.ratelimiter.user.model.UserSummary;
+import com.springboot.ratelimiter.user.payload.request.UserSearchField;
+import com.springboot.ratelimiter.user.payload.response.UserResponse;
+import com.springboot.ratelimiter.user.repository.UserRepository;
+import com.springboot.ratelimiter.user.service.RateLimiterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.Limit;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link UserSearchServiceImpl}, covering prefix searches, keyset paging and result caching.
+ */
+class UserSearchServiceImplTest extends AbstractBaseServiceTest {
+
+    private UserSearchServiceImpl userSearchService;
+
+    private static final String FIRST_ID = "018f3c6e-1a2b-7c3d-8e4f-000000000001";
+
+    private static final String SECOND_ID = "018f3c6e-1a2b-7c3d-8e4f-000000000002";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RateLimiterService rateLimiterService;
+
+    @BeforeEach
+    void setUp() {
+        userSearchService = new UserSearchServiceImpl(userRepository, rateLimiterService,
+                new SimpleMeterRegistry(), 100L, 60L);
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+    }
+
+    /**
+     * Test case for {@link UserSearchServiceImpl#searchUsers} on the first page of a name search.
+     * Verifies that the extra row is dropped and turned into a cursor holding the id and name of the last user.
+     */
+    @Test
+    void givenNamePrefixWithMoreMatches_whenSearchUsers_thenReturnPageWithNextCursor() {
+
+        // Given
+        final UserSummary first = new UserSummary(FIRST_ID, "Jane", "jane@userinfo.com", 0L);
+        final UserSummary second = new UserSummary(SECOND_ID, "Janet", "janet@userinfo.com", 0L);
+
+        // When
+        when(userRepository.findSummariesByNameLike("Ja%", Limit.of(2))).thenReturn(List.of(first, second));
+
+        // Then
+        final CustomPage<UserResponse> result = userSearchService.searchUsers(UserSearchField.NAME, "Ja", null, 1);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(FIRST_ID, result.getContent().get(0).getId());
+        assertEquals(PageCursor.encode(FIRST_ID + "Jane"), result.getNextCursor());
+
+        // Verify
+        verify(userRepository).findSummariesByNameLike("Ja%", Limit.of(2));
+
+    }
+
+    /**
+     * Test case for {@link UserSearchServiceImpl#searchUsers} on a following page of an email search.
+     * Verifies that the cursor is split into the id and the email the query seeks past.
+     */
+    @Test
+    void givenEmailCursor_whenSearchUsers_thenSeekPastLastEmailAndId() {
+
+        // Given
+        final String cursor = PageCursor.encode(FIRST_ID + "jane@userinfo.com");
+        final UserSummary second = new UserSummary(SECOND_ID, "Janet", "janet@userinfo.com", 0L);
+
+        // When
+        when(userRepository.findSummariesByEmailLikeAfter("ja%", "jane@userinfo.com", FIRST_ID, Limit.of(2)))
+                .thenReturn(List.of(second));
+
+        // Then
+        final CustomPage<UserResponse> result = userSearchService.searchUsers(UserSearchField.EMAIL, "ja", cursor, 1);
+
+        assertEquals(SECOND_ID, result.getContent().get(0).getId());
+        assertNull(result.getNextCursor());
+
+    }
+
+    /**
+     * Test case for {@link UserSearchServiceImpl#searchUsers} when the same search is repeated.
+     * Verifies that searches differing only in case are served from the cache but still charge the rate limit.
+     */
+    @Test
+    void givenRepeatedSearch_whenSearchUsers_thenServeFromCache() {
+
+        // Given
+        final UserSummary first = new UserSummary(FIRST_ID, "Jane", "jane@userinfo.com", 0L);
+
+        // When
+        when(userRepository.findSummariesByNameLike(anyString(), any(Limit.class))).thenReturn(List.of(first));
+
+        // Then
+        final CustomPage<UserResponse> firstResult = userSearchService.searchUsers(UserSearchField.NAME, "Ja", null, 20);
+        final CustomPage<UserResponse> secondResult = userSearchService.searchUsers(UserSearchField.NAME, "jA", null, 20);
+
+        assertSame(firstResult, secondResult);
+
+        // Verify
+        verify(userRepository, times(1)).findSummariesByNameLike(anyString(), any(Limit.class));
+        verify(rateLimiterService, times(2)).isAllowed();
+
+    }
+
+    /**
+     * Test case for {@link UserSearchServiceImpl#searchUsers} when the rate limit is exceeded.
+     */
+    @Test
+    void givenRateLimitExceeded_whenSearchUsers_thenThrowRateLimitExceededException() {
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(false);
+
+        // Then
+        assertThrows(RateLimitExceededException.class,
+                () -> userSearchService.searchUsers(UserSearchField.NAME, "Ja", null, 20));
+
+        // Verify
+        verifyNoInteractions(userRepository);
+
+    }
+
+    /**
+     * Test case for {@link UserSearchServiceImpl#searchUsers} when nothing matches the prefix.
+     */
+    @Test
+    void givenNoMatches_whenSearchUsers_thenThrowUserNotFoundException() {
+
+        // When
+        when(userRepository.findSummariesByEmailLike("nobody%", Limit.of(21))).thenReturn(Collections.emptyList());
+
+        // Then
+        assertThrows(UserNotFoundException.class,
+                () -> userSearchService.searchUsers(UserSearchField.EMAIL, "nobody", null, 20));
+
+    }
+
+    /**
+     * Test case for {@link UserSearchServiceImpl#searchUsers} with a cursor that does not start with a user id.
+     */
+    @Test
+    void givenCursorWithoutId_whenSearchUsers_thenThrowInvalidPageCursorException() {
+
+        // Given
+        final String cursor = PageCursor.encode("not-a-user-id-but-long-enough-to-split-jane");
+
+        // Then
+        assertThrows(InvalidPageCursorException.class,
+                () -> userSearchService.searchUsers(UserSearchField.NAME, "Ja", cursor, 20));
+
+        // Verify
+        verifyNoInteractions(userRepository);
+
+    }
+
+    /**
+     * Test case for {@link UserSearchServiceImpl#toPrefixPattern(String)}.
+     * Verifies that LIKE wildcards and the escape character in the prefix are matched literally.
+     */
+    @Test
+    void givenPrefixWithWildcards_whenToPrefixPattern_thenEscapeWildcards() {
+        assertEquals("a!%b!_c!!d%", UserSearchServiceImpl.toPrefixPattern("a%b_c!d"));
+    }
+
+}
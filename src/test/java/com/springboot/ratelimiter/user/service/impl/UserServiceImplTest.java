@@ -1,29 +1,52 @@
 package com.springboot.ratelimiter.user.service.impl;
 
 import com.springboot.ratelimiter.base.AbstractBaseServiceTest;
+import com.springboot.ratelimiter.common.datasource.ReplicaRoutingDataSource;
+import com.springboot.ratelimiter.common.exception.page.InvalidPageCursorException;
 import com.springboot.ratelimiter.common.exception.ratelimit.RateLimitExceededException;
 import com.springboot.ratelimiter.common.exception.user.EmailAlreadyExistsException;
 import com.springboot.ratelimiter.common.exception.user.UserNotFoundException;
+import com.springboot.ratelimiter.common.exception.user.UserVersionConflictException;
+import com.springboot.ratelimiter.common.model.page.CountMode;
 import com.springboot.ratelimiter.common.model.page.CustomPage;
 import com.springboot.ratelimiter.common.model.page.CustomPaging;
+import com.springboot.ratelimiter.common.model.page.PageCursor;
+import com.springboot.ratelimiter.ratelimit.policy.RateLimitPolicyRegistry;
 import com.springboot.ratelimiter.user.User;
+import com.springboot.ratelimiter.user.cache.UserCache;
+import com.springboot.ratelimiter.user.count.UserCount;
+import com.springboot.ratelimiter.user.email.EmailBloomFilter;
+import com.springboot.ratelimiter.user.event.UserCreatedEvent;
+import com.springboot.ratelimiter.user.event.UserDeletedEvent;
+import com.springboot.ratelimiter.user.event.UserUpdatedEvent;
+import com.springboot.ratelimiter.user.event.UsersCreatedEvent;
+import com.springboot.ratelimiter.user.event.UsersDeletedEvent;
 import com.springboot.ratelimiter.user.mapper.CreateUserRequestToUserEntityMapper;
-import com.springboot.ratelimiter.user.mapper.ListUserEntityToListUserMapper;
-import com.springboot.ratelimiter.user.mapper.UpdateUserRequestToUserEntityMapper;
 import com.springboot.ratelimiter.user.mapper.UserEntityToUserMapper;
 import com.springboot.ratelimiter.user.model.UserEntity;
+import com.springboot.ratelimiter.user.model.UserSummary;
 import com.springboot.ratelimiter.user.payload.request.CreateUserRequest;
 import com.springboot.ratelimiter.user.payload.request.UpdateUserRequest;
 import com.springboot.ratelimiter.user.payload.request.UserPagingRequest;
 import com.springboot.ratelimiter.user.repository.UserRepository;
 import com.springboot.ratelimiter.user.service.RateLimiterService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -39,19 +62,42 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
     @InjectMocks
     private UserServiceImpl userService;
 
+    private static final String FIRST_ID = "018f3c6e-1a2b-7c3d-8e4f-000000000001";
+
+    private static final String SECOND_ID = "018f3c6e-1a2b-7c3d-8e4f-000000000002";
+
+    private static final String LAST_ID = "018f3c6e-1a2b-7c3d-8e4f-0000000000ff";
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private RateLimiterService rateLimiterService;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private UserCount userCount;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
     private final UserEntityToUserMapper userEntityToUserMapper = UserEntityToUserMapper.initialize();
 
     private final CreateUserRequestToUserEntityMapper createUserRequestToUserEntity =
             CreateUserRequestToUserEntityMapper.initialize();
 
-    private final ListUserEntityToListUserMapper listUserEntityToListUserMapper =
-            ListUserEntityToListUserMapper.initialize();
+    @BeforeEach
+    void setUp() {
+        when(emailBloomFilter.mightContain(anyString())).thenReturn(true);
+    }
 
     /**
      * Test case for {@link UserServiceImpl#createUser(CreateUserRequest)} when rate limit is exceeded.
@@ -148,6 +194,219 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
         verify(rateLimiterService, times(1)).isAllowed();
         verify(userRepository, times(1)).existsByEmail(createUserRequest.getEmail());
         verify(userRepository, times(1)).save(any(UserEntity.class));
+        verify(eventPublisher, times(1)).publishEvent(any(UserCreatedEvent.class));
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#createUsers(List)} with valid requests.
+     * Verifies that users are persisted in flushed chunks and one permit is charged per user.
+     */
+    @Test
+    void givenCreateRequests_whenCreateUsers_thenSaveInChunks() {
+
+        // Given
+        ReflectionTestUtils.setField(userService, "insertChunkSize", 2);
+
+        List<CreateUserRequest> createUserRequests = List.of(
+                CreateUserRequest.builder().name("User 1").email("user1@userinfo.com").build(),
+                CreateUserRequest.builder().name("User 2").email("user2@userinfo.com").build(),
+                CreateUserRequest.builder().name("User 3").email("user3@userinfo.com").build()
+        );
+
+        // When
+        when(rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, 3)).thenReturn(true);
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Collections.emptyList());
+        when(userRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Then
+        List<User> result = userService.createUsers(createUserRequests);
+
+        assertEquals(3, result.size());
+        assertEquals("user3@userinfo.com", result.get(2).getEmail());
+
+        // Verify
+        verify(userRepository, times(1)).findExistingEmails(anyCollection());
+        verify(userRepository, times(2)).saveAllAndFlush(anyList());
+        verify(entityManager, times(2)).clear();
+        verify(eventPublisher).publishEvent(new UsersCreatedEvent(3));
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#createUsers(List)} when an email is inserted concurrently by another node.
+     * Verifies that the violation raised by the flush is reported as {@link EmailAlreadyExistsException}
+     * naming the offending email.
+     */
+    @Test
+    void givenConcurrentDuplicateEmail_whenCreateUsers_thenThrowEmailAlreadyExistsException() {
+
+        // Given
+        ReflectionTestUtils.setField(userService, "insertChunkSize", 2);
+
+        List<CreateUserRequest> createUserRequests = List.of(
+                CreateUserRequest.builder().name("User 1").email("user1@userinfo.com").build(),
+                CreateUserRequest.builder().name("User 2").email("user2@userinfo.com").build()
+        );
+
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("Duplicate entry",
+                new ConstraintViolationException("Duplicate entry",
+                        new SQLException("Duplicate entry 'user2@userinfo.com' for key 'users.UK_USERS_EMAIL'"),
+                        "USERS." + UserEntity.EMAIL_UNIQUE_CONSTRAINT));
+
+        // When
+        when(rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, 2)).thenReturn(true);
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Collections.emptyList());
+        when(userRepository.saveAllAndFlush(anyList())).thenThrow(violation);
+
+        // Then
+        EmailAlreadyExistsException exception = assertThrows(EmailAlreadyExistsException.class,
+                () -> userService.createUsers(createUserRequests));
+
+        assertEquals("Email already exists: user2@userinfo.com", exception.getMessage());
+
+        // Verify
+        verify(eventPublisher, never()).publishEvent(any());
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#createUsers(List)} when an email is already taken.
+     * Verifies that {@link EmailAlreadyExistsException} is thrown and nothing is saved.
+     */
+    @Test
+    void givenCreateRequestsWithExistingEmail_whenCreateUsers_thenThrowEmailAlreadyExistsException() {
+
+        // Given
+        List<CreateUserRequest> createUserRequests = List.of(
+                CreateUserRequest.builder().name("User 1").email("user1@userinfo.com").build()
+        );
+
+        // When
+        when(rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, 1)).thenReturn(true);
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("user1@userinfo.com"));
+
+        // Then
+        assertThrows(EmailAlreadyExistsException.class, () -> userService.createUsers(createUserRequests));
+
+        // Verify
+        verify(userRepository, never()).saveAllAndFlush(anyList());
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#createUsers(List)} when an email occurs twice in the batch.
+     * Verifies that {@link EmailAlreadyExistsException} is thrown without querying the database.
+     */
+    @Test
+    void givenCreateRequestsWithDuplicateEmail_whenCreateUsers_thenThrowEmailAlreadyExistsException() {
+
+        // Given
+        List<CreateUserRequest> createUserRequests = List.of(
+                CreateUserRequest.builder().name("User 1").email("user@userinfo.com").build(),
+                CreateUserRequest.builder().name("User 2").email("user@userinfo.com").build()
+        );
+
+        // When
+        when(rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, 2)).thenReturn(true);
+
+        // Then
+        assertThrows(EmailAlreadyExistsException.class, () -> userService.createUsers(createUserRequests));
+
+        // Verify
+        verify(userRepository, never()).findExistingEmails(anyCollection());
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#createUsers(List)} when the batch exceeds the rate limit.
+     * Verifies that {@link RateLimitExceededException} is thrown and nothing is saved.
+     */
+    @Test
+    void givenCreateRequests_whenCreateUsersRateLimitExceeded_thenThrowRateLimitExceededException() {
+
+        // Given
+        List<CreateUserRequest> createUserRequests = List.of(
+                CreateUserRequest.builder().name("User 1").email("user1@userinfo.com").build()
+        );
+
+        // When
+        when(rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, 1)).thenReturn(false);
+
+        // Then
+        assertThrows(RateLimitExceededException.class, () -> userService.createUsers(createUserRequests));
+
+        // Verify
+        verifyNoInteractions(userRepository);
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#createUser(CreateUserRequest)} when the email filter rules the email out.
+     * Verifies that the uniqueness query is skipped and the email is recorded in the filter.
+     */
+    @Test
+    void givenCreateRequestWithNewEmail_whenCreateUser_thenSkipUniquenessQuery() {
+
+        // Given
+        CreateUserRequest createUserRequest = CreateUserRequest.builder()
+                .name("User 1")
+                .email("new@userinfo.com")
+                .build();
+
+        UserEntity userEntity = UserEntity.builder()
+                .id("1")
+                .name(createUserRequest.getName())
+                .email(createUserRequest.getEmail())
+                .build();
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(emailBloomFilter.mightContain("new@userinfo.com")).thenReturn(false);
+        when(userRepository.save(any(UserEntity.class))).thenReturn(userEntity);
+
+        // Then
+        User result = userService.createUser(createUserRequest);
+
+        assertEquals("new@userinfo.com", result.getEmail());
+
+        // Verify
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository).flush();
+        verify(emailBloomFilter).put("new@userinfo.com");
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#createUser(CreateUserRequest)} when the unique email index is violated.
+     * Verifies that the violation is reported as {@link EmailAlreadyExistsException}.
+     */
+    @Test
+    void givenConcurrentDuplicateEmail_whenCreateUser_thenThrowEmailAlreadyExistsException() {
+
+        // Given
+        CreateUserRequest createUserRequest = CreateUserRequest.builder()
+                .name("User 1")
+                .email("user@userinfo.com")
+                .build();
+
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("Duplicate entry",
+                new ConstraintViolationException("Duplicate entry", new SQLException(),
+                        "USERS." + UserEntity.EMAIL_UNIQUE_CONSTRAINT));
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(userRepository.existsByEmail(createUserRequest.getEmail())).thenReturn(false);
+        when(userRepository.save(any(UserEntity.class))).thenThrow(violation);
+
+        // Then
+        EmailAlreadyExistsException exception = assertThrows(EmailAlreadyExistsException.class,
+                () -> userService.createUser(createUserRequest));
+
+        assertEquals("Email already exists: user@userinfo.com", exception.getMessage());
+
+        // Verify
+        verify(eventPublisher, never()).publishEvent(any());
 
     }
 
@@ -234,6 +493,38 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
         // Verify
         verify(rateLimiterService, times(1)).isAllowed();
         verify(userRepository, times(1)).findById(userId);
+        verify(userCache, times(1)).put(any(User.class));
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUserById(String)} when the user is cached.
+     * Verifies that the cached user is returned without querying the database.
+     */
+    @Test
+    void givenUserId_whenUserCached_thenReturnCachedUserWithoutQuery() {
+
+        // Given
+        final String userId = "123";
+
+        final User cachedUser = User.builder()
+                .id(userId)
+                .email("user@test.com")
+                .name("User 1")
+                .build();
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(userCache.get(userId)).thenReturn(Optional.of(cachedUser));
+
+        // Then
+        User result = userService.getUserById(userId);
+
+        assertSame(cachedUser, result);
+
+        // Verify
+        verify(userRepository, never()).findById(anyString());
+        verify(userCache, never()).put(any(User.class));
 
     }
 
@@ -249,6 +540,7 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
         final UpdateUserRequest updateUserRequest = UpdateUserRequest.builder()
                 .email("user@userinfo.com")
                 .name("User Updated")
+                .version(0L)
                 .build();
 
         // When
@@ -263,15 +555,13 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(rateLimiterService, times(1)).isAllowed();
-        verify(userRepository, never()).existsByEmail(anyString());
-        verify(userRepository, never()).findById(anyString());
-        verify(userRepository, never()).save(any(UserEntity.class));
+        verify(userRepository, never()).updateIfVersionMatches(anyString(), anyLong(), anyString(), anyString(), any());
 
     }
 
     /**
      * Test case for {@link UserServiceImpl#updateUser(String, UpdateUserRequest)} when email already exists.
-     * Verifies that {@link EmailAlreadyExistsException} is thrown when trying to update a user with an existing email.
+     * Verifies that a violated email index is reported as {@link EmailAlreadyExistsException} without any pre-read.
      */
     @Test
     void givenUpdateUserRequest_whenUpdateUserEmailAlreadyExists_thenThrowEmailAlreadyExistsException() {
@@ -281,11 +571,17 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
         final UpdateUserRequest updateUserRequest = UpdateUserRequest.builder()
                 .email("user@userinfo.com")
                 .name("User Updated")
+                .version(0L)
                 .build();
 
+        final DataIntegrityViolationException violation = new DataIntegrityViolationException("Duplicate entry",
+                new ConstraintViolationException("Duplicate entry", new SQLException(),
+                        "USERS." + UserEntity.EMAIL_UNIQUE_CONSTRAINT));
+
         // When
         when(rateLimiterService.isAllowed()).thenReturn(true);
-        when(userRepository.existsByEmail(updateUserRequest.getEmail())).thenReturn(true);
+        when(userRepository.updateIfVersionMatches(eq(userId), eq(0L), eq("User Updated"), eq("user@userinfo.com"),
+                any())).thenThrow(violation);
 
         // Then
         EmailAlreadyExistsException exception = assertThrows(EmailAlreadyExistsException.class, () -> {
@@ -296,15 +592,15 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(rateLimiterService, times(1)).isAllowed();
-        verify(userRepository, times(1)).existsByEmail(updateUserRequest.getEmail());
+        verify(userRepository, never()).existsByEmail(anyString());
         verify(userRepository, never()).findById(anyString());
-        verify(userRepository, never()).save(any(UserEntity.class));
+        verify(eventPublisher, never()).publishEvent(any());
 
     }
 
     /**
      * Test case for {@link UserServiceImpl#updateUser(String, UpdateUserRequest)} when user is not found.
-     * Verifies that {@link UserNotFoundException} is thrown when trying to update a user that does not exist.
+     * Verifies that {@link UserNotFoundException} is thrown when no row was updated and the user does not exist.
      */
     @Test
     void givenUpdateUserRequest_whenUserNotFound_thenThrowUserNotFoundException() {
@@ -314,12 +610,14 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
         final UpdateUserRequest updateUserRequest = UpdateUserRequest.builder()
                 .email("user@userinfo.com")
                 .name("User Updated")
+                .version(0L)
                 .build();
 
         // When
         when(rateLimiterService.isAllowed()).thenReturn(true);
-        when(userRepository.existsByEmail(updateUserRequest.getEmail())).thenReturn(false);
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.updateIfVersionMatches(eq(userId), eq(0L), anyString(), anyString(), any()))
+                .thenReturn(0);
+        when(userRepository.existsById(userId)).thenReturn(false);
 
         // Then
         UserNotFoundException exception = assertThrows(UserNotFoundException.class, () -> {
@@ -330,96 +628,156 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(rateLimiterService, times(1)).isAllowed();
-        verify(userRepository, times(1)).existsByEmail(updateUserRequest.getEmail());
-        verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, never()).save(any(UserEntity.class));
+        verify(userRepository, times(1)).existsById(userId);
+        verify(eventPublisher, never()).publishEvent(any());
 
     }
 
     /**
-     * Test case for {@link UserServiceImpl#updateUser(String, UpdateUserRequest)} with a valid update request.
-     * Verifies successful update of a user and mapping of entities to domain objects.
+     * Test case for {@link UserServiceImpl#updateUser(String, UpdateUserRequest)} with a stale version.
+     * Verifies that {@link UserVersionConflictException} is thrown when no row was updated but the user exists.
      */
     @Test
-    void givenUpdateUserRequest_whenUpdateUserWithValidRequest_thenReturnUpdatedUser() {
+    void givenStaleVersion_whenUpdateUser_thenThrowUserVersionConflictException() {
 
         // Given
         final String userId = "123";
         final UpdateUserRequest updateUserRequest = UpdateUserRequest.builder()
                 .email("user@userinfo.com")
                 .name("User Updated")
+                .version(2L)
                 .build();
 
-        final UserEntity existingUserEntity = UserEntity.builder()
-                .id(userId)
-                .name("User Original")
-                .email("user@original.com")
-                .build();
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(userRepository.updateIfVersionMatches(eq(userId), eq(2L), anyString(), anyString(), any()))
+                .thenReturn(0);
+        when(userRepository.existsById(userId)).thenReturn(true);
 
-        final UserEntity userEntityToBeUpdated = UpdateUserRequestToUserEntityMapper
-                .mapForUpdate(existingUserEntity, updateUserRequest);
+        // Then
+        UserVersionConflictException exception = assertThrows(UserVersionConflictException.class, () -> {
+            userService.updateUser(userId, updateUserRequest);
+        });
 
-        final UserEntity updatedUserEntity = UserEntity.builder()
-                .id(userEntityToBeUpdated.getId())
-                .name(userEntityToBeUpdated.getName())
-                .email(userEntityToBeUpdated.getEmail())
-                .build();
+        assertEquals("User with ID 123 was modified since version 2", exception.getMessage());
+
+        // Verify
+        verify(emailBloomFilter, never()).put(anyString());
+        verify(eventPublisher, never()).publishEvent(any());
 
-        final User updatedUser = userEntityToUserMapper.map(userEntityToBeUpdated);
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#updateUser(String, UpdateUserRequest)} with a valid update request.
+     * Verifies that the user is updated with a single statement and returned with the incremented version.
+     */
+    @Test
+    void givenUpdateUserRequest_whenUpdateUserWithValidRequest_thenReturnUpdatedUser() {
+
+        // Given
+        final String userId = "123";
+        final UpdateUserRequest updateUserRequest = UpdateUserRequest.builder()
+                .email("user@userinfo.com")
+                .name("User Updated")
+                .version(4L)
+                .build();
 
         // When
         when(rateLimiterService.isAllowed()).thenReturn(true);
-        when(userRepository.existsByEmail(updateUserRequest.getEmail())).thenReturn(false);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(existingUserEntity));
-        when(userRepository.save(any(UserEntity.class))).thenReturn(updatedUserEntity);
+        when(userRepository.updateIfVersionMatches(eq(userId), eq(4L), eq("User Updated"), eq("user@userinfo.com"),
+                any())).thenReturn(1);
 
         // Then
         User result = userService.updateUser(userId, updateUserRequest);
 
         assertNotNull(result);
-        assertEquals(updatedUser.getId(), result.getId());
-        assertEquals(updatedUser.getName(), result.getName());
-        assertEquals(updatedUser.getEmail(), result.getEmail());
+        assertEquals(userId, result.getId());
+        assertEquals(updateUserRequest.getName(), result.getName());
+        assertEquals(updateUserRequest.getEmail(), result.getEmail());
+        assertEquals(5L, result.getVersion());
+        assertNotNull(result.getUpdatedAt());
 
         // Verify
         verify(rateLimiterService, times(1)).isAllowed();
-        verify(userRepository, times(1)).existsByEmail(updateUserRequest.getEmail());
-        verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, times(1)).save(any(UserEntity.class));
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).findById(anyString());
+        verify(userRepository, never()).existsById(anyString());
+        verify(userRepository, never()).save(any(UserEntity.class));
+        verify(emailBloomFilter, times(1)).put(updateUserRequest.getEmail());
+        verify(eventPublisher, times(1)).publishEvent(new UserUpdatedEvent(userId, 5L));
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUserById(String)} right after {@link UserServiceImpl#updateUser}.
+     * Verifies that the evicted user is loaded from the primary, so a replica still serving the previous version
+     * cannot put it back into the cache.
+     */
+    @Test
+    void givenUpdatedUser_whenGetUserByIdRightAfter_thenLoadAndCacheFromPrimary() {
+
+        // Given
+        final String userId = "123";
+        final UpdateUserRequest updateUserRequest = UpdateUserRequest.builder()
+                .email("user@userinfo.com")
+                .name("User Updated")
+                .version(4L)
+                .build();
+
+        final UserEntity replicaCopy = UserEntity.builder().id(userId).name("User 1").email("user@userinfo.com")
+                .version(4L).build();
+        final UserEntity primaryCopy = UserEntity.builder().id(userId).name("User Updated").email("user@userinfo.com")
+                .version(5L).build();
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(userRepository.updateIfVersionMatches(eq(userId), eq(4L), eq("User Updated"), eq("user@userinfo.com"),
+                any())).thenReturn(1);
+        when(userCache.get(userId)).thenReturn(Optional.empty());
+        when(userRepository.findById(userId)).thenAnswer(invocation -> Optional.of(
+                ReplicaRoutingDataSource.isReadingFromPrimary() ? primaryCopy : replicaCopy));
+
+        // Then
+        userService.updateUser(userId, updateUserRequest);
+        final User result = userService.getUserById(userId);
+
+        assertEquals(5L, result.getVersion());
+        assertEquals("User Updated", result.getName());
+        assertFalse(ReplicaRoutingDataSource.isReadingFromPrimary());
+
+        // Verify
+        verify(userCache).put(argThat(user -> user.getVersion() == 5L));
 
     }
 
     /**
      * Test case for {@link UserServiceImpl#deleteUserById(String)} with a valid user ID.
-     * Verifies successful deletion of a user by ID.
+     * Verifies that the user is deleted with a single statement without being loaded.
      */
     @Test
     void givenValidUserId_whenDeleteUser_thenReturnSuccess() {
 
         // Given
         final String userId = "123";
-        UserEntity userEntity = UserEntity.builder()
-                .id(userId)
-                .name("Test User")
-                .email("test@example.com")
-                .build();
 
         // When
         when(rateLimiterService.isAllowed()).thenReturn(true);
-        when(userRepository.findById(userId)).thenReturn(java.util.Optional.of(userEntity));
+        when(userRepository.deleteByIdReturningCount(userId)).thenReturn(1);
 
         // Then
         userService.deleteUserById(userId);
 
         // Verify
-        verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, times(1)).delete(userEntity);
+        verify(userRepository, times(1)).deleteByIdReturningCount(userId);
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).delete(any());
+        verify(eventPublisher, times(1)).publishEvent(new UserDeletedEvent(userId));
 
     }
 
     /**
      * Test case for {@link UserServiceImpl#deleteUserById(String)} when user ID is invalid (user not found).
-     * Verifies that {@link UserNotFoundException} is thrown when trying to delete a user that does not exist.
+     * Verifies that {@link UserNotFoundException} is thrown when no row was deleted.
      */
     @Test
     void givenInvalidUserId_whenDeleteUser_thenThrowUserNotFoundException() {
@@ -429,7 +787,7 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
 
         // When
         when(rateLimiterService.isAllowed()).thenReturn(true);
-        when(userRepository.findById(userId)).thenReturn(java.util.Optional.empty());
+        when(userRepository.deleteByIdReturningCount(userId)).thenReturn(0);
 
         // Then
         UserNotFoundException userNotFoundException = assertThrows(UserNotFoundException.class,
@@ -439,8 +797,8 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
         assertEquals("No user was found with ID: 456", userNotFoundException.getMessage());
 
         // Verify
-        verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, never()).delete(any());
+        verify(userRepository, times(1)).deleteByIdReturningCount(userId);
+        verify(eventPublisher, never()).publishEvent(any());
 
     }
 
@@ -463,110 +821,395 @@ class UserServiceImplTest extends AbstractBaseServiceTest {
         assertEquals("Rate limit exceeded", rateLimitExceededException.getMessage());
 
         // Verify
-        verify(userRepository, never()).findById(any());
-        verify(userRepository, never()).delete(any());
+        verify(userRepository, never()).deleteByIdReturningCount(any());
 
     }
 
     /**
-     * Test case for {@link UserServiceImpl#getUsers(UserPagingRequest)} with a valid paging request.
-     * Verifies successful retrieval of a paginated list of users.
+     * Test case for {@link UserServiceImpl#deleteUsersByIds(List)} with duplicate and unknown ids.
+     * Verifies that the distinct ids are deleted in one statement and the deleted count is published.
      */
     @Test
-    void givenUserPagingRequest_whenUserPageList_thenReturnCustomUserList() {
+    void givenUserIds_whenDeleteUsers_thenDeleteInOneStatementAndPublishEvent() {
 
         // Given
-        UserPagingRequest pagingRequest = UserPagingRequest.builder()
-                .pagination(
-                        CustomPaging.builder()
-                                .pageSize(1)
-                                .pageNumber(1)
-                                .build()
-                ).build();
+        final List<String> ids = List.of(FIRST_ID, SECOND_ID, FIRST_ID, LAST_ID);
+        final List<String> distinctIds = List.of(FIRST_ID, SECOND_ID, LAST_ID);
+
+        // When
+        when(rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, ids.size())).thenReturn(true);
+        when(userRepository.deleteAllByIdReturningCount(distinctIds)).thenReturn(2);
+
+        // Then
+        final int result = userService.deleteUsersByIds(ids);
 
-        Page<UserEntity> userEntityPage = new PageImpl<>(Collections.singletonList(new UserEntity()));
+        assertEquals(2, result);
 
-        List<User> products = listUserEntityToListUserMapper.toUserList(userEntityPage.getContent());
+        // Verify
+        verify(userRepository, times(1)).deleteAllByIdReturningCount(distinctIds);
+        verify(eventPublisher, times(1)).publishEvent(new UsersDeletedEvent(distinctIds, 2));
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#deleteUsersByIds(List)} when none of the ids exist.
+     * Verifies that zero is returned and no event is published.
+     */
+    @Test
+    void givenUnknownUserIds_whenDeleteUsers_thenReturnZeroWithoutEvent() {
 
-        CustomPage<User> expected = CustomPage.of(products, userEntityPage);
+        // Given
+        final List<String> ids = List.of(FIRST_ID);
+
+        // When
+        when(rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, ids.size())).thenReturn(true);
+        when(userRepository.deleteAllByIdReturningCount(ids)).thenReturn(0);
+
+        // Then
+        assertEquals(0, userService.deleteUsersByIds(ids));
+
+        // Verify
+        verify(eventPublisher, never()).publishEvent(any());
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#deleteUsersByIds(List)} when rate limit is exceeded.
+     * Verifies that every id counts against the rate limit and nothing is deleted.
+     */
+    @Test
+    void givenRateLimitExceeded_whenDeleteUsers_thenThrowRateLimitExceededException() {
+
+        // Given
+        final List<String> ids = List.of(FIRST_ID, SECOND_ID);
+
+        // When
+        when(rateLimiterService.isAllowed(RateLimitPolicyRegistry.BULK_POLICY_NAME, ids.size())).thenReturn(false);
+
+        // Then
+        assertThrows(RateLimitExceededException.class, () -> userService.deleteUsersByIds(ids));
+
+        // Verify
+        verify(userRepository, never()).deleteAllByIdReturningCount(any());
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUserSummaries(UserPagingRequest)} with {@link CountMode#NONE}.
+     * Verifies that the projection slice is read without a COUNT query.
+     */
+    @Test
+    void givenUserPagingRequestWithoutCount_whenGetUserSummaries_thenReturnSliceWithoutTotals() {
+
+        // Given
+        UserPagingRequest pagingRequest = UserPagingRequest.builder()
+                .pagination(CustomPaging.builder().pageSize(1).pageNumber(2).build())
+                .countMode(CountMode.NONE)
+                .build();
+
+        SliceImpl<UserSummary> summarySlice = new SliceImpl<>(
+                List.of(new UserSummary(SECOND_ID, "User 2", "user2@userinfo.com", 0L)), PageRequest.of(1, 1), false);
 
         // When
         when(rateLimiterService.isAllowed()).thenReturn(true);
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(userEntityPage);
+        when(userRepository.findSummarySlice(any(Pageable.class))).thenReturn(summarySlice);
 
         // Then
-        CustomPage<User> result = userService.getUsers(pagingRequest);
+        CustomPage<UserSummary> result = userService.getUserSummaries(pagingRequest);
 
-        assertNotNull(result);
-        assertFalse(result.getContent().isEmpty());
-        assertEquals(expected.getPageNumber(), result.getPageNumber());
-        assertEquals(expected.getContent().get(0).getId(), result.getContent().get(0).getId());
-        assertEquals(expected.getTotalPageCount(), result.getTotalPageCount());
-        assertEquals(expected.getTotalElementCount(), result.getTotalElementCount());
+        assertEquals(SECOND_ID, result.getContent().get(0).id());
+        assertEquals(2, result.getPageNumber());
+        assertFalse(result.getHasNext());
+        assertNull(result.getTotalElementCount());
 
         // Verify
-        verify(userRepository, times(1)).findAll(any(Pageable.class));
+        verify(userRepository, never()).findAllSummaries(any(Pageable.class));
 
     }
 
     /**
-     * Test case for {@link UserServiceImpl#getUsers(UserPagingRequest)} when no users are found for the paging request.
-     * Verifies that {@link UserNotFoundException} is thrown when no users are found based on the paging criteria.
+     * Test case for {@link UserServiceImpl#getUserSummaries(UserPagingRequest)} when no users are found.
+     * Verifies that {@link UserNotFoundException} is thrown.
      */
     @Test
-    void givenUserPagingRequest_whenNoUserPageList_thenThrowUserNotFoundException() {
+    void givenUserPagingRequest_whenNoUserSummaries_thenThrowUserNotFoundException() {
 
         // Given
         UserPagingRequest pagingRequest = UserPagingRequest.builder()
-                .pagination(
-                        CustomPaging.builder()
-                                .pageSize(1)
-                                .pageNumber(1)
-                                .build()
-                ).build();
+                .pagination(CustomPaging.builder().pageSize(1).pageNumber(1).build())
+                .build();
 
-        Page<UserEntity> userEntityPage = new PageImpl<>(Collections.emptyList());
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(userRepository.findAllSummaries(any(Pageable.class))).thenReturn(Page.empty());
+
+        // Then
+        assertThrows(UserNotFoundException.class, () -> userService.getUserSummaries(pagingRequest));
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUserSummaries(UserPagingRequest)} with a valid paging request.
+     * Verifies that the projected rows are returned as selected, with exact totals.
+     */
+    @Test
+    void givenUserPagingRequest_whenGetUserSummaries_thenReturnProjectedRowsUnmapped() {
+
+        // Given
+        UserPagingRequest pagingRequest = UserPagingRequest.builder()
+                .pagination(CustomPaging.builder().pageSize(1).pageNumber(1).build())
+                .build();
+
+        List<UserSummary> summaries = List.of(new UserSummary(FIRST_ID, "User 1", "user1@userinfo.com", 0L));
+        Page<UserSummary> summaryPage = new PageImpl<>(summaries, PageRequest.of(0, 1), 3);
 
         // When
         when(rateLimiterService.isAllowed()).thenReturn(true);
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(userEntityPage);
+        when(userRepository.findAllSummaries(any(Pageable.class))).thenReturn(summaryPage);
 
         // Then
-        assertThrows(UserNotFoundException.class, () -> userService.getUsers(pagingRequest));
+        CustomPage<UserSummary> result = userService.getUserSummaries(pagingRequest);
+
+        assertEquals(summaries, result.getContent());
+        assertEquals(3L, result.getTotalElementCount());
+        assertEquals(3, result.getTotalPageCount());
 
         // Verify
-        verify(userRepository, times(1)).findAll(any(Pageable.class));
+        verify(userRepository, never()).findSummarySlice(any(Pageable.class));
 
     }
 
     /**
-     * Test case for {@link UserServiceImpl#getUsers(UserPagingRequest)} when rate limit is exceeded.
-     * Verifies that {@link RateLimitExceededException} is thrown when the rate limit for fetching users is exceeded.
+     * Test case for {@link UserServiceImpl#getUserSummaries(UserPagingRequest)} when rate limit is exceeded.
+     * Verifies that {@link RateLimitExceededException} is thrown before any query is run.
      */
     @Test
-    void givenUserPagingRequest_WhenNoUserPageList_thenThrowRateLimitExceededException() {
+    void givenUserPagingRequest_whenGetUserSummariesRateLimited_thenThrowRateLimitExceededException() {
 
         // Given
         UserPagingRequest pagingRequest = UserPagingRequest.builder()
-                .pagination(
-                        CustomPaging.builder()
-                                .pageSize(1)
-                                .pageNumber(1)
-                                .build()
-                ).build();
+                .pagination(CustomPaging.builder().pageSize(1).pageNumber(1).build())
+                .build();
 
         // When
         when(rateLimiterService.isAllowed()).thenReturn(false);
 
         // Then
-        RateLimitExceededException rateLimitExceededException = assertThrows(RateLimitExceededException.class, () -> {
-            userService.getUsers(pagingRequest);
-        });
+        RateLimitExceededException rateLimitExceededException = assertThrows(RateLimitExceededException.class,
+                () -> userService.getUserSummaries(pagingRequest));
 
         assertEquals("Rate limit exceeded", rateLimitExceededException.getMessage());
 
         // Verify
-        verify(userRepository, never()).findAll(any(Pageable.class));
+        verify(userRepository, never()).findAllSummaries(any(Pageable.class));
+        verify(userRepository, never()).findSummarySlice(any(Pageable.class));
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUserSummariesUncharged(UserPagingRequest)}.
+     * Verifies that the page is read without charging the rate limit, which the caller already did.
+     */
+    @Test
+    void givenUserPagingRequest_whenGetUserSummariesUncharged_thenReadWithoutRateLimit() {
+
+        // Given
+        UserPagingRequest pagingRequest = UserPagingRequest.builder()
+                .pagination(CustomPaging.builder().pageSize(1).pageNumber(1).build())
+                .build();
+
+        Page<UserSummary> summaryPage = new PageImpl<>(
+                List.of(new UserSummary(FIRST_ID, "User 1", "user1@userinfo.com", 0L)));
+
+        // When
+        when(userRepository.findAllSummaries(any(Pageable.class))).thenReturn(summaryPage);
+
+        // Then
+        CustomPage<UserSummary> result = userService.getUserSummariesUncharged(pagingRequest);
+
+        assertEquals(summaryPage.getContent(), result.getContent());
+
+        // Verify
+        verifyNoInteractions(rateLimiterService);
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUserSummaries(UserPagingRequest)} with {@link CountMode#CACHED}.
+     * Verifies that totals are derived from the maintained counter instead of a COUNT query.
+     */
+    @Test
+    void givenUserPagingRequestWithCachedCount_whenGetUserSummaries_thenReturnTotalsFromCounter() {
+
+        // Given
+        UserPagingRequest pagingRequest = UserPagingRequest.builder()
+                .pagination(CustomPaging.builder().pageSize(2).pageNumber(1).build())
+                .countMode(CountMode.CACHED)
+                .build();
+
+        SliceImpl<UserSummary> summarySlice = new SliceImpl<>(List.of(
+                new UserSummary(FIRST_ID, "User 1", "user1@userinfo.com", 0L),
+                new UserSummary(SECOND_ID, "User 2", "user2@userinfo.com", 0L)), PageRequest.of(0, 2), true);
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(userCount.get()).thenReturn(Optional.of(5L));
+        when(userRepository.findSummarySlice(any(Pageable.class))).thenReturn(summarySlice);
+
+        // Then
+        CustomPage<UserSummary> result = userService.getUserSummaries(pagingRequest);
+
+        assertEquals(5L, result.getTotalElementCount());
+        assertEquals(3, result.getTotalPageCount());
+        assertTrue(result.getHasNext());
+
+        // Verify
+        verify(userRepository, never()).findAllSummaries(any(Pageable.class));
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUserSummaries(UserPagingRequest)} with {@link CountMode#CACHED}
+     * when the counter is not available.
+     * Verifies that the exact COUNT query is used as a fallback.
+     */
+    @Test
+    void givenUserPagingRequestWithCachedCountUnavailable_whenGetUserSummaries_thenFallBackToExactCount() {
+
+        // Given
+        UserPagingRequest pagingRequest = UserPagingRequest.builder()
+                .pagination(CustomPaging.builder().pageSize(1).pageNumber(1).build())
+                .countMode(CountMode.CACHED)
+                .build();
+
+        Page<UserSummary> summaryPage = new PageImpl<>(
+                List.of(new UserSummary(FIRST_ID, "User 1", "user1@userinfo.com", 0L)));
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(userCount.get()).thenReturn(Optional.empty());
+        when(userRepository.findAllSummaries(any(Pageable.class))).thenReturn(summaryPage);
+
+        // Then
+        CustomPage<UserSummary> result = userService.getUserSummaries(pagingRequest);
+
+        assertEquals(1L, result.getTotalElementCount());
+
+        // Verify
+        verify(userRepository, never()).findSummarySlice(any(Pageable.class));
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUsersByCursor(String, int)} without a cursor.
+     * Verifies that the first page is read with one extra row and a cursor to the last returned user is built.
+     */
+    @Test
+    void givenNoCursor_whenGetUsersByCursor_thenReturnFirstPageWithNextCursor() {
+
+        // Given
+        final UserEntity first = UserEntity.builder().id(FIRST_ID).name("User A").email("a@userinfo.com").build();
+        final UserEntity second = UserEntity.builder().id(SECOND_ID).name("User B").email("b@userinfo.com").build();
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(userRepository.findAllByOrderByIdAsc(Limit.of(2))).thenReturn(List.of(first, second));
+
+        // Then
+        CustomPage<User> result = userService.getUsersByCursor(null, 1);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(FIRST_ID, result.getContent().get(0).getId());
+        assertEquals(1, result.getPageSize());
+        assertEquals(FIRST_ID, PageCursor.decode(result.getNextCursor()));
+
+        // Verify
+        verify(userRepository).findAllByOrderByIdAsc(Limit.of(2));
+        verify(userRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUsersByCursor(String, int)} on the last page.
+     * Verifies that the query seeks past the decoded cursor and no next cursor is returned.
+     */
+    @Test
+    void givenCursor_whenGetUsersByCursorLastPage_thenReturnPageWithoutNextCursor() {
+
+        // Given
+        final String cursor = PageCursor.encode(FIRST_ID);
+        final UserEntity second = UserEntity.builder().id(SECOND_ID).name("User B").email("b@userinfo.com").build();
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(FIRST_ID, Limit.of(3))).thenReturn(List.of(second));
+
+        // Then
+        CustomPage<User> result = userService.getUsersByCursor(cursor, 2);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(SECOND_ID, result.getContent().get(0).getId());
+        assertNull(result.getNextCursor());
+
+        // Verify
+        verify(userRepository).findByIdGreaterThanOrderByIdAsc(FIRST_ID, Limit.of(3));
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUsersByCursor(String, int)} with a malformed cursor.
+     * Verifies that {@link InvalidPageCursorException} is thrown before the repository is queried.
+     */
+    @Test
+    void givenMalformedCursor_whenGetUsersByCursor_thenThrowInvalidPageCursorException() {
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+
+        // Then
+        assertThrows(InvalidPageCursorException.class, () -> userService.getUsersByCursor("not a cursor!", 10));
+        assertThrows(InvalidPageCursorException.class,
+                () -> userService.getUsersByCursor(PageCursor.encode("not-a-uuid"), 10));
+
+        // Verify
+        verify(userRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUsersByCursor(String, int)} when no users follow the cursor.
+     * Verifies that {@link UserNotFoundException} is thrown.
+     */
+    @Test
+    void givenCursorPastLastUser_whenGetUsersByCursor_thenThrowUserNotFoundException() {
+
+        // Given
+        final String cursor = PageCursor.encode(LAST_ID);
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(true);
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(LAST_ID, Limit.of(11))).thenReturn(Collections.emptyList());
+
+        // Then
+        assertThrows(UserNotFoundException.class, () -> userService.getUsersByCursor(cursor, 10));
+
+    }
+
+    /**
+     * Test case for {@link UserServiceImpl#getUsersByCursor(String, int)} when rate limit is exceeded.
+     * Verifies that {@link RateLimitExceededException} is thrown and the repository is not queried.
+     */
+    @Test
+    void givenRateLimitExceeded_whenGetUsersByCursor_thenThrowRateLimitExceededException() {
+
+        // When
+        when(rateLimiterService.isAllowed()).thenReturn(false);
+
+        // Then
+        assertThrows(RateLimitExceededException.class, () -> userService.getUsersByCursor(null, 10));
+
+        // Verify
+        verify(userRepository, never()).findAllByOrderByIdAsc(any());
 
     }
 